@@ -0,0 +1,130 @@
+/**
+ * CandyLandEngineBenchmark.java
+ * This class represents the JMH benchmarks for the headless rule engine.
+ * Inputs are generated once from a fixed seed so every run measures the same work.
+ * Run with gradlew benchmarks:jmh, which also reports the allocation rate.
+ */
+
+package com.candyland.game;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CandyLandEngineBenchmark
+{
+	// number of pre-generated inputs, a power of 2 so the index wraps with a mask
+	private final static int INPUTS = 1024;
+
+	@Param({"false", "true"})
+	public boolean extremeDifficulty;
+
+	private CandyLandGame game;
+	private int[] positions = new int[INPUTS];
+	private int[] cards = new int[INPUTS];
+	private int[] colors = new int[INPUTS];
+	private int[] steps = new int[INPUTS];
+	private int index;
+
+	@Setup
+	public void setup()
+	{
+		SplittableRandom random = new SplittableRandom(42);
+		game = new CandyLandGame(new SplittableRandom(42));
+		game.extremeDifficulty = extremeDifficulty;
+		game.newGame();
+
+		CandyLandDeck deck = new CandyLandDeck(random);
+		for (int i = 0; i < INPUTS; i++)
+		{
+			if (deck.isEmpty())
+			{
+				deck.reset();
+			}
+			positions[i] = random.nextInt(CandyLandGame.MAX_POSITIONS);
+			cards[i] = deck.draw();
+			colors[i] = random.nextInt(CandyLandGame.COLORS.length);
+
+			game.playerPositions[0] = positions[i];
+			steps[i] = game.calculateSteps(cards[i]);
+		}
+	}
+
+	/**
+	 * @return index of the next pre-generated input
+	 */
+	private int next()
+	{
+		return index = (index + 1) & (INPUTS - 1);
+	}
+
+	@Benchmark
+	public int calculateSteps()
+	{
+		int i = next();
+		game.playerPositions[0] = positions[i];
+		return game.calculateSteps(cards[i]);
+	}
+
+	@Benchmark
+	public int getStepsFromColor()
+	{
+		int i = next();
+		game.playerPositions[0] = positions[i];
+		return game.getStepsFromColor(colors[i]);
+	}
+
+	@Benchmark
+	public int movePlayer()
+	{
+		int i = next();
+		game.playerPositions[0] = positions[i];
+		game.skipNextTurn[0] = false;
+		game.movePlayer(cards[i], steps[i]);
+		return game.playerPositions[0];
+	}
+
+	/**
+	 * Headless equivalent of GameScreen's drawCard() and handleComputerTurn():
+	 * one round of turns, the user's card and every computer's card
+	 * (two on Extreme difficulty) drawn from the deck and played.
+	 */
+	@Benchmark
+	public int playRound()
+	{
+		if (!game.activeGame)
+		{
+			game.newGame();
+			game.activeGame = true;
+		}
+		for (int i = 0; i < CandyLandGame.GAME_PIECES && game.activeGame; i++)
+		{
+			game.playTurn();
+		}
+		return game.turnCount;
+	}
+
+	@Benchmark
+	public int fullGame()
+	{
+		game.newGame();
+		return game.playGame();
+	}
+}
@@ -0,0 +1,61 @@
+/**
+ * CandyLandLoadBenchmark.java
+ * This class represents the JMH benchmarks for saving and loading a game.
+ * Saves are written to the working directory set by gradlew benchmarks:jmh.
+ */
+
+package com.candyland.game;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CandyLandLoadBenchmark
+{
+	private final static int SLOT = 1;
+
+	private CandyLandLoad loadSaveManager;
+	private int[] playerTokens = {0, 1, 2, 3};
+	private int[] playerPositions = {12, 47, 99, 135};
+	private boolean[] licoriceStatus = {true, false, false, false};
+	private CandyLandDeck deck;
+
+	@Setup
+	public void setup()
+	{
+		// full shuffled deck, the largest save possible
+		deck = new CandyLandDeck(new SplittableRandom(42));
+		deck.reset();
+
+		loadSaveManager = new CandyLandLoad();
+		loadSaveManager.write(SLOT, playerTokens, playerPositions, deck, licoriceStatus);
+	}
+
+	@Benchmark
+	public void write()
+	{
+		loadSaveManager.write(SLOT, playerTokens, playerPositions, deck, licoriceStatus);
+	}
+
+	@Benchmark
+	public boolean read()
+	{
+		return loadSaveManager.read(SLOT);
+	}
+}
@@ -0,0 +1,197 @@
+/**
+ * CandyLandAnimator.java
+ * This class represents the animations and delayed actions of a screen.
+ * Sprites are moved with eased tweens and actions are called after a delay,
+ * all advanced by the frame time passed to update() from render(delta).
+ * Tweens are pooled, so animating a move does not allocate.
+ */
+
+package com.candyland.game;
+
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+public class CandyLandAnimator
+{
+	// speed of every animation and delay, 2 plays twice as fast, 0 pauses
+	public float timeScale = 1;
+
+	private final Array<Tween> active = new Array<>(false, 16);
+	private final Array<Tween> finished = new Array<>(true, 16);
+	private final Pool<Tween> pool = new Pool<Tween>()
+	{
+		@Override
+		protected Tween newObject()
+		{
+			return new Tween();
+		}
+	};
+
+	/**
+	 * Move a sprite from wherever it is when the move starts to the given position.
+	 * Replaces any move of the sprite that has not finished.
+	 *
+	 * @param sprite - sprite to move
+	 * @param x - final x position
+	 * @param y - final y position
+	 * @param duration - seconds the move takes, 0 to jump to the position
+	 * @param delay - seconds before the move starts
+	 * @param easing - interpolation applied to the progress of the move
+	 */
+	public void move(Sprite sprite, float x, float y, float duration, float delay, Interpolation easing)
+	{
+		cancel(sprite);
+		Tween tween = pool.obtain();
+		tween.sprite = sprite;
+		tween.endX = x;
+		tween.endY = y;
+		tween.duration = duration;
+		tween.delay = delay;
+		tween.easing = easing;
+		active.add(tween);
+	}
+
+	/**
+	 * Run an action after a delay, replacing Timer tasks so the delay follows
+	 * the frame time and time scale.
+	 *
+	 * @param delay - seconds before the action is run
+	 * @param callback - action to run on the render thread
+	 */
+	public void call(float delay, Runnable callback)
+	{
+		Tween tween = pool.obtain();
+		tween.delay = delay;
+		tween.callback = callback;
+		active.add(tween);
+	}
+
+	/**
+	 * Stop every move of a sprite, leaving it where it currently is.
+	 *
+	 * @param sprite - sprite to stop
+	 */
+	public void cancel(Sprite sprite)
+	{
+		for (int i = active.size - 1; i >= 0; i--)
+		{
+			if (active.get(i).sprite == sprite)
+			{
+				pool.free(active.removeIndex(i));
+			}
+		}
+	}
+
+	/**
+	 * Stop every move and drop every action that has not run yet.
+	 */
+	public void clear()
+	{
+		pool.freeAll(active);
+		active.clear();
+		pool.freeAll(finished);
+		finished.clear();
+	}
+
+	/**
+	 * @return true if a move or action has not finished
+	 */
+	public boolean isAnimating()
+	{
+		return active.size > 0;
+	}
+
+	/**
+	 * Advance every move and run the actions that are due.
+	 * Called once per frame.
+	 *
+	 * @param delta - seconds since the last frame
+	 */
+	public void update(float delta)
+	{
+		float scaledDelta = delta * timeScale;
+		for (int i = 0; i < active.size;)
+		{
+			Tween tween = active.get(i);
+			if (tween.update(scaledDelta))
+			{
+				active.removeIndex(i);
+				finished.add(tween);
+			}
+			else
+			{
+				i++;
+			}
+		}
+
+		// actions run last, they may start new moves or clear the animator
+		while (finished.size > 0)
+		{
+			Tween tween = finished.removeIndex(0);
+			Runnable callback = tween.callback;
+			pool.free(tween);
+			if (callback != null)
+			{
+				callback.run();
+			}
+		}
+	}
+
+	/**
+	 * A sprite move or a delayed action.
+	 */
+	private static class Tween implements Pool.Poolable
+	{
+		Sprite sprite;
+		Runnable callback;
+		Interpolation easing;
+		float startX;
+		float startY;
+		float endX;
+		float endY;
+		float delay;
+		float duration;
+		float elapsed;
+		boolean started;
+
+		/**
+		 * @param delta - scaled seconds since the last frame
+		 * @return true once the tween has finished
+		 */
+		boolean update(float delta)
+		{
+			elapsed += delta;
+			if (elapsed < delay)
+			{
+				return false;
+			}
+			if (sprite != null)
+			{
+				if (!started)
+				{
+					startX = sprite.getX();
+					startY = sprite.getY();
+					started = true;
+				}
+				float progress = duration <= 0 ? 1 : Math.min(1, (elapsed - delay) / duration);
+				float eased = easing.apply(progress);
+				sprite.setPosition(startX + (endX - startX) * eased, startY + (endY - startY) * eased);
+			}
+			return elapsed >= delay + duration;
+		}
+
+		@Override
+		public void reset()
+		{
+			sprite = null;
+			callback = null;
+			easing = null;
+			delay = 0;
+			duration = 0;
+			elapsed = 0;
+			started = false;
+		}
+	}
+}
@@ -0,0 +1,387 @@
+/**
+ * CandyLandBoard.java
+ * This class represents the spaces of the game board, read from the tile layer of the board map
+ * compiled by CandyLandBoardCache.
+ * Each space is one image of a color tileset, drawn as 2 x 2 tiles. The path of spaces starts at the
+ * end nearest the bottom left corner and follows neighbouring spaces of whole color images.
+ * The finish is the space after the last colored space, in the direction the path was heading,
+ * and has no color.
+ * The landmarks, the spaces of the special cards, the shortcuts and licorice, are those of the
+ * printed board on every board, so a board must have colored spaces past the furthest of them.
+ *
+ * The board is read once and never changes. For every color it keeps the next space of that
+ * color after each position, so finding where a card moves a piece is one array load.
+ *
+ * Every game plays the same board. The game chooses the board of its map with use() when it starts.
+ * Headless tools, tests and the server play CLASSIC, the board the map draws, built without reading files.
+ */
+
+package com.candyland.game;
+
+public class CandyLandBoard
+{
+	// color of a space that is not colored, the finish
+	public final static int NO_COLOR = -1;
+	// positions are saved in a byte
+	public final static int MAX_SPACES = 256;
+
+	// tileset drawing each color, indexed like CandyLandGame.COLORS
+	private final static String[] COLOR_TILESETS = {"PT_LAVE", "PT_YELO", "PT_BLUE", "PT_GREEN", "PT_ORAN", "PT_RED"};
+	// tiles across and down one space
+	private final static int SPACE_TILES = 2;
+	// spaces of the classic board, the start, 135 colored spaces and the finish
+	private final static int CLASSIC_SPACES = 137;
+	// spaces across the classic board and their size in pixels
+	private final static int CLASSIC_COLUMNS = 20;
+	private final static int CLASSIC_SPACE_SIZE = 64;
+
+	// landmarks of the printed board, at the same positions on every board
+	// board position of each special card, starting at CandyLandDeck.PEPPERMINT_FOREST
+	public final static int[] SPECIAL_POSITIONS = {20, 36, 72, 99};
+	// shortcuts and the spaces they lead to
+	public final static int RAINBOW_TRAIL = 27;
+	public final static int RAINBOW_TRAIL_DESTINATION = 56;
+	public final static int GUMDROP_PASS = 49;
+	public final static int GUMDROP_PASS_DESTINATION = 74;
+	public final static int[] LICORICE_POSITIONS = {12, 44, 82};
+	// the furthest landmark, Lollipop Woods, a board must have a colored space there
+	private final static int LAST_LANDMARK = 99;
+
+	// the printed board, winding up from the bottom left
+	public final static CandyLandBoard CLASSIC = createClassic();
+
+	// board every game plays, chosen the first time it is needed
+	private static CandyLandBoard board;
+
+	// centre of each space in map pixels, y up as the board is drawn
+	private final int[] x;
+	private final int[] y;
+	// COLORS index of each space
+	private final byte[] colors;
+	// next[color * spaces + position] = first space of the color after position, the finish if there is none
+	private final byte[] next;
+
+	private CandyLandBoard(int[] x, int[] y, byte[] colors)
+	{
+		this.x = x;
+		this.y = y;
+		this.colors = colors;
+
+		int spaces = colors.length;
+		next = new byte[COLOR_TILESETS.length * spaces];
+		for (int color = 0; color < COLOR_TILESETS.length; color++)
+		{
+			int following = spaces - 1;
+			for (int position = spaces - 1; position >= 0; position--)
+			{
+				next[color * spaces + position] = (byte) following;
+				if (colors[position] == color)
+				{
+					following = position;
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the board every game plays, CLASSIC unless another was chosen with use()
+	 */
+	public static synchronized CandyLandBoard get()
+	{
+		if (board == null)
+		{
+			board = CLASSIC;
+		}
+		return board;
+	}
+
+	/**
+	 * Choose the board every game plays, before the first game is created.
+	 *
+	 * @param chosen - board to play
+	 * @throws IllegalStateException if games are already playing another board
+	 */
+	public static synchronized void use(CandyLandBoard chosen)
+	{
+		if (board != null && board != chosen)
+		{
+			throw new IllegalStateException("Games are already playing another board");
+		}
+		board = chosen;
+	}
+
+	/**
+	 * Lay out the printed board: right along the bottom row, two spaces up the edge,
+	 * back along the next row and so on, the colors repeating from red at the start.
+	 *
+	 * @return the classic board
+	 */
+	private static CandyLandBoard createClassic()
+	{
+		int[] x = new int[CLASSIC_SPACES];
+		int[] y = new int[CLASSIC_SPACES];
+		byte[] colors = new byte[CLASSIC_SPACES];
+		int column = 0;
+		int row = 0;
+		int direction = 1;
+		int climb = 0;
+		for (int position = 0; position < CLASSIC_SPACES; position++)
+		{
+			x[position] = column * CLASSIC_SPACE_SIZE + CLASSIC_SPACE_SIZE / 2;
+			y[position] = row * CLASSIC_SPACE_SIZE + CLASSIC_SPACE_SIZE / 2;
+			colors[position] = (byte) ((position + COLOR_TILESETS.length - 1) % COLOR_TILESETS.length);
+
+			if (climb > 0)
+			{
+				row++;
+				climb--;
+			}
+			else if (column + direction < 0 || column + direction >= CLASSIC_COLUMNS)
+			{
+				// the second step up is taken on the next space
+				row++;
+				climb = 1;
+				direction = -direction;
+			}
+			else
+			{
+				column += direction;
+			}
+		}
+		colors[CLASSIC_SPACES - 1] = NO_COLOR;
+		return new CandyLandBoard(x, y, colors);
+	}
+
+	/**
+	 * @param name - name of a tileset
+	 * @return COLORS index of the color the tileset draws, NO_COLOR if it is not a color tileset
+	 */
+	public static int getTilesetColor(String name)
+	{
+		for (int color = 0; color < COLOR_TILESETS.length; color++)
+		{
+			if (COLOR_TILESETS[color].equals(name))
+			{
+				return color;
+			}
+		}
+		return NO_COLOR;
+	}
+
+	/**
+	 * Read the board of a tile layer.
+	 *
+	 * @param columns - tiles across the layer
+	 * @param rows - tiles down the layer
+	 * @param tileSize - width and height of a tile in pixels
+	 * @param tileColors - COLORS index of every tile's tileset, NO_COLOR if it is not a color tileset,
+	 * rows from the top as Tiled saves them
+	 * @return the board
+	 * @throws IllegalArgumentException if the spaces do not form a single path,
+	 * or the path ends before the furthest landmark
+	 */
+	public static CandyLandBoard fromTiles(int columns, int rows, int tileSize, int[] tileColors)
+	{
+		CandyLandBoard board = findPath(columns, rows, tileSize, tileColors);
+		if (board.getFinish() <= LAST_LANDMARK)
+		{
+			throw new IllegalArgumentException("Board has " + board.getSpaces() + " spaces, the landmarks need a colored space at "
+					+ LAST_LANDMARK);
+		}
+		return board;
+	}
+
+	/**
+	 * Find the path of spaces in a tile layer, however short.
+	 *
+	 * @param columns - tiles across the layer
+	 * @param rows - tiles down the layer
+	 * @param tileSize - width and height of a tile in pixels
+	 * @param tileColors - COLORS index of every tile's tileset, NO_COLOR if it is not a color tileset,
+	 * rows from the top as Tiled saves them
+	 * @return the board
+	 * @throws IllegalArgumentException if the spaces do not form a single path
+	 */
+	static CandyLandBoard findPath(int columns, int rows, int tileSize, int[] tileColors)
+	{
+		// spaces are counted from the bottom left, as the board is drawn
+		int across = columns / SPACE_TILES;
+		int down = rows / SPACE_TILES;
+		int[] cellColors = new int[across * down];
+		for (int row = 0; row < down; row++)
+		{
+			for (int column = 0; column < across; column++)
+			{
+				// a space is colored only if all its tiles are the same color
+				int bottom = rows - 1 - row * SPACE_TILES;
+				int color = tileColors[bottom * columns + column * SPACE_TILES];
+				for (int tile = 0; tile < SPACE_TILES * SPACE_TILES; tile++)
+				{
+					if (tileColors[(bottom - tile / SPACE_TILES) * columns + column * SPACE_TILES + tile % SPACE_TILES] != color)
+					{
+						color = NO_COLOR;
+					}
+				}
+				cellColors[row * across + column] = color;
+			}
+		}
+
+		// the path starts at the first colored space with at most one colored neighbour
+		int start = -1;
+		for (int cell = 0; cell < cellColors.length && start == -1; cell++)
+		{
+			if (cellColors[cell] != NO_COLOR && countNeighbours(cellColors, across, cell, null) <= 1)
+			{
+				start = cell;
+			}
+		}
+		if (start == -1)
+		{
+			throw new IllegalArgumentException("Board has no start space");
+		}
+
+		int[] path = new int[MAX_SPACES];
+		boolean[] visited = new boolean[cellColors.length];
+		int spaces = 0;
+		int previous = -1;
+		int cell = start;
+		while (true)
+		{
+			if (spaces == MAX_SPACES - 1)
+			{
+				throw new IllegalArgumentException("Board has more than " + MAX_SPACES + " spaces");
+			}
+			path[spaces++] = cell;
+			visited[cell] = true;
+			int following = -1;
+			if (countNeighbours(cellColors, across, cell, visited) > 1)
+			{
+				throw new IllegalArgumentException("Board path branches at space " + (spaces - 1));
+			}
+			for (int neighbour : neighbours(across, down, cell))
+			{
+				if (neighbour != -1 && cellColors[neighbour] != NO_COLOR && !visited[neighbour])
+				{
+					following = neighbour;
+				}
+			}
+			if (following == -1)
+			{
+				break;
+			}
+			previous = cell;
+			cell = following;
+		}
+
+		// the finish carries on in the direction of the last step
+		int column = cell % across;
+		int row = cell / across;
+		int finishColumn = previous == -1 ? -1 : 2 * column - previous % across;
+		int finishRow = previous == -1 ? -1 : 2 * row - previous / across;
+		if (finishColumn < 0 || finishColumn >= across || finishRow < 0 || finishRow >= down
+				|| visited[finishRow * across + finishColumn])
+		{
+			throw new IllegalArgumentException("Board has no room for the finish after space " + (spaces - 1));
+		}
+		path[spaces++] = finishRow * across + finishColumn;
+
+		int spaceSize = SPACE_TILES * tileSize;
+		int[] x = new int[spaces];
+		int[] y = new int[spaces];
+		byte[] colors = new byte[spaces];
+		for (int position = 0; position < spaces; position++)
+		{
+			x[position] = path[position] % across * spaceSize + spaceSize / 2;
+			y[position] = path[position] / across * spaceSize + spaceSize / 2;
+			colors[position] = (byte) (position == spaces - 1 ? NO_COLOR : cellColors[path[position]]);
+		}
+		return new CandyLandBoard(x, y, colors);
+	}
+
+	/**
+	 * @return the spaces left, right, below and above a space, -1 where it is off the board
+	 */
+	private static int[] neighbours(int across, int down, int cell)
+	{
+		int column = cell % across;
+		int row = cell / across;
+		return new int[] {
+			column > 0 ? cell - 1 : -1,
+			column < across - 1 ? cell + 1 : -1,
+			row > 0 ? cell - across : -1,
+			row < down - 1 ? cell + across : -1};
+	}
+
+	/**
+	 * @return number of colored spaces beside a space, leaving out visited spaces if given
+	 */
+	private static int countNeighbours(int[] cellColors, int across, int cell, boolean[] visited)
+	{
+		int count = 0;
+		for (int neighbour : neighbours(across, cellColors.length / across, cell))
+		{
+			if (neighbour != -1 && cellColors[neighbour] != NO_COLOR && (visited == null || !visited[neighbour]))
+			{
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * @return number of spaces, including the start and the finish
+	 */
+	public int getSpaces()
+	{
+		return colors.length;
+	}
+
+	/**
+	 * @return position of the finish, the last space
+	 */
+	public int getFinish()
+	{
+		return colors.length - 1;
+	}
+
+	/**
+	 * @param position - a game board position
+	 * @return x of the centre of the space in map pixels
+	 */
+	public int getX(int position)
+	{
+		return x[position];
+	}
+
+	/**
+	 * @param position - a game board position
+	 * @return y of the centre of the space in map pixels, from the bottom of the map
+	 */
+	public int getY(int position)
+	{
+		return y[position];
+	}
+
+	/**
+	 * @param position - a game board position
+	 * @return COLORS index of the space, NO_COLOR for the finish
+	 */
+	public int getColor(int position)
+	{
+		return colors[position];
+	}
+
+	/**
+	 * Find the nearest space of a color ahead of a position.
+	 * (Requirement 1.2.1)
+	 *
+	 * @param color - COLORS index of the color
+	 * @param position - a game board position
+	 * @return position of the first space of the color after the given position,
+	 * the finish if there is none before it
+	 */
+	public int nextSpace(int color, int position)
+	{
+		return next[color * colors.length + position] & 0xFF;
+	}
+}
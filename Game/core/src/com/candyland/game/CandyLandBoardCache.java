@@ -0,0 +1,672 @@
+/**
+ * CandyLandBoardCache.java
+ * This class represents the board map compiled into one binary file beside it,
+ * so starting a game never parses the map's XML, its tile layer or its tilesets.
+ * The file is written by the core compileBoard task when the game is built, and is memory mapped
+ * and read once per run. The game never writes it, a map changed since is compiled in memory.
+ *
+ * magic number		4 bytes, "CLBC"
+ * version			1 byte
+ * modified			8 bytes, newest modification time in milliseconds of the map and its tilesets
+ * map size			2 bytes columns, 2 bytes rows, 2 bytes tile width, 2 bytes tile height
+ * tileset count	1 byte
+ * tilesets			first tile id 4 bytes, tile width, tile height, columns, tile count,
+ * 					image width and image height 2 bytes each, then name, tileset file
+ * 					(empty if the tileset is in the map) and image file, each 1 byte length and UTF-8
+ * tiles			tile id 4 bytes each, rows from the top as Tiled saves them
+ */
+
+package com.candyland.game;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+public class CandyLandBoardCache
+{
+	public final static int MAGIC = 0x434C4243;
+	public final static int VERSION = 1;
+
+	// bits of a tile id that flip the tile rather than pick it
+	public final static int FLIP_HORIZONTALLY = 0x80000000;
+	public final static int FLIP_VERTICALLY = 0x40000000;
+	public final static int FLIP_DIAGONALLY = 0x20000000;
+	public final static int FLIP_FLAGS = FLIP_HORIZONTALLY | FLIP_VERTICALLY | FLIP_DIAGONALLY;
+
+	private final static String EXTENSION = ".bin";
+	// first tile id, six 2 byte sizes and the lengths of the three names of a compiled tileset
+	private final static int TILESET_SIZE = 4 + 6 * 2 + 3;
+
+	private static CandyLandBoardCache cache;
+
+	private final ByteBuffer buffer;
+	private final int columns;
+	private final int rows;
+	private final int tileWidth;
+	private final int tileHeight;
+	private final Tileset[] tilesets;
+	// position of the first tile id in the buffer
+	private final int tiles;
+	private final CandyLandBoard board;
+
+	/**
+	 * A tileset of the map, its tiles cut from one image.
+	 */
+	public static class Tileset
+	{
+		public final int firstId;
+		public final int tileWidth;
+		public final int tileHeight;
+		public final int columns;
+		public final int tileCount;
+		public final int imageWidth;
+		public final int imageHeight;
+		public final String name;
+		// tileset file relative to the map, empty if the tileset is in the map
+		public final String source;
+		// image file relative to the map, empty if the tileset file could not be read
+		public final String image;
+
+		public Tileset(int firstId, int tileWidth, int tileHeight, int columns, int tileCount,
+				int imageWidth, int imageHeight, String name, String source, String image)
+		{
+			this.firstId = firstId;
+			this.tileWidth = tileWidth;
+			this.tileHeight = tileHeight;
+			this.columns = columns;
+			this.tileCount = tileCount;
+			this.imageWidth = imageWidth;
+			this.imageHeight = imageHeight;
+			this.name = name;
+			this.source = source;
+			this.image = image;
+		}
+	}
+
+	/**
+	 * @param buffer - compiled map, from its magic number to its last tile
+	 * @throws IOException if the buffer is not a compiled map of this version
+	 */
+	private CandyLandBoardCache(ByteBuffer buffer) throws IOException
+	{
+		this.buffer = buffer;
+		try
+		{
+			if (buffer.getInt() != MAGIC || buffer.get() != VERSION)
+			{
+				throw new IOException("Not a compiled board of version " + VERSION);
+			}
+			// modification time, only read by isCurrent() before mapping
+			buffer.getLong();
+			columns = buffer.getShort() & 0xFFFF;
+			rows = buffer.getShort() & 0xFFFF;
+			tileWidth = buffer.getShort() & 0xFFFF;
+			tileHeight = buffer.getShort() & 0xFFFF;
+			tilesets = new Tileset[buffer.get() & 0xFF];
+			for (int i = 0; i < tilesets.length; i++)
+			{
+				tilesets[i] = new Tileset(buffer.getInt(), buffer.getShort() & 0xFFFF, buffer.getShort() & 0xFFFF,
+						buffer.getShort() & 0xFFFF, buffer.getShort() & 0xFFFF, buffer.getShort() & 0xFFFF,
+						buffer.getShort() & 0xFFFF, getString(buffer), getString(buffer), getString(buffer));
+			}
+			tiles = buffer.position();
+			if (buffer.limit() - tiles < columns * rows * 4)
+			{
+				throw new IOException("Compiled board is missing tiles");
+			}
+		}
+		catch (BufferUnderflowException e)
+		{
+			throw new IOException("Compiled board is cut short", e);
+		}
+		board = createBoard();
+	}
+
+	/**
+	 * Read the compiled board of CandyLandMain.BOARD the first time it is needed.
+	 * The map is looked for in the assets folder of the working directory, then on the classpath,
+	 * where the board compiled with the game is packaged. Nothing is written, a map that changed
+	 * since it was compiled is compiled in memory until the compileBoard task is run.
+	 *
+	 * @return the compiled board played
+	 * @throws IllegalStateException if the map cannot be found or read
+	 */
+	public static synchronized CandyLandBoardCache get()
+	{
+		if (cache != null)
+		{
+			return cache;
+		}
+		try
+		{
+			Path map = Paths.get("assets").resolve(CandyLandMain.BOARD);
+			if (Files.isRegularFile(map))
+			{
+				cache = read(map);
+				return cache;
+			}
+			// packaged with the game, the board was compiled when it was built
+			InputStream compiled = CandyLandBoardCache.class.getResourceAsStream("/" + getFile(Paths.get(CandyLandMain.BOARD)));
+			if (compiled != null)
+			{
+				try (InputStream in = compiled)
+				{
+					cache = new CandyLandBoardCache(ByteBuffer.wrap(readAll(in)));
+					return cache;
+				}
+			}
+			InputStream resource = CandyLandBoardCache.class.getResourceAsStream("/" + CandyLandMain.BOARD);
+			if (resource != null)
+			{
+				try (InputStream in = resource)
+				{
+					cache = new CandyLandBoardCache(compile(in, null, 0));
+					return cache;
+				}
+			}
+		}
+		catch (IOException | IllegalArgumentException e)
+		{
+			throw new IllegalStateException("Error reading board " + CandyLandMain.BOARD + ": " + e.getMessage(), e);
+		}
+		throw new IllegalStateException("Board not found: " + CandyLandMain.BOARD);
+	}
+
+	/**
+	 * Map the compiled board of a map, compiling it in memory if it is missing or older than the map.
+	 * Nothing is written.
+	 *
+	 * @param map - TMX map
+	 * @return the compiled board
+	 * @throws IOException if the map could not be read
+	 */
+	public static CandyLandBoardCache read(Path map) throws IOException
+	{
+		CandyLandBoardCache compiled = mapCompiled(map);
+		if (compiled != null)
+		{
+			return compiled;
+		}
+		try (InputStream in = Files.newInputStream(map))
+		{
+			return new CandyLandBoardCache(compile(in, map.toAbsolutePath().getParent(), Files.getLastModifiedTime(map).toMillis()));
+		}
+	}
+
+	/**
+	 * Map the compiled board of a map, compiling it and writing it beside the map first
+	 * if it is missing or older than the map. Used when building the game.
+	 *
+	 * @param map - TMX map
+	 * @return the compiled board
+	 * @throws IOException if the map could not be read
+	 */
+	public static CandyLandBoardCache open(Path map) throws IOException
+	{
+		CandyLandBoardCache compiled = mapCompiled(map);
+		return compiled != null ? compiled : compile(map);
+	}
+
+	/**
+	 * Map the compiled board of a map if it is complete and as new as the map.
+	 * The file is only mapped once it is known to be kept, as a mapped file cannot be replaced everywhere.
+	 *
+	 * @param map - TMX map
+	 * @return the compiled board, null if it needs compiling
+	 */
+	private static CandyLandBoardCache mapCompiled(Path map)
+	{
+		Path file = getFile(map);
+		if (!Files.isRegularFile(file))
+		{
+			return null;
+		}
+		try
+		{
+			if (!isCurrent(file, map))
+			{
+				return null;
+			}
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+			{
+				return new CandyLandBoardCache(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+			}
+		}
+		catch (IOException e)
+		{
+			if (CandyLandDebug.ENABLED)
+			{
+				System.err.println("Compiling board again: " + e.getMessage());
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Read the header and tilesets of a compiled board, without mapping it.
+	 *
+	 * @param file - compiled board
+	 * @param map - TMX map it was compiled from
+	 * @return true if the compiled board holds every tile and is as new as the map and its tilesets
+	 * @throws IOException if the file is not a compiled board of this version
+	 */
+	private static boolean isCurrent(Path file, Path map) throws IOException
+	{
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file))))
+		{
+			if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION)
+			{
+				throw new IOException("Not a compiled board of version " + VERSION);
+			}
+			long modified = in.readLong();
+			int columns = in.readUnsignedShort();
+			int rows = in.readUnsignedShort();
+			in.readInt();
+			String[] sources = new String[in.readUnsignedByte()];
+			long size = 22;
+			for (int i = 0; i < sources.length; i++)
+			{
+				in.readFully(new byte[16]);
+				for (int string = 0; string < 3; string++)
+				{
+					byte[] bytes = new byte[in.readUnsignedByte()];
+					in.readFully(bytes);
+					size += 1 + bytes.length;
+					// the tileset file is the second string
+					if (string == 1)
+					{
+						sources[i] = new String(bytes, StandardCharsets.UTF_8);
+					}
+				}
+				size += 16;
+			}
+			return Files.size(file) >= size + (long) columns * rows * 4 && modified == getModified(map, sources);
+		}
+	}
+
+	/**
+	 * Compile a map and write it beside the map.
+	 *
+	 * @param map - TMX map
+	 * @return the compiled board, in memory if it could not be written
+	 * @throws IOException if the map could not be read
+	 */
+	public static CandyLandBoardCache compile(Path map) throws IOException
+	{
+		ByteBuffer buffer;
+		try (InputStream in = Files.newInputStream(map))
+		{
+			buffer = compile(in, map.toAbsolutePath().getParent(), Files.getLastModifiedTime(map).toMillis());
+		}
+
+		Path file = getFile(map);
+		Path temporary = Paths.get(file + ".tmp");
+		try
+		{
+			Files.write(temporary, buffer.array());
+			try
+			{
+				Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			}
+			catch (AtomicMoveNotSupportedException e)
+			{
+				Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		catch (IOException e)
+		{
+			if (CandyLandDebug.ENABLED)
+			{
+				System.err.println("Error writing compiled board: " + e.getMessage());
+			}
+		}
+		return new CandyLandBoardCache(buffer);
+	}
+
+	/**
+	 * Compile a Tiled map, its first tile layer holding the board.
+	 *
+	 * @param in - TMX map, csv or base64 layer data, uncompressed, zlib or gzip
+	 * @param directory - folder of the map to read tileset files from, null to leave their images out
+	 * @param modified - modification time of the map, saved with the board unless a tileset file is newer
+	 * @return the compiled board
+	 * @throws IOException if the map could not be read
+	 */
+	private static ByteBuffer compile(InputStream in, Path directory, long modified) throws IOException
+	{
+		Element map = parse(in);
+		int columns = Integer.parseInt(map.getAttribute("width"));
+		int rows = Integer.parseInt(map.getAttribute("height"));
+
+		NodeList tilesetElements = map.getElementsByTagName("tileset");
+		Tileset[] tilesets = new Tileset[tilesetElements.getLength()];
+		// magic, version, modified, map size and tileset count, then the tilesets
+		int size = 4 + 1 + 8 + 8 + 1;
+		for (int i = 0; i < tilesets.length; i++)
+		{
+			Element tileset = (Element) tilesetElements.item(i);
+			int firstId = Integer.parseInt(tileset.getAttribute("firstgid"));
+			String source = tileset.getAttribute("source");
+			if (!source.isEmpty())
+			{
+				Path file = directory == null ? null : directory.resolve(source);
+				if (file == null || !Files.isRegularFile(file))
+				{
+					// the board only needs the name, taken from the file name
+					String name = Paths.get(source).getFileName().toString().replaceFirst("\\.tsx$", "");
+					tilesets[i] = new Tileset(firstId, 0, 0, 0, 0, 0, 0, name, source, "");
+					size += TILESET_SIZE + name.length() * 3 + source.length() * 3;
+					continue;
+				}
+				try (InputStream tsx = Files.newInputStream(file))
+				{
+					tileset = parse(tsx);
+				}
+				modified = Math.max(modified, Files.getLastModifiedTime(file).toMillis());
+			}
+			Element image = (Element) tileset.getElementsByTagName("image").item(0);
+			String imageFile = image == null ? "" : image.getAttribute("source");
+			if (!source.isEmpty() && !imageFile.isEmpty())
+			{
+				// images are relative to the tileset file, saved relative to the map
+				Path parent = Paths.get(source).getParent();
+				imageFile = parent == null ? imageFile : parent.resolve(imageFile).toString().replace('\\', '/');
+			}
+			tilesets[i] = new Tileset(firstId, getInt(tileset, "tilewidth"), getInt(tileset, "tileheight"),
+					getInt(tileset, "columns"), getInt(tileset, "tilecount"), getInt(image, "width"), getInt(image, "height"),
+					tileset.getAttribute("name"), source, imageFile);
+			size += TILESET_SIZE + (tilesets[i].name.length() + source.length() + imageFile.length()) * 3;
+		}
+
+		Element layer = (Element) map.getElementsByTagName("layer").item(0);
+		if (layer == null)
+		{
+			throw new IOException("Map has no tile layer");
+		}
+		// room for the longest UTF-8 names, cut to the bytes written at the end
+		ByteBuffer buffer = ByteBuffer.allocate(size + columns * rows * 4);
+		buffer.putInt(MAGIC);
+		buffer.put((byte) VERSION);
+		buffer.putLong(modified);
+		buffer.putShort((short) columns);
+		buffer.putShort((short) rows);
+		buffer.putShort((short) getInt(map, "tilewidth"));
+		buffer.putShort((short) getInt(map, "tileheight"));
+		buffer.put((byte) tilesets.length);
+		for (Tileset tileset : tilesets)
+		{
+			buffer.putInt(tileset.firstId);
+			buffer.putShort((short) tileset.tileWidth);
+			buffer.putShort((short) tileset.tileHeight);
+			buffer.putShort((short) tileset.columns);
+			buffer.putShort((short) tileset.tileCount);
+			buffer.putShort((short) tileset.imageWidth);
+			buffer.putShort((short) tileset.imageHeight);
+			putString(buffer, tileset.name);
+			putString(buffer, tileset.source);
+			putString(buffer, tileset.image);
+		}
+		for (int id : readLayer((Element) layer.getElementsByTagName("data").item(0), columns * rows))
+		{
+			buffer.putInt(id);
+		}
+		return ByteBuffer.wrap(Arrays.copyOf(buffer.array(), buffer.position()));
+	}
+
+	/**
+	 * @return root element of an XML document
+	 */
+	private static Element parse(InputStream in) throws IOException
+	{
+		try
+		{
+			Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(in);
+			return document.getDocumentElement();
+		}
+		catch (ParserConfigurationException | SAXException e)
+		{
+			throw new IOException("Invalid map: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * @return integer attribute of an element, 0 if the element or attribute is missing
+	 */
+	private static int getInt(Element element, String attribute)
+	{
+		return element == null || !element.hasAttribute(attribute) ? 0 : Integer.parseInt(element.getAttribute(attribute));
+	}
+
+	/**
+	 * @param data - data element of a tile layer
+	 * @param tiles - number of tiles in the layer
+	 * @return tile id of every tile, rows from the top as Tiled saves them
+	 */
+	private static int[] readLayer(Element data, int tiles) throws IOException
+	{
+		int[] ids = new int[tiles];
+		String encoding = data.getAttribute("encoding");
+		String text = data.getTextContent().trim();
+		if (encoding.equals("csv"))
+		{
+			String[] values = text.split("\\s*,\\s*");
+			if (values.length != tiles)
+			{
+				throw new IOException("Layer has " + values.length + " tiles, expected " + tiles);
+			}
+			for (int i = 0; i < tiles; i++)
+			{
+				ids[i] = (int) Long.parseLong(values[i]);
+			}
+			return ids;
+		}
+		if (!encoding.equals("base64"))
+		{
+			throw new IOException("Unsupported layer encoding: " + encoding);
+		}
+
+		byte[] bytes = Base64.getMimeDecoder().decode(text);
+		String compression = data.getAttribute("compression");
+		if (!compression.isEmpty())
+		{
+			try (InputStream in = compression.equals("gzip") ? new GZIPInputStream(new ByteArrayInputStream(bytes))
+					: new InflaterInputStream(new ByteArrayInputStream(bytes)))
+			{
+				bytes = new byte[tiles * 4];
+				int read = 0;
+				int count;
+				while (read < bytes.length && (count = in.read(bytes, read, bytes.length - read)) > 0)
+				{
+					read += count;
+				}
+			}
+		}
+		if (bytes.length < tiles * 4)
+		{
+			throw new IOException("Layer has " + bytes.length / 4 + " tiles, expected " + tiles);
+		}
+		ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(ids);
+		return ids;
+	}
+
+	/**
+	 * @return compiled board file of a map, beside it
+	 */
+	private static Path getFile(Path map)
+	{
+		return map.resolveSibling(map.getFileName().toString().replaceFirst("\\.tmx$", "") + EXTENSION);
+	}
+
+	/**
+	 * @return newest modification time of a map and the tileset files it uses
+	 */
+	private static long getModified(Path map, String[] sources) throws IOException
+	{
+		long modified = Files.getLastModifiedTime(map).toMillis();
+		for (String source : sources)
+		{
+			Path file = map.resolveSibling(source);
+			if (!source.isEmpty() && Files.isRegularFile(file))
+			{
+				modified = Math.max(modified, Files.getLastModifiedTime(file).toMillis());
+			}
+		}
+		return modified;
+	}
+
+	/**
+	 * @return every byte of a stream
+	 */
+	private static byte[] readAll(InputStream in) throws IOException
+	{
+		byte[] bytes = new byte[4096];
+		int read = 0;
+		int count;
+		while ((count = in.read(bytes, read, bytes.length - read)) > 0)
+		{
+			read += count;
+			if (read == bytes.length)
+			{
+				bytes = Arrays.copyOf(bytes, bytes.length * 2);
+			}
+		}
+		return Arrays.copyOf(bytes, read);
+	}
+
+	private static String getString(ByteBuffer buffer)
+	{
+		byte[] bytes = new byte[buffer.get() & 0xFF];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void putString(ByteBuffer buffer, String string) throws IOException
+	{
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		if (bytes.length > 0xFF)
+		{
+			throw new IOException("Name too long: " + string);
+		}
+		buffer.put((byte) bytes.length);
+		buffer.put(bytes);
+	}
+
+	/**
+	 * @return board of the tile layer, each tile colored by the tileset it belongs to
+	 */
+	private CandyLandBoard createBoard()
+	{
+		int[] tileColors = new int[columns * rows];
+		for (int i = 0; i < tileColors.length; i++)
+		{
+			int id = buffer.getInt(tiles + i * 4) & ~FLIP_FLAGS;
+			tileColors[i] = CandyLandBoard.NO_COLOR;
+			// the tileset with the greatest first id not above the tile id holds the tile
+			int firstId = 0;
+			for (Tileset tileset : tilesets)
+			{
+				if (id != 0 && tileset.firstId <= id && tileset.firstId > firstId)
+				{
+					firstId = tileset.firstId;
+					tileColors[i] = CandyLandBoard.getTilesetColor(tileset.name);
+				}
+			}
+		}
+		return CandyLandBoard.fromTiles(columns, rows, tileWidth, tileColors);
+	}
+
+	/**
+	 * @return board of the map
+	 */
+	public CandyLandBoard getBoard()
+	{
+		return board;
+	}
+
+	/**
+	 * @return tiles across the map
+	 */
+	public int getColumns()
+	{
+		return columns;
+	}
+
+	/**
+	 * @return tiles down the map
+	 */
+	public int getRows()
+	{
+		return rows;
+	}
+
+	/**
+	 * @return width of a tile in pixels
+	 */
+	public int getTileWidth()
+	{
+		return tileWidth;
+	}
+
+	/**
+	 * @return height of a tile in pixels
+	 */
+	public int getTileHeight()
+	{
+		return tileHeight;
+	}
+
+	/**
+	 * @return tilesets of the map, in the order of their first tile ids
+	 */
+	public Tileset[] getTilesets()
+	{
+		return tilesets.clone();
+	}
+
+	/**
+	 * @param column - column of the tile, from the left
+	 * @param row - row of the tile, from the top
+	 * @return tile id with its FLIP_FLAGS, 0 where there is no tile
+	 */
+	public int getTile(int column, int row)
+	{
+		return buffer.getInt(tiles + (row * columns + column) * 4);
+	}
+
+	/**
+	 * Compile the board map from the command line, run from the assets folder.
+	 * Arguments: [map]
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		Path map = Paths.get(args.length > 0 ? args[0] : CandyLandMain.BOARD);
+		CandyLandBoardCache compiled = compile(map);
+		System.out.println("Compiled " + map + " into " + getFile(map) + ": " + compiled.buffer.limit() + " bytes, "
+				+ compiled.tilesets.length + " tilesets, " + compiled.board.getSpaces() + " spaces");
+	}
+}
@@ -0,0 +1,99 @@
+/**
+ * CandyLandBoardCacheTest.java
+ * This class represents the white box testing for the board map compiled into a binary file
+ */
+
+package com.candyland.game;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.Test;
+
+public class CandyLandBoardCacheTest
+{
+	/*
+	 * Testing:
+	 * Reading the map as the game does writes nothing, the compiled board is written
+	 * beside the map, read back without compiling, and compiled again once the map changes
+	 * or the compiled file is damaged, and a map without tilesets compiles but has no board
+	 */
+	@Test
+	public void boardCacheFollowsMap() throws IOException
+	{
+		Path directory = Files.createTempDirectory("board");
+		Path map = directory.resolve(CandyLandMain.BOARD);
+		Path compiled = directory.resolve("board-finish-multicolor.bin");
+		try
+		{
+			// the game's map and tilesets, tests run in the core folder
+			try (DirectoryStream<Path> files = Files.newDirectoryStream(Paths.get("../assets"), "*.{tmx,tsx}"))
+			{
+				for (Path file : files)
+				{
+					Files.copy(file, directory.resolve(file.getFileName()));
+				}
+			}
+
+			assertEquals(137, CandyLandBoardCache.read(map).getBoard().getSpaces());
+			assertFalse(Files.exists(compiled));
+
+			CandyLandBoardCache board = CandyLandBoardCache.open(map);
+			assertTrue(Files.isRegularFile(compiled));
+			assertEquals(137, board.getBoard().getSpaces());
+			assertEquals(6, board.getTilesets().length);
+			assertEquals("PT_RED.png", board.getTilesets()[0].image);
+			assertEquals(4, board.getTilesets()[0].tileCount);
+			// the start in the bottom left is the first red tile, rows from the top
+			assertEquals(1, board.getTile(0, board.getRows() - 1));
+
+			// read back without compiling
+			FileTime written = FileTime.fromMillis(1000);
+			Files.setLastModifiedTime(compiled, written);
+			assertEquals(137, CandyLandBoardCache.open(map).getBoard().getSpaces());
+			assertEquals(written, Files.getLastModifiedTime(compiled));
+
+			// compiled again once the map changes, in memory when read as the game does
+			Files.setLastModifiedTime(map, FileTime.fromMillis(Files.getLastModifiedTime(map).toMillis() + 2000));
+			assertEquals(137, CandyLandBoardCache.read(map).getBoard().getSpaces());
+			assertEquals(written, Files.getLastModifiedTime(compiled));
+			assertEquals(137, CandyLandBoardCache.open(map).getBoard().getSpaces());
+			assertNotEquals(written, Files.getLastModifiedTime(compiled));
+
+			// and once the compiled file is damaged
+			Files.write(compiled, new byte[] {1, 2, 3});
+			assertEquals(137, CandyLandBoardCache.open(map).getBoard().getSpaces());
+			assertTrue(Files.size(compiled) > 3);
+
+			Path empty = directory.resolve("empty.tmx");
+			Files.write(empty, ("<map width=\"2\" height=\"2\" tilewidth=\"32\" tileheight=\"32\">"
+					+ "<layer width=\"2\" height=\"2\"><data encoding=\"csv\">0,0,0,0</data></layer></map>").getBytes("UTF-8"));
+			try
+			{
+				CandyLandBoardCache.read(empty);
+				fail("Map without spaces was read");
+			}
+			catch (IllegalArgumentException e)
+			{
+				// expected
+			}
+		}
+		finally
+		{
+			try (DirectoryStream<Path> files = Files.newDirectoryStream(directory))
+			{
+				for (Path file : files)
+				{
+					Files.delete(file);
+				}
+			}
+			Files.delete(directory);
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/**
+ * CandyLandBoardTest.java
+ * This class represents the white box testing for the board spaces read from the board map and the classic board
+ */
+
+package com.candyland.game;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+public class CandyLandBoardTest
+{
+	/*
+	 * Testing:
+	 * Headless games play the classic board, with its serpentine path, colors and finish,
+	 * the nearest and second nearest spaces of a color, an edited map changes the path,
+	 * and a map whose path ends before the landmarks is rejected
+	 * (Requirement 1.2.1 & 1.2.2 & 2.1.0)
+	 */
+	@Test
+	public void boardFollowsMap()
+	{
+		CandyLandBoard board = CandyLandGame.BOARD;
+		assertSame(CandyLandBoard.CLASSIC, board);
+		assertEquals(137, board.getSpaces());
+		assertEquals(136, CandyLandGame.MAX_POSITIONS);
+
+		// start in the bottom left, along the bottom row and up the right edge
+		assertEquals(32, board.getX(0));
+		assertEquals(32, board.getY(0));
+		assertEquals(1248, board.getX(19));
+		assertEquals(96, board.getY(20));
+		assertEquals(160, board.getY(21));
+		assertEquals(1184, board.getX(22));
+		// the finish is after the last colored space of the top row
+		assertEquals(672, board.getX(136));
+		assertEquals(800, board.getY(136));
+		assertEquals(CandyLandBoard.NO_COLOR, board.getColor(136));
+
+		CandyLandGame game = new CandyLandGame(new SplittableRandom(1));
+		assertEquals("Red", game.getCurrentColor(0));
+		assertEquals("Yellow", game.getCurrentColor(56));
+		for (int position = 1; position < 136; position++)
+		{
+			// the printed board repeats purple, yellow, blue, green, orange, red
+			assertEquals(CandyLandGame.COLORS[(position - 1) % CandyLandGame.COLORS.length], game.getCurrentColor(position));
+		}
+		// nearest and second nearest purple from yellow 56
+		game.playerPositions[0] = 56;
+		assertEquals(5, game.calculateSteps(CandyLandDeck.PURPLE));
+		assertEquals(11, game.calculateSteps(CandyLandDeck.DOUBLE + CandyLandDeck.PURPLE));
+		// no orange is left after 131, the finish is the nearest
+		game.playerPositions[0] = 131;
+		assertEquals(5, game.calculateSteps(CandyLandDeck.ORANGE));
+
+		// an edited map: red, blue, red up the left edge, then blue, red along the top
+		// each space is 2 x 2 tiles, rows from the top
+		int red = 5;
+		int blue = 2;
+		int[] tiles = new int[8 * 6];
+		Arrays.fill(tiles, CandyLandBoard.NO_COLOR);
+		int[][] spaces = {{0, 2, red}, {0, 1, blue}, {0, 0, red}, {1, 0, blue}, {2, 0, red}};
+		for (int[] space : spaces)
+		{
+			for (int tile = 0; tile < 4; tile++)
+			{
+				tiles[(space[1] * 2 + tile / 2) * 8 + space[0] * 2 + tile % 2] = space[2];
+			}
+		}
+		CandyLandBoard edited = CandyLandBoard.findPath(8, 6, 32, tiles);
+		assertEquals(6, edited.getSpaces());
+		assertEquals(32, edited.getX(0));
+		assertEquals(32, edited.getY(0));
+		assertEquals(160, edited.getX(4));
+		assertEquals(160, edited.getY(4));
+		// the finish carries on along the top
+		assertEquals(224, edited.getX(5));
+		assertEquals(160, edited.getY(5));
+		assertEquals(3, edited.nextSpace(blue, 1));
+		assertEquals(2, edited.nextSpace(red, 0));
+		assertEquals(5, edited.nextSpace(blue, 3));
+		// too short for the special cards, shortcuts and licorice
+		try
+		{
+			CandyLandBoard.fromTiles(8, 6, 32, tiles);
+			fail("Board without the landmarks was read");
+		}
+		catch (IllegalArgumentException e)
+		{
+			// expected
+		}
+	}
+
+	/*
+	 * Testing:
+	 * The board read from the game's map is the classic board, space for space
+	 * (Requirement 2.1.0)
+	 */
+	@Test
+	public void mapDrawsClassicBoard() throws IOException
+	{
+		// the game's map, tests run in the core folder
+		CandyLandBoard map = CandyLandBoardCache.read(Paths.get("../assets").resolve(CandyLandMain.BOARD)).getBoard();
+		CandyLandBoard classic = CandyLandBoard.CLASSIC;
+		assertEquals(classic.getSpaces(), map.getSpaces());
+		for (int position = 0; position < classic.getSpaces(); position++)
+		{
+			assertEquals(classic.getX(position), map.getX(position));
+			assertEquals(classic.getY(position), map.getY(position));
+			assertEquals(classic.getColor(position), map.getColor(position));
+		}
+	}
+}
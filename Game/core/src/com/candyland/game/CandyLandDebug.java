@@ -0,0 +1,15 @@
+/**
+ * CandyLandDebug.java
+ * This class represents the switch for the console prints of the game and its headless engine.
+ * It has no libGDX references, so the engine, tools and server can read it without loading the game.
+ */
+
+package com.candyland.game;
+
+public class CandyLandDebug
+{
+	// show console prints
+	public static boolean ENABLED = false;
+
+	private CandyLandDebug() {}
+}
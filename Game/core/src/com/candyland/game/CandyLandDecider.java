@@ -0,0 +1,130 @@
+/**
+ * CandyLandDecider.java
+ * This class represents choosing computers' cards off the render thread.
+ * A strategy with a time budget chooses on a copy of the game on the decider's thread,
+ * while the screen keeps drawing and polls for the choice.
+ * A strategy still deciding GRACE after its budget is abandoned,
+ * and the card the Extreme strategy would play is used instead.
+ */
+
+package com.candyland.game;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class CandyLandDecider
+{
+	// time a strategy may run over its budget before its choice is abandoned
+	public final static long GRACE = TimeUnit.MILLISECONDS.toNanos(100);
+
+	private final ExecutorService executor;
+
+	public CandyLandDecider()
+	{
+		executor = Executors.newSingleThreadExecutor(runnable ->
+		{
+			Thread thread = new Thread(runnable, "candyland-strategy");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Start choosing among the cards the current player drew with CandyLandGame.drawCards().
+	 * The game is copied before returning, so it can keep changing.
+	 *
+	 * @param game - game being played
+	 * @param strategy - strategy of the current player
+	 * @param count - number of cards drawn
+	 * @return the decision, poll isReady() until the choice is known
+	 */
+	public Decision decide(CandyLandGame game, CandyLandStrategy strategy, int count)
+	{
+		CandyLandGame copy = game.copy();
+		int fallback = CandyLandStrategy.EXTREME.choose(copy, copy.getCardsDrawn(), count, Long.MAX_VALUE);
+		long deadline = System.nanoTime() + strategy.getTimeBudget() + GRACE;
+		Future<Integer> future = executor.submit(() -> copy.chooseCard(strategy, count));
+		return new Decision(future, deadline, fallback, count);
+	}
+
+	/**
+	 * Abandon any decision still being made and stop the strategy thread.
+	 */
+	public void dispose()
+	{
+		executor.shutdownNow();
+	}
+
+	/**
+	 * A choice being made on the strategy thread.
+	 */
+	public static class Decision
+	{
+		private final Future<Integer> future;
+		private final long deadline;
+		private final int fallback;
+		private final int count;
+
+		private Decision(Future<Integer> future, long deadline, int fallback, int count)
+		{
+			this.future = future;
+			this.deadline = deadline;
+			this.fallback = fallback;
+			this.count = count;
+		}
+
+		/**
+		 * @return true once the card can be taken, the strategy chose or ran out of time
+		 */
+		public boolean isReady()
+		{
+			return future.isDone() || System.nanoTime() >= deadline;
+		}
+
+		/**
+		 * Take the card chosen, abandoning the strategy if it is still deciding.
+		 *
+		 * @return card code of the card chosen, the fallback card if the strategy failed or ran out of time
+		 */
+		public int getCard()
+		{
+			if (!future.isDone())
+			{
+				future.cancel(true);
+				if (CandyLandDebug.ENABLED)
+				{
+					System.err.println("Strategy ran out of time, playing the furthest card");
+				}
+				return fallback;
+			}
+			try
+			{
+				return future.get();
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				return fallback;
+			}
+			catch (ExecutionException e)
+			{
+				if (CandyLandDebug.ENABLED)
+				{
+					System.err.println("Error choosing a card: " + e.getCause());
+				}
+				return fallback;
+			}
+		}
+
+		/**
+		 * @return number of cards drawn
+		 */
+		public int getCount()
+		{
+			return count;
+		}
+	}
+}
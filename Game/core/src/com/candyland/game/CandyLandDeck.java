@@ -0,0 +1,276 @@
+/**
+ * CandyLandDeck.java
+ * This class represents the 64 card deck for Candy Land.
+ * Cards are stored as byte codes with a read cursor, so drawing a card
+ * is O(1) and never allocates. Codes follow the save file letters ('A' + code).
+ */
+
+package com.candyland.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+public class CandyLandDeck
+{
+	// card codes
+	public final static int RED = 0;
+	public final static int ORANGE = 1;
+	public final static int YELLOW = 2;
+	public final static int GREEN = 3;
+	public final static int BLUE = 4;
+	public final static int PURPLE = 5;
+	// DOUBLE + single color code gives the double color card
+	public final static int DOUBLE = 6;
+	public final static int PEPPERMINT_FOREST = 12;
+	public final static int GUMDROP_MOUNTAINS = 13;
+	public final static int PEANUT_ACRES = 14;
+	public final static int LOLLIPOP_WOODS = 15;
+
+	public final static int CARD_TYPES = 16;
+	public final static int DECK_SIZE = 64;
+	private final static int SINGLE_CARDS = 8;
+	private final static int DOUBLE_CARDS = 2;
+
+	// card names used for display, saves and console output, indexed by card code
+	public final static String[] CARD_NAMES = {
+		"Red", "Orange", "Yellow", "Green", "Blue", "Purple",
+		"Double Red", "Double Orange", "Double Yellow", "Double Green", "Double Blue", "Double Purple",
+		"Peppermint Forest", "Gumdrop Mountains", "Peanut Acres", "Lollipop Woods"
+	};
+
+	// unshuffled deck copied in on every reshuffle
+	private final static byte[] FULL_DECK = createFullDeck();
+
+	// remaining cards are cards[top] : cards[DECK_SIZE - 1], cards[top] is drawn next
+	private final byte[] cards = new byte[DECK_SIZE];
+	private int top = DECK_SIZE;
+	private final SplittableRandom random;
+
+	/**
+	 * @param random - source of randomness used when shuffling the deck
+	 */
+	public CandyLandDeck(SplittableRandom random)
+	{
+		this.random = random;
+	}
+
+	/**
+	 * Create the 64 card deck
+	 * (Requirement 1.0.0)
+	 *
+	 * @return card codes of an unshuffled deck
+	 */
+	private static byte[] createFullDeck()
+	{
+		byte[] deck = new byte[DECK_SIZE];
+		int i = 0;
+
+		// 48 single color cards, 8 of each color (Requirement 1.0.1)
+		for (int color = RED; color <= PURPLE; color++)
+		{
+			for (int j = 0; j < SINGLE_CARDS; j++)
+			{
+				deck[i++] = (byte) color;
+			}
+		}
+
+		// 12 double color cards, 2 of each color (Requirement 1.0.2)
+		for (int color = RED; color <= PURPLE; color++)
+		{
+			for (int j = 0; j < DOUBLE_CARDS; j++)
+			{
+				deck[i++] = (byte) (DOUBLE + color);
+			}
+		}
+
+		// 4 special character cards (Requirement 1.0.3)
+		for (int special = PEPPERMINT_FOREST; special <= LOLLIPOP_WOODS; special++)
+		{
+			deck[i++] = (byte) special;
+		}
+		return deck;
+	}
+
+	/**
+	 * Refill the deck with all 64 cards and shuffle it in place (Fisher-Yates).
+	 */
+	public void reset()
+	{
+		System.arraycopy(FULL_DECK, 0, cards, 0, DECK_SIZE);
+		top = 0;
+		for (int i = DECK_SIZE - 1; i > 0; i--)
+		{
+			int j = random.nextInt(i + 1);
+			byte temp = cards[i];
+			cards[i] = cards[j];
+			cards[j] = temp;
+		}
+	}
+
+	/**
+	 * Remove every card from the deck.
+	 */
+	public void clear()
+	{
+		top = DECK_SIZE;
+	}
+
+	public boolean isEmpty()
+	{
+		return top == DECK_SIZE;
+	}
+
+	/**
+	 * @return number of cards left in the deck
+	 */
+	public int size()
+	{
+		return DECK_SIZE - top;
+	}
+
+	/**
+	 * Obtain the next card to be drawn without removing it
+	 *
+	 * @return card code of the next card
+	 */
+	public int peek()
+	{
+		return cards[top];
+	}
+
+	/**
+	 * Remove and return the next card.
+	 * Only called when the deck is not empty.
+	 *
+	 * @return card code of the card drawn
+	 */
+	public int draw()
+	{
+		return cards[top++];
+	}
+
+	/**
+	 * @param index - position from the top of the deck, 0 is drawn next
+	 * @return card code at the position
+	 */
+	public int get(int index)
+	{
+		return cards[top + index];
+	}
+
+	/**
+	 * Replace a card in the deck, used to stack the deck in tests.
+	 *
+	 * @param index - position from the top of the deck, 0 is drawn next
+	 * @param code - card code to place at the position
+	 */
+	public void set(int index, int code)
+	{
+		cards[top + index] = (byte) code;
+	}
+
+	/**
+	 * Replace the deck with the given cards, first element is drawn first.
+	 * Used when loading a saved game.
+	 *
+	 * @param codes - card codes of the remaining cards
+	 * @param length - number of cards to take from codes
+	 */
+	public void setCards(byte[] codes, int length)
+	{
+		top = DECK_SIZE - length;
+		System.arraycopy(codes, 0, cards, top, length);
+	}
+
+	/**
+	 * Replace the deck with the given card names, first element is drawn first.
+	 *
+	 * @param names - names of the remaining cards
+	 */
+	public void setCards(List<String> names)
+	{
+		top = DECK_SIZE - names.size();
+		for (int i = 0; i < names.size(); i++)
+		{
+			cards[top + i] = (byte) cardCode(names.get(i));
+		}
+	}
+
+	/**
+	 * Copy the remaining card codes, used for saving.
+	 *
+	 * @param destination - array of at least size() elements
+	 */
+	public void getCards(byte[] destination)
+	{
+		System.arraycopy(cards, top, destination, 0, size());
+	}
+
+	/**
+	 * Obtain the names of the remaining cards, used for display and saving.
+	 *
+	 * @return list of card names, first element is drawn first
+	 */
+	public List<String> toCardNames()
+	{
+		List<String> names = new ArrayList<>(size());
+		for (int i = top; i < DECK_SIZE; i++)
+		{
+			names.add(CARD_NAMES[cards[i]]);
+		}
+		return names;
+	}
+
+	/**
+	 * @param code - card code
+	 * @return name of the card
+	 */
+	public static String cardName(int code)
+	{
+		return CARD_NAMES[code];
+	}
+
+	/**
+	 * @param name - name of a card, as shown in CARD_NAMES
+	 * @return card code of the card, -1 if it is not a card
+	 */
+	public static int cardCode(String name)
+	{
+		for (int i = 0; i < CARD_TYPES; i++)
+		{
+			if (CARD_NAMES[i].equals(name))
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @param code - card code
+	 * @return true if the card sets a player to a pre-determined position
+	 */
+	public static boolean isSpecial(int code)
+	{
+		return code >= PEPPERMINT_FOREST;
+	}
+
+	/**
+	 * @param code - card code
+	 * @return true if the card is a double color card
+	 */
+	public static boolean isDouble(int code)
+	{
+		return code >= DOUBLE && code < PEPPERMINT_FOREST;
+	}
+
+	/**
+	 * @param code - single or double color card code
+	 * @return single color card code of the card
+	 */
+	public static int color(int code)
+	{
+		return isDouble(code) ? code - DOUBLE : code;
+	}
+}
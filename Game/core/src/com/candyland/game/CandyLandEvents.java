@@ -0,0 +1,152 @@
+/**
+ * CandyLandEvents.java
+ * This class represents the events of one game, passed from the engine to its listeners.
+ * The engine publishes events while it changes the game state, and they wait in a
+ * preallocated ring of slots until dispatch() hands them to every listener,
+ * so listeners only see the game once each change is complete, and nothing is allocated per event.
+ * With no listeners publishing returns at once, so headless games run at full speed.
+ * Events are published and dispatched on the thread playing the game.
+ */
+
+package com.candyland.game;
+
+import java.util.Arrays;
+
+public class CandyLandEvents
+{
+	// event types
+	public final static int TURN_STARTED = 0;
+	public final static int CARD_DRAWN = 1;
+	public final static int PIECE_MOVED = 2;
+	public final static int SHORTCUT_TAKEN = 3;
+	public final static int LICORICE_HIT = 4;
+	public final static int GAME_WON = 5;
+
+	// slots in the ring, a power of two well above the events of one turn
+	private final static int CAPACITY = 64;
+	private final static int MASK = CAPACITY - 1;
+
+	// each slot is an event type, the player and up to two values, e.g. the positions moved between
+	private final int[] types = new int[CAPACITY];
+	private final int[] players = new int[CAPACITY];
+	private final int[] firstValues = new int[CAPACITY];
+	private final int[] secondValues = new int[CAPACITY];
+	// events are read from head and written at tail, both only ever increase
+	private int head;
+	private int tail;
+
+	private CandyLandListener[] listeners = new CandyLandListener[0];
+
+	/**
+	 * @param listener - listener told about every event dispatched from now on
+	 */
+	public void addListener(CandyLandListener listener)
+	{
+		listeners = Arrays.copyOf(listeners, listeners.length + 1);
+		listeners[listeners.length - 1] = listener;
+	}
+
+	/**
+	 * @param listener - listener to stop telling about events
+	 */
+	public void removeListener(CandyLandListener listener)
+	{
+		for (int i = 0; i < listeners.length; i++)
+		{
+			if (listeners[i] == listener)
+			{
+				CandyLandListener[] removed = new CandyLandListener[listeners.length - 1];
+				System.arraycopy(listeners, 0, removed, 0, i);
+				System.arraycopy(listeners, i + 1, removed, i, removed.length - i);
+				listeners = removed;
+				return;
+			}
+		}
+	}
+
+	/**
+	 * @return true if any listener would be told about events
+	 */
+	public boolean hasListeners()
+	{
+		return listeners.length > 0;
+	}
+
+	/**
+	 * Queue an event for the next dispatch().
+	 * If the ring is full the waiting events are dispatched first.
+	 *
+	 * @param type - event type
+	 * @param player - index of the player the event happened to
+	 * @param firstValue - first value of the event, e.g. the card drawn or the position moved from
+	 * @param secondValue - second value of the event, e.g. the position moved to
+	 */
+	public void publish(int type, int player, int firstValue, int secondValue)
+	{
+		if (listeners.length == 0)
+		{
+			return;
+		}
+		if (tail - head == CAPACITY)
+		{
+			dispatch();
+		}
+		int slot = tail & MASK;
+		types[slot] = type;
+		players[slot] = player;
+		firstValues[slot] = firstValue;
+		secondValues[slot] = secondValue;
+		tail++;
+	}
+
+	/**
+	 * Tell every listener about every waiting event, in the order they were published.
+	 * Events published by a listener are told in the same dispatch.
+	 */
+	public void dispatch()
+	{
+		while (head != tail)
+		{
+			int slot = head & MASK;
+			int type = types[slot];
+			int player = players[slot];
+			int firstValue = firstValues[slot];
+			int secondValue = secondValues[slot];
+			// the slot is free before any listener can publish into it
+			head++;
+
+			for (CandyLandListener listener : listeners)
+			{
+				switch (type)
+				{
+					case TURN_STARTED:
+						listener.onTurnStarted(player, firstValue);
+						break;
+					case CARD_DRAWN:
+						listener.onCardDrawn(player, firstValue);
+						break;
+					case PIECE_MOVED:
+						listener.onPieceMoved(player, firstValue, secondValue);
+						break;
+					case SHORTCUT_TAKEN:
+						listener.onShortcutTaken(player, firstValue);
+						break;
+					case LICORICE_HIT:
+						listener.onLicoriceHit(player, firstValue);
+						break;
+					case GAME_WON:
+						listener.onGameWon(player);
+						break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Drop every event waiting to be dispatched, used when a game is abandoned.
+	 */
+	public void clear()
+	{
+		head = tail;
+	}
+}
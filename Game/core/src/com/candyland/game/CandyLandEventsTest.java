@@ -0,0 +1,82 @@
+/**
+ * CandyLandEventsTest.java
+ * This class represents the white box testing for game events told to listeners and the event ring
+ */
+
+package com.candyland.game;
+
+import static org.junit.Assert.*;
+
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+public class CandyLandEventsTest
+{
+	/*
+	 * Testing:
+	 * Listeners are told every turn, move and the winner in order,
+	 * and events past the size of the ring are still told in order
+	 */
+	@Test
+	public void eventsFollowTheGame()
+	{
+		CandyLandGame game = new CandyLandGame(new SplittableRandom(11));
+		int[] positions = new int[game.getPlayerCount()];
+		int[] counts = new int[3];
+		int[] winner = {-1};
+		game.addListener(new CandyLandListener()
+		{
+			@Override
+			public void onTurnStarted(int player, int turn)
+			{
+				assertEquals(counts[0]++, turn);
+			}
+
+			@Override
+			public void onPieceMoved(int player, int from, int to)
+			{
+				assertEquals(positions[player], from);
+				positions[player] = to;
+				counts[1]++;
+			}
+
+			@Override
+			public void onCardDrawn(int player, int card)
+			{
+				counts[2]++;
+			}
+
+			@Override
+			public void onGameWon(int player)
+			{
+				winner[0] = player;
+			}
+		});
+		game.newGame();
+		int won = game.playGame();
+
+		assertEquals(won, winner[0]);
+		assertEquals(game.turnCount, counts[0]);
+		assertArrayEquals(game.playerPositions, positions);
+		// every move is a card drawn by one player
+		assertEquals(counts[1], counts[2]);
+
+		CandyLandEvents events = new CandyLandEvents();
+		int[] next = {0};
+		events.addListener(new CandyLandListener()
+		{
+			@Override
+			public void onCardDrawn(int player, int card)
+			{
+				assertEquals(next[0]++, player);
+			}
+		});
+		for (int i = 0; i < 1000; i++)
+		{
+			events.publish(CandyLandEvents.CARD_DRAWN, i, 0, 0);
+		}
+		events.dispatch();
+		assertEquals(1000, next[0]);
+	}
+}
@@ -0,0 +1,698 @@
+/**
+ * CandyLandGame.java
+ * This class represents the card deck and main game logic for Candy Land.
+ * Contains no libGDX calls, so a full game can be played headless
+ * (simulations, tests). GameScreen delegates all rules to this class.
+ */
+
+package com.candyland.game;
+
+import java.util.SplittableRandom;
+
+public class CandyLandGame
+{
+	// final variables that do not change
+	// default number of players, the user and three computers
+	public final static int GAME_PIECES = 4;
+	// most players a game can have, the player count is saved in a byte
+	public final static int MAX_PLAYERS = 255;
+	public final static String[] COLORS = {"Purple", "Yellow", "Blue", "Green", "Orange", "Red"};
+	// spaces of the board played, see CandyLandBoard.use()
+	public final static CandyLandBoard BOARD = CandyLandBoard.get();
+	public final static int MAX_POSITIONS = BOARD.getFinish();
+
+	// card value (COLORS index + 1) of each single color card code
+	private final static int[] COLOR_VALUES = {6, 5, 2, 4, 3, 1};
+
+	// game state, one element per player
+	public int[] playerPositions;
+	public boolean[] skipNextTurn;
+	public boolean[] skipCurrentTurn;
+	public boolean[] shortcutTaken;
+	public String[][] drawnCards;
+	public CandyLandDeck deck;
+	public int gameWinner = -1;
+	public boolean activeGame = false;
+	public int turnCount = 0;
+
+	// computers draw two cards and keep the best on Extreme difficulty
+	public boolean extremeDifficulty = false;
+	// strategy of the computers chosen in settings, null to follow extremeDifficulty
+	public CandyLandStrategy computerStrategy;
+	// strategy of every player, including the user, used by tournaments.
+	// null for the user to play one card and the computers to follow computerStrategy
+	public CandyLandStrategy[] strategies;
+
+	// events of this game, nothing is published until a listener is added with addListener()
+	public final CandyLandEvents events = new CandyLandEvents();
+	// true once a listener is added, checked before publishing so headless games skip events entirely
+	private boolean listening = false;
+
+	private int playerIndex;
+	private int players;
+	// card codes drawn in the current turn, handed to the strategy
+	private final int[] cardsDrawn = new int[CandyLandStrategy.MAX_CARDS_DRAWN];
+
+	public CandyLandGame()
+	{
+		this(new SplittableRandom());
+	}
+
+	/**
+	 * @param random - source of randomness used when shuffling the deck.
+	 * Not shared between threads, each simulation worker owns its own.
+	 */
+	public CandyLandGame(SplittableRandom random)
+	{
+		this(random, GAME_PIECES);
+	}
+
+	/**
+	 * @param random - source of randomness used when shuffling the deck
+	 * @param players - number of players, the user and the computers (1 : MAX_PLAYERS)
+	 */
+	public CandyLandGame(SplittableRandom random, int players)
+	{
+		deck = new CandyLandDeck(random);
+		setPlayerCount(players);
+	}
+
+	/**
+	 * Change the number of players, resetting the game state.
+	 *
+	 * @param players - number of players, the user and the computers (1 : MAX_PLAYERS)
+	 */
+	public void setPlayerCount(int players)
+	{
+		if (players < 1 || players > MAX_PLAYERS)
+		{
+			throw new IllegalArgumentException("Invalid player count: " + players);
+		}
+		this.players = players;
+		resetValues();
+	}
+
+	/**
+	 * @return number of players, the user and the computers
+	 */
+	public int getPlayerCount()
+	{
+		return players;
+	}
+
+	/**
+	 * Reset the game state and create a freshly shuffled deck.
+	 */
+	public void newGame()
+	{
+		resetValues();
+		deck.reset();
+	}
+
+	/**
+	 * Reset all game state to the initial state.
+	 * The deck is left empty and is re-created on the next draw.
+	 */
+	public void resetValues()
+	{
+		skipNextTurn = new boolean[players];
+		playerPositions = new int[players];
+		skipCurrentTurn = new boolean[players];
+		shortcutTaken = new boolean[players];
+		drawnCards = new String[players][2];
+		gameWinner = -1;
+		activeGame = false;
+		turnCount = 0;
+		playerIndex = 0;
+		deck.clear();
+		events.clear();
+	}
+
+	/**
+	 * Play complete rounds until a player wins.
+	 *
+	 * @return index of the winning player
+	 */
+	public int playGame()
+	{
+		activeGame = true;
+		while (gameWinner == -1)
+		{
+			playTurn();
+		}
+		return gameWinner;
+	}
+
+	/**
+	 * Play the turn of the current player, then pass the turn on.
+	 * A player on licorice has their turn skipped.
+	 */
+	public void playTurn()
+	{
+		startTurn();
+		turnCount++;
+		shortcutTaken[playerIndex] = false;
+		if (skipNextTurn[playerIndex])
+		{
+			skipCurrentTurn[playerIndex] = true;
+			skipNextTurn[playerIndex] = false;
+		}
+		else
+		{
+			skipCurrentTurn[playerIndex] = false;
+			playCard(drawCard(getStrategy(playerIndex)));
+			checkWinner();
+		}
+		incrementIndex();
+		if (listening)
+		{
+			events.dispatch();
+		}
+	}
+
+	/**
+	 * Tell listeners the current player's turn is starting.
+	 * Called by whatever plays the turn, before turnCount counts it.
+	 */
+	public void startTurn()
+	{
+		if (listening)
+		{
+			events.publish(CandyLandEvents.TURN_STARTED, playerIndex, turnCount, 0);
+		}
+	}
+
+	/**
+	 * @param listener - listener told about the events of this game from now on
+	 */
+	public void addListener(CandyLandListener listener)
+	{
+		events.addListener(listener);
+		listening = true;
+	}
+
+	/**
+	 * @param listener - listener to stop telling about events
+	 */
+	public void removeListener(CandyLandListener listener)
+	{
+		events.removeListener(listener);
+		listening = events.hasListeners();
+	}
+
+	/**
+	 * Move the current player with a card through the precomputed move table.
+	 * Same result as movePlayer(card, calculateSteps(card)).
+	 *
+	 * @param	card - card code of the card played
+	 */
+	public void playCard(int card)
+	{
+		int from = playerPositions[playerIndex];
+		int move = CandyLandMoves.get(from, card);
+		playerPositions[playerIndex] = CandyLandMoves.destination(move);
+		shortcutTaken[playerIndex] = CandyLandMoves.isShortcut(move);
+		if (CandyLandMoves.isLicorice(move))
+		{
+			skipNextTurn[playerIndex] = true;
+		}
+		publishMove(from);
+	}
+
+	/**
+	 * Tell listeners where the current player moved, and what they landed on.
+	 *
+	 * @param from - position the player moved from
+	 */
+	private void publishMove(int from)
+	{
+		if (!listening)
+		{
+			return;
+		}
+		int to = playerPositions[playerIndex];
+		events.publish(CandyLandEvents.PIECE_MOVED, playerIndex, from, to);
+		if (shortcutTaken[playerIndex])
+		{
+			events.publish(CandyLandEvents.SHORTCUT_TAKEN, playerIndex, to, 0);
+		}
+		if (skipNextTurn[playerIndex])
+		{
+			events.publish(CandyLandEvents.LICORICE_HIT, playerIndex, to, 0);
+		}
+	}
+
+	/**
+	 * Draw the card the current computer will play.
+	 * On Extreme difficulty a second card is drawn and the card
+	 * progressing the computer furthest is chosen.
+	 * Both cards are stored in drawnCards for display.
+	 * (Requirement 1.1.1)
+	 *
+	 * @return card code of the card chosen by the computer
+	 */
+	public int drawComputerCard()
+	{
+		return drawCard(getStrategy(playerIndex));
+	}
+
+	/**
+	 * Draw the cards of the current player's turn and let a strategy choose one.
+	 * The cards drawn are stored in drawnCards for display.
+	 *
+	 * @param strategy - strategy of the current player
+	 * @return card code of the card chosen
+	 */
+	public int drawCard(CandyLandStrategy strategy)
+	{
+		return chooseCard(strategy, drawCards(strategy));
+	}
+
+	/**
+	 * Draw the cards of the current player's turn without choosing one yet,
+	 * so the choice can be made elsewhere, e.g. on a worker thread from a copy().
+	 * The cards drawn are stored in drawnCards for display.
+	 *
+	 * @param strategy - strategy of the current player
+	 * @return number of cards drawn, their card codes are in getCardsDrawn()
+	 */
+	public int drawCards(CandyLandStrategy strategy)
+	{
+		int count = strategy.cardsDrawn();
+		for (int i = 0; i < count; i++)
+		{
+			cardsDrawn[i] = drawNextCard();
+			drawnCards[playerIndex][i] = CandyLandDeck.cardName(cardsDrawn[i]);
+		}
+		return count;
+	}
+
+	/**
+	 * Let a strategy choose among the cards drawn by drawCards(), passing it the deadline of its time budget.
+	 * The strategy is trusted to keep to the deadline, CandyLandDecider abandons one that overruns.
+	 * A card that was not drawn is never played, the card the Extreme strategy would play
+	 * is played instead, as in CandyLandDecider.
+	 *
+	 * @param strategy - strategy of the current player
+	 * @param count - number of cards drawn
+	 * @return card code of the card chosen
+	 */
+	public int chooseCard(CandyLandStrategy strategy, int count)
+	{
+		long budget = strategy.getTimeBudget();
+		long deadline = budget > 0 ? System.nanoTime() + budget : Long.MAX_VALUE;
+		int card = strategy.choose(this, cardsDrawn, count, deadline);
+		for (int i = 0; i < count; i++)
+		{
+			if (cardsDrawn[i] == card)
+			{
+				return card;
+			}
+		}
+		if (CandyLandDebug.ENABLED)
+		{
+			System.err.println("Strategy " + strategy.getName() + " chose a card that was not drawn: " + card);
+		}
+		return CandyLandStrategy.EXTREME.choose(this, cardsDrawn, count, Long.MAX_VALUE);
+	}
+
+	/**
+	 * @return card codes of the cards drawn in the current turn, only the first drawCards() are valid
+	 */
+	public int[] getCardsDrawn()
+	{
+		return cardsDrawn;
+	}
+
+	/**
+	 * @param player - index of a player
+	 * @return the strategy the player follows
+	 */
+	public CandyLandStrategy getStrategy(int player)
+	{
+		if (strategies != null)
+		{
+			return strategies[player];
+		}
+		if (player == 0)
+		{
+			return CandyLandStrategy.NORMAL;
+		}
+		if (computerStrategy != null)
+		{
+			return computerStrategy;
+		}
+		return extremeDifficulty ? CandyLandStrategy.EXTREME : CandyLandStrategy.NORMAL;
+	}
+
+	/**
+	 * Copy the game state, including the order of the deck and the cards drawn this turn.
+	 * The copy has its own random source, so it can be played on by another thread.
+	 * Names of the cards drawn for display are not copied.
+	 *
+	 * @return a copy of the game
+	 */
+	public CandyLandGame copy()
+	{
+		CandyLandGame copy = new CandyLandGame(new SplittableRandom(), players);
+		System.arraycopy(playerPositions, 0, copy.playerPositions, 0, players);
+		System.arraycopy(skipNextTurn, 0, copy.skipNextTurn, 0, players);
+		System.arraycopy(skipCurrentTurn, 0, copy.skipCurrentTurn, 0, players);
+		System.arraycopy(shortcutTaken, 0, copy.shortcutTaken, 0, players);
+		System.arraycopy(cardsDrawn, 0, copy.cardsDrawn, 0, cardsDrawn.length);
+		byte[] cards = new byte[deck.size()];
+		deck.getCards(cards);
+		copy.deck.setCards(cards, cards.length);
+		copy.gameWinner = gameWinner;
+		copy.activeGame = activeGame;
+		copy.turnCount = turnCount;
+		copy.extremeDifficulty = extremeDifficulty;
+		copy.computerStrategy = computerStrategy;
+		copy.strategies = strategies;
+		copy.playerIndex = playerIndex;
+		return copy;
+	}
+
+	/**
+	 * Draw the top card of the deck, re-creating the deck first if it is empty.
+	 * (Requirement 1.1.0)
+	 *
+	 * @return card code of the card drawn
+	 */
+	public int drawNextCard()
+	{
+		checkEmptyDeck();
+		int card = deck.draw();
+		if (listening)
+		{
+			events.publish(CandyLandEvents.CARD_DRAWN, playerIndex, card, 0);
+		}
+		return card;
+	}
+
+	/**
+	 * Create a new deck of cards and shuffle if the deck is empty
+	 * (Requirement 1.1.2)
+	 */
+	public void checkEmptyDeck()
+	{
+		if (deck.isEmpty())
+		{
+			deck.reset();
+		}
+	}
+
+	/**
+	 * Returns an integer representing the number of steps required
+	 * to reach the drawn card from the current position
+	 * (Requirement 1.2.0)
+	 *
+	 * @param	nextCard - card code of the card drawn
+	 * @return	the steps needed to reach the position from the drawn card
+	 */
+	public int calculateSteps(int nextCard)
+	{
+		/**
+		 * Special cards cards move to pre-determined board position
+		 * (Requirement 1.2.3)
+		 */
+		if (CandyLandDeck.isSpecial(nextCard))
+		{
+			return CandyLandBoard.SPECIAL_POSITIONS[nextCard - CandyLandDeck.PEPPERMINT_FOREST];
+		}
+
+		/**
+		 * Single color cards move to nearest color position
+		 * (Requirement 1.2.1)
+		 */
+		int steps = getStepsFromColor(CandyLandDeck.color(nextCard));
+
+		/**
+		 * Double color cards move to second nearest color position
+		 * (Requirement 1.2.2)
+		 */
+		if (CandyLandDeck.isDouble(nextCard))
+		{
+			// The next space of the color after the nearest one
+			int nearest = playerPositions[playerIndex] + steps;
+			steps = BOARD.nextSpace(COLOR_VALUES[CandyLandDeck.color(nextCard)] - 1, nearest) - playerPositions[playerIndex];
+		}
+		return steps;
+	}
+
+	/**
+	 * @param	nextCard - the string of the card drawn
+	 * @return	the steps needed to reach the position from the drawn card
+	 */
+	public int calculateSteps(String nextCard)
+	{
+		return calculateSteps(CandyLandDeck.cardCode(nextCard));
+	}
+
+	/**
+	 * Move the current player based on card drawn,
+	 * taking shortcuts and licorice into account.
+	 *
+	 * @param	nextCard - card code of the card drawn
+	 * @param 	steps - number of steps the player piece will move
+	 */
+	public void movePlayer(int nextCard, int steps)
+	{
+		int from = playerPositions[playerIndex];
+		if (CandyLandDeck.isSpecial(nextCard))
+		{
+			//Special card drawn so set player position to value of special card
+			playerPositions[playerIndex] = steps;
+		}
+		else
+		{
+			//Normal movement card so add steps to current player position
+			playerPositions[playerIndex] += steps;
+		}
+
+		handleShortcuts();
+		handleLicorice();
+
+		// Prevent player position array from overflowing if there is a winner
+		if (playerPositions[playerIndex] >= MAX_POSITIONS)
+		{
+			playerPositions[playerIndex] = MAX_POSITIONS;
+		}
+		publishMove(from);
+	}
+
+	/**
+	 * @param	nextCard - the string of the card drawn
+	 * @param 	steps - number of steps the player piece will move
+	 */
+	public void movePlayer(String nextCard, int steps)
+	{
+		movePlayer(CandyLandDeck.cardCode(nextCard), steps);
+	}
+
+	/**
+	 * Determine if player landed on a shortcut location
+	 * (Requirement 4.0.1)
+	 */
+	private void handleShortcuts()
+	{
+		if (playerPositions[playerIndex] == CandyLandBoard.RAINBOW_TRAIL)
+		{
+			// Set player position to shortcut destination
+			playerPositions[playerIndex] = CandyLandBoard.RAINBOW_TRAIL_DESTINATION;
+			shortcutTaken[playerIndex] = true;
+		}
+		else if (playerPositions[playerIndex] == CandyLandBoard.GUMDROP_PASS)
+		{
+			// Set player position to shortcut destination
+			playerPositions[playerIndex] = CandyLandBoard.GUMDROP_PASS_DESTINATION;
+			shortcutTaken[playerIndex] = true;
+		}
+	}
+
+	/**
+	 * Determine if player landed on a licorice location
+	 * (Requirement 4.0.2)
+	 */
+	private void handleLicorice()
+	{
+		if (isLicorice(playerPositions[playerIndex]))
+		{
+			skipNextTurn[playerIndex] = true;
+		}
+	}
+
+	/**
+	 * @param	position - a game board position
+	 * @return	true if the position is a licorice space
+	 */
+	public boolean isLicorice(int position)
+	{
+		for (int licorice : CandyLandBoard.LICORICE_POSITIONS)
+		{
+			if (position == licorice)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Determine if a player has won the game
+	 * (Requirement 1.3.0)
+	 *
+	 * @return	true if a player won the game during this call
+	 */
+	public boolean checkWinner()
+	{
+		// Prevent multiple players from winning in the same round
+		if (gameWinner == -1)
+		{
+			for (int i = 0; i < players; i++)
+			{
+				if (playerPositions[i] >= MAX_POSITIONS)
+				{
+					activeGame = false;
+					gameWinner = i;
+					if (listening)
+					{
+						events.publish(CandyLandEvents.GAME_WON, i, 0, 0);
+					}
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Determine the number of steps a given color card will move a player
+	 *
+	 * @param	color - single color card code
+	 * @return	the number of steps the current player will be moved
+	 */
+	public int getStepsFromColor(int color)
+	{
+		// The nearest space of the drawn color, the finish if none is left
+		int position = playerPositions[playerIndex];
+		return BOARD.nextSpace(COLOR_VALUES[color] - 1, position) - position;
+	}
+
+	/**
+	 * @param	color - a card color
+	 * @return	the number of steps the current player will be moved
+	 */
+	public int getStepsFromColor(String color)
+	{
+		return getStepsFromColor(CandyLandDeck.cardCode(color));
+	}
+
+	/**
+	 * Determine the color of a playerPositions position
+	 *
+	 * @param	position - a location within the playerPositions array (0 : X)
+	 * @return	the color of the specified position, "Finish" for the finish which has no color
+	 */
+	public String getCurrentColor(int position)
+	{
+		int color = BOARD.getColor(position);
+		if (color == CandyLandBoard.NO_COLOR)
+		{
+			return "Finish";
+		}
+		return COLORS[color];
+	}
+
+	/**
+	 * Determine the value of a card
+	 *
+	 * @param	position - a location within the playerPositions array (0 : X)
+	 * @return	the game board value of the specified position, COLORS index + 1
+	 */
+	public int getCardValue(int position)
+	{
+		// Start position
+		if (position == 0)
+		{
+			// value of starting location
+			return 0;
+		}
+		// 0 for the finish, which has no color
+		return BOARD.getColor(position) + 1;
+	}
+
+	/**
+	 * Increment current player index
+	 * Starts over at 0 once it would reach the player count.
+	 */
+	public void incrementIndex()
+	{
+		playerIndex = playerIndex + 1 == players ? 0 : playerIndex + 1;
+	}
+
+	/**
+	 * Obtain the index of the current player.
+	 * 0 = User.
+	 * 1 : players - 1 = Computer.
+	 *
+	 * @return	the index of the current player
+	 */
+	public int getCurrentPlayerType()
+	{
+		return playerIndex;
+	}
+
+	/**
+	 * Set the index of the current player
+	 *
+	 * @param	index - the index of the player whose turn it is
+	 */
+	public void setCurrentPlayerType(int index)
+	{
+		playerIndex = index;
+	}
+
+	/**
+	 * Returns an integer representing the location of the specified player's index
+	 *
+	 * @param	index - the index of a player within playerIndex
+	 * @return	integer of the specified player's position on the game board
+	 */
+	public int getCurrentPositionIndex(int index)
+	{
+		return playerPositions[index];
+	}
+
+	/**
+	 * Check if there is a winner
+	 *
+	 * @return	integer indicating which player index won the game. Returns -1 if no winner.
+	 */
+	public int getWinner()
+	{
+		return gameWinner;
+	}
+
+	/**
+	 * Reset the current rounds' drawn cards.
+	 */
+	public void resetDrawnCards()
+	{
+		for (int i = 0; i < players; i++)
+		{
+			drawnCards[i][0] = null;
+		}
+	}
+
+	/**
+	 * Reset shortcuts taken boolean.
+	 */
+	public void resetShortcutTaken()
+	{
+		for (int i = 0; i < players; i++)
+		{
+			shortcutTaken[i] = false;
+		}
+	}
+}
@@ -0,0 +1,423 @@
+/**
+ * CandyLandJournal.java
+ * This class represents the autosave of the game being played.
+ * A snapshot of the game is saved in CandyLandLoad.AUTOSAVE_SLOT, then each turn
+ * appends a few bytes to saved_game_data_0.jnl, so the game is saved every turn
+ * without rewriting the snapshot. Loading restores the snapshot and replays the turns.
+ *
+ * header	4 bytes "CLJ2", 4 bytes checksum of the snapshot the journal continues,
+ * 			1 byte index of the player whose turn was next when the snapshot was taken,
+ * 			4 bytes turns played before the snapshot was taken
+ * turn		1 byte player index, 1 byte cards drawn (high 4 bits) and card played (low 4 bits),
+ * 			1 byte position the player finished on. No cards drawn means the turn was skipped on licorice.
+ *
+ * Turns are not forced to disk, so they survive the game crashing but not the computer.
+ * The journal is folded into a new snapshot once it grows past COMPACT_SIZE, or when the
+ * deck is reshuffled, as a shuffle cannot be replayed.
+ * Snapshots are written on the save thread, so only appending a turn runs on the render thread.
+ * Turns played while a snapshot is being written are kept and appended once its journal is started.
+ * The save index is updated with each snapshot and when recording stops, not every turn.
+ */
+
+package com.candyland.game;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+public class CandyLandJournal
+{
+	public final static int MAGIC = 0x434C4A32;
+	// journal size in bytes at which it is folded into a new snapshot
+	public final static int COMPACT_SIZE = 1024;
+
+	private final static int HEADER_SIZE = 13;
+	private final static int TURN_SIZE = 3;
+
+	private final int slotNumber;
+	private final CandyLandSaveService saves;
+	// used by the save thread, or by recover() before anything is recorded
+	private final CandyLandLoad snapshots = new CandyLandLoad();
+	private final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+
+	// only used by the render thread
+	private long size;
+	// deck size once every recorded turn has drawn its cards, a larger deck was reshuffled
+	private int deckSize;
+	// game whose turns were recorded since the save index was last updated, null if none
+	private CandyLandGame unindexed;
+
+	// shared by both threads, guarded by buffer
+	private final ByteBuffer buffer = ByteBuffer.allocate(COMPACT_SIZE);
+	private FileChannel journal;
+	// true while a snapshot is being written, turns wait in buffer until it is done
+	private boolean writing;
+	// counts snapshots taken, a snapshot overtaken by a newer one drops its journal
+	private int generation;
+
+	/**
+	 * @param saves - save thread the snapshots are written on
+	 */
+	public CandyLandJournal(CandyLandSaveService saves)
+	{
+		this(CandyLandLoad.AUTOSAVE_SLOT, saves);
+	}
+
+	/**
+	 * @param slotNumber - save game slot holding the snapshot
+	 * @param saves - save thread the snapshots are written on
+	 */
+	public CandyLandJournal(int slotNumber, CandyLandSaveService saves)
+	{
+		this.slotNumber = slotNumber;
+		this.saves = saves;
+	}
+
+	/**
+	 * Save a snapshot of the game in the background and start an empty journal continuing it.
+	 * The game is copied before returning, so it can keep changing.
+	 *
+	 * @param game - game to save
+	 * @param playerTokens - index of each player's player piece
+	 */
+	public void snapshot(CandyLandGame game, int[] playerTokens)
+	{
+		int[] tokens = playerTokens.clone();
+		int[] positions = game.playerPositions.clone();
+		boolean[] licorice = game.skipNextTurn.clone();
+		byte[] cards = new byte[game.deck.size()];
+		game.deck.getCards(cards);
+		int player = game.getCurrentPlayerType();
+		int turnCount = game.turnCount;
+
+		size = HEADER_SIZE;
+		deckSize = cards.length;
+		unindexed = null;
+		int snapshot;
+		synchronized (buffer)
+		{
+			closeJournal();
+			buffer.clear();
+			writing = true;
+			snapshot = ++generation;
+		}
+		saves.execute(() -> writeSnapshot(snapshot, tokens, positions, cards, licorice, player, turnCount));
+	}
+
+	/**
+	 * Write a snapshot and the header of its journal, then append the turns played meanwhile.
+	 * Runs on the save thread. If it fails, the next turn recorded takes a new snapshot.
+	 */
+	private void writeSnapshot(int snapshot, int[] tokens, int[] positions, byte[] cards, boolean[] licorice, int player, int turnCount)
+	{
+		FileChannel channel = null;
+		// a crash before the new header is written leaves a header of the old snapshot,
+		// which recover() ignores
+		if (snapshots.write(slotNumber, tokens, positions, cards, cards.length, licorice))
+		{
+			try
+			{
+				channel = FileChannel.open(journalPath(),
+						StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+				header.clear();
+				header.putInt(MAGIC);
+				header.putInt(snapshots.getChecksum());
+				header.put((byte) player);
+				header.putInt(turnCount);
+				header.flip();
+				write(channel, header);
+				CandyLandSlotIndex.update(slotNumber, turnCount, positions);
+			}
+			catch (IOException e)
+			{
+				if (CandyLandDebug.ENABLED)
+				{
+					System.err.println("Error writing to journal: " + e.getMessage());
+				}
+				close(channel);
+				channel = null;
+			}
+		}
+
+		synchronized (buffer)
+		{
+			if (snapshot != generation)
+			{
+				// a newer snapshot was taken while this one was written
+				close(channel);
+				return;
+			}
+			writing = false;
+			journal = channel;
+			buffer.flip();
+			appendTurns();
+		}
+	}
+
+	/**
+	 * Record a turn that has been played.
+	 * Takes a new snapshot instead if the journal is full, the deck was reshuffled
+	 * or the journal could not be written to.
+	 *
+	 * @param game - game the turn was played in
+	 * @param playerTokens - index of each player's player piece
+	 * @param player - index of the player whose turn it was
+	 * @param cardsDrawn - number of cards drawn in the turn, 0 if the turn was skipped
+	 * @param card - card code of the card played, ignored if the turn was skipped
+	 */
+	public void record(CandyLandGame game, int[] playerTokens, int player, int cardsDrawn, int card)
+	{
+		deckSize -= cardsDrawn;
+		boolean written;
+		synchronized (buffer)
+		{
+			written = (writing || journal != null) && game.deck.size() == deckSize && size + TURN_SIZE <= COMPACT_SIZE;
+			if (written)
+			{
+				if (!writing)
+				{
+					buffer.clear();
+				}
+				buffer.put((byte) player);
+				buffer.put((byte) (cardsDrawn << 4 | (cardsDrawn > 0 ? card : 0)));
+				buffer.put((byte) game.playerPositions[player]);
+				if (!writing)
+				{
+					buffer.flip();
+					written = appendTurns();
+				}
+			}
+		}
+
+		if (!written)
+		{
+			snapshot(game, playerTokens);
+			return;
+		}
+		size += TURN_SIZE;
+		unindexed = game;
+	}
+
+	/**
+	 * Append the turns in buffer to the journal, closing it if they cannot be written.
+	 * Called holding the buffer lock.
+	 *
+	 * @return true if the turns were written
+	 */
+	private boolean appendTurns()
+	{
+		if (journal == null)
+		{
+			return false;
+		}
+		try
+		{
+			write(journal, buffer);
+			return true;
+		}
+		catch (IOException e)
+		{
+			if (CandyLandDebug.ENABLED)
+			{
+				System.err.println("Error writing to journal: " + e.getMessage());
+			}
+			closeJournal();
+			return false;
+		}
+	}
+
+	/**
+	 * Restore the autosaved game: load the snapshot, then replay every complete turn
+	 * in the journal. Replay stops at the first turn that does not follow from the
+	 * game so far, such as one cut short by a crash.
+	 *
+	 * @param game - game to restore into
+	 * @return index of each player's player piece, null if there is no autosave
+	 */
+	public int[] recover(CandyLandGame game)
+	{
+		if (!snapshots.read(slotNumber))
+		{
+			return null;
+		}
+		game.setPlayerCount(snapshots.getPlayerPositions().length);
+		game.deck.setCards(snapshots.getCardCodes(), snapshots.getCardCount());
+		game.playerPositions = snapshots.getPlayerPositions();
+		game.skipNextTurn = snapshots.getLicoriceStatus();
+		int players = game.playerPositions.length;
+
+		byte[] turns;
+		try
+		{
+			turns = Files.readAllBytes(journalPath());
+		}
+		catch (IOException e)
+		{
+			turns = new byte[0];
+		}
+		ByteBuffer journal = ByteBuffer.wrap(turns);
+		if (turns.length < HEADER_SIZE || journal.getInt() != MAGIC || journal.getInt() != snapshots.getChecksum())
+		{
+			// no journal, or the journal of an older snapshot
+			return snapshots.getPlayerTokens();
+		}
+
+		int next = journal.get() & 0xFF;
+		game.setCurrentPlayerType(next < players ? next : 0);
+		game.turnCount = Math.max(journal.getInt(), 0);
+		int replayed = 0;
+		while (journal.remaining() >= TURN_SIZE)
+		{
+			int player = journal.get() & 0xFF;
+			int cards = journal.get() & 0xFF;
+			int position = journal.get() & 0xFF;
+			if (!replay(game, player, cards >> 4, cards & 0xF, position))
+			{
+				break;
+			}
+			replayed++;
+			game.turnCount++;
+		}
+
+		if (CandyLandDebug.ENABLED)
+		{
+			System.out.println("Replayed " + replayed + " turns from the journal.");
+		}
+		return snapshots.getPlayerTokens();
+	}
+
+	/**
+	 * Apply a recorded turn to the game.
+	 *
+	 * @return false if the turn could not have been played
+	 */
+	private boolean replay(CandyLandGame game, int player, int cardsDrawn, int card, int position)
+	{
+		if (player != game.getCurrentPlayerType() || cardsDrawn > 2 || position > CandyLandGame.MAX_POSITIONS
+				|| game.deck.size() < cardsDrawn)
+		{
+			return false;
+		}
+		if (cardsDrawn == 0)
+		{
+			// turn skipped on licorice
+			if (!game.skipNextTurn[player])
+			{
+				return false;
+			}
+			game.skipNextTurn[player] = false;
+		}
+		else
+		{
+			// the card played must be one of the cards on top of the deck
+			if (game.deck.peek() != card && (cardsDrawn == 1 || game.deck.get(1) != card))
+			{
+				return false;
+			}
+			for (int i = 0; i < cardsDrawn; i++)
+			{
+				game.deck.draw();
+			}
+			game.playerPositions[player] = position;
+			game.skipNextTurn[player] = game.isLicorice(position);
+		}
+		game.incrementIndex();
+		return true;
+	}
+
+	/**
+	 * Remove the autosave in the background, used once the game is over.
+	 */
+	public void delete()
+	{
+		unindexed = null;
+		stop();
+		saves.execute(() ->
+		{
+			CandyLandSlotIndex.remove(slotNumber);
+			try
+			{
+				Files.deleteIfExists(journalPath());
+				Files.deleteIfExists(Paths.get("saved_game_data_" + slotNumber + ".sav"));
+			}
+			catch (IOException e)
+			{
+				if (CandyLandDebug.ENABLED)
+				{
+					System.err.println("Error deleting autosave: " + e.getMessage());
+				}
+			}
+		});
+	}
+
+	/**
+	 * Stop recording, the autosave is kept.
+	 * The save index is updated in the background.
+	 */
+	public void close()
+	{
+		stop();
+		if (unindexed != null)
+		{
+			int turnCount = unindexed.turnCount;
+			int[] positions = unindexed.playerPositions.clone();
+			unindexed = null;
+			saves.execute(() -> CandyLandSlotIndex.update(slotNumber, turnCount, positions));
+		}
+	}
+
+	/**
+	 * Close the journal once any snapshot being written has appended its turns.
+	 */
+	private void stop()
+	{
+		saves.execute(() ->
+		{
+			synchronized (buffer)
+			{
+				closeJournal();
+			}
+		});
+	}
+
+	/**
+	 * Called holding the buffer lock.
+	 */
+	private void closeJournal()
+	{
+		close(journal);
+		journal = null;
+	}
+
+	private static void close(FileChannel channel)
+	{
+		if (channel != null)
+		{
+			try
+			{
+				channel.close();
+			}
+			catch (IOException e)
+			{
+				// nothing more will be written
+			}
+		}
+	}
+
+	private static void write(FileChannel channel, ByteBuffer buffer) throws IOException
+	{
+		while (buffer.hasRemaining())
+		{
+			channel.write(buffer);
+		}
+	}
+
+	private Path journalPath()
+	{
+		return Paths.get("saved_game_data_" + slotNumber + ".jnl");
+	}
+}
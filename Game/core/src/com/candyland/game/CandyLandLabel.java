@@ -0,0 +1,173 @@
+/**
+ * CandyLandLabel.java
+ * This class represents a piece of text drawn every frame.
+ * The glyphs are laid out once into a BitmapFontCache and only laid out again
+ * when the text, color or position changes, so drawing allocates nothing.
+ */
+
+package com.candyland.game;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.utils.Align;
+
+public class CandyLandLabel
+{
+	private final BitmapFontCache cache;
+
+	// what the cache currently holds
+	private String text;
+	private final Color color = new Color();
+	private float x;
+	private float y;
+	private boolean stacked;
+	private float width;
+	private float height;
+
+	/**
+	 * @param font - font the text is drawn with
+	 */
+	public CandyLandLabel(BitmapFont font)
+	{
+		cache = new BitmapFontCache(font, font.usesIntegerPositions());
+	}
+
+	/**
+	 * Create a label that never changes.
+	 *
+	 * @param font - font the text is drawn with
+	 * @param text - text to display
+	 * @param color - color of the text
+	 * @param x - left of the text
+	 * @param y - top of the text
+	 */
+	public CandyLandLabel(BitmapFont font, String text, Color color, float x, float y)
+	{
+		this(font);
+		setText(text, color, x, y);
+	}
+
+	/**
+	 * Set the text on a single line (or the lines given by new lines in the text).
+	 * The text is only laid out again if something changed.
+	 *
+	 * @param text - text to display
+	 * @param color - color of the text
+	 * @param x - left of the text
+	 * @param y - top of the text
+	 */
+	public void setText(String text, Color color, float x, float y)
+	{
+		if (isCached(text, color, false))
+		{
+			setPosition(x, y);
+			return;
+		}
+		cacheText(text, color, x, y, false);
+	}
+
+	/**
+	 * Set the text with each word on its own line, a blank line between words.
+	 * Used for card names on the drawn card display.
+	 * The text is only laid out again if something changed.
+	 *
+	 * @param text - words to display
+	 * @param color - color of the text
+	 * @param x - left of the text
+	 * @param y - top of the first word
+	 */
+	public void setWords(String text, Color color, float x, float y)
+	{
+		if (isCached(text, color, true))
+		{
+			setPosition(x, y);
+			return;
+		}
+		cacheText(text, color, x, y, true);
+	}
+
+	/**
+	 * Move the text without laying it out again.
+	 *
+	 * @param x - left of the text
+	 * @param y - top of the text
+	 */
+	public void setPosition(float x, float y)
+	{
+		if (x != this.x || y != this.y)
+		{
+			cache.translate(x - this.x, y - this.y);
+			this.x = x;
+			this.y = y;
+		}
+	}
+
+	public void draw(Batch batch)
+	{
+		cache.draw(batch);
+	}
+
+	/**
+	 * @return width of the widest line
+	 */
+	public float getWidth()
+	{
+		return width;
+	}
+
+	/**
+	 * @return height of the text, from the top of the first line to the baseline of the last
+	 */
+	public float getHeight()
+	{
+		return height;
+	}
+
+	private boolean isCached(String text, Color color, boolean stacked)
+	{
+		return text.equals(this.text) && color.equals(this.color) && stacked == this.stacked;
+	}
+
+	/**
+	 * Lay out the text into the cache.
+	 */
+	private void cacheText(String text, Color color, float x, float y, boolean stacked)
+	{
+		this.text = text;
+		this.color.set(color);
+		this.stacked = stacked;
+		this.x = x;
+		this.y = y;
+
+		cache.clear();
+		cache.setColor(color);
+		if (!stacked)
+		{
+			GlyphLayout layout = cache.addText(text, x, y);
+			width = layout.width;
+			height = layout.height;
+			return;
+		}
+
+		// one word per line, moving down twice the height of each word
+		width = 0;
+		float wordY = y;
+		int start = 0;
+		while (start <= text.length())
+		{
+			int end = text.indexOf(' ', start);
+			if (end < 0)
+			{
+				end = text.length();
+			}
+			GlyphLayout layout = cache.addText(text, x, wordY, start, end, 0, Align.left, false);
+			width = Math.max(width, layout.width);
+			wordY -= layout.height * 2;
+			start = end + 1;
+		}
+		height = y - wordY;
+	}
+}
@@ -0,0 +1,63 @@
+/**
+ * CandyLandListener.java
+ * This interface represents something told about a game as it is played,
+ * e.g. a screen animating pieces, sound effects, statistics or saving.
+ * Every event does nothing unless overridden, so a listener only handles the events it needs.
+ * Events are delivered on the thread playing the game, in the order they happened.
+ */
+
+package com.candyland.game;
+
+public interface CandyLandListener
+{
+	/**
+	 * A player has started their turn, before any card is drawn or the turn is skipped.
+	 *
+	 * @param player - index of the player
+	 * @param turn - number of turns played before this one
+	 */
+	default void onTurnStarted(int player, int turn) {}
+
+	/**
+	 * A player has drawn a card, every card drawn on Extreme difficulty is told.
+	 *
+	 * @param player - index of the player
+	 * @param card - card code of the card drawn
+	 */
+	default void onCardDrawn(int player, int card) {}
+
+	/**
+	 * A player's piece has moved, after any shortcut.
+	 *
+	 * @param player - index of the player
+	 * @param from - position the piece moved from
+	 * @param to - position the piece moved to
+	 */
+	default void onPieceMoved(int player, int from, int to) {}
+
+	/**
+	 * A player has taken a shortcut.
+	 * (Requirement 4.0.1)
+	 *
+	 * @param player - index of the player
+	 * @param position - position at the end of the shortcut
+	 */
+	default void onShortcutTaken(int player, int position) {}
+
+	/**
+	 * A player has landed on licorice and will miss their next turn.
+	 * (Requirement 4.0.2)
+	 *
+	 * @param player - index of the player
+	 * @param position - position of the licorice space
+	 */
+	default void onLicoriceHit(int player, int position) {}
+
+	/**
+	 * A player has reached the end of the board.
+	 * (Requirement 1.3.0)
+	 *
+	 * @param player - index of the winning player
+	 */
+	default void onGameWon(int player) {}
+}
@@ -1,218 +1,345 @@
 /**
  * CandyLandLoad.java
- * This class represents the saving and loading logic for Candy Land
+ * This class represents the saving and loading logic for Candy Land.
+ * Games are saved in a compact binary format, saved_game_data_X.sav:
+ *
+ * magic number		4 bytes, "CLSV"
+ * version			1 byte
+ * player count		1 byte
+ * player tokens	1 byte per player
+ * positions		1 varint per player, 7 bits per byte, high bit set if more bytes follow
+ * licorice status	1 bit per player, rounded up to whole bytes
+ * card count		1 byte
+ * cards			1 byte per card, the card code from CandyLandDeck, first card is drawn first
+ * checksum			4 bytes, CRC32 of everything before it (from version 2)
+ *
+ * A save is written to a temporary file, forced to disk and renamed over the slot,
+ * so a crash while saving leaves the previous save in place.
+ * Games saved as text by older versions, saved_game_data_X.txt, can still be loaded.
  */
 
 package com.candyland.game;
 
 import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.CRC32;
 
 public class CandyLandLoad
 {
+	public final static int MAGIC = 0x434C5356;
+	public final static int VERSION = 2;
+	// version reported for games saved as text by older versions
+	public final static int TEXT_VERSION = 0;
+	// slot written by the turn journal, separate from the slots the player saves to
+	public final static int AUTOSAVE_SLOT = 0;
+	// first version with a checksum
+	private final static int CHECKSUM_VERSION = 2;
+
+	private final static int MAX_PLAYERS = 255;
+	// magic, version, player count, tokens, positions (5 byte varints), licorice bits, card count, cards, checksum
+	private final static int MAX_SAVE_SIZE = 4 + 1 + 1 + MAX_PLAYERS * 6 + (MAX_PLAYERS + 7) / 8 + 1 + CandyLandDeck.DECK_SIZE + 4;
+
 	// Variables to store the save and load information
-	private List<String> cards;
+	private byte[] cardCodes = new byte[CandyLandDeck.DECK_SIZE];
+	private int cardCount;
 	private int[] playerPositions;
 	private int[] playerTokens;
 	private boolean[] licoriceStatus;
+	private int checksum;
+	private int version;
 
-	public CandyLandLoad()
-	{
-		cards = new ArrayList<>();
-	}
+	// every save is built in and every load parsed from this buffer
+	private final ByteBuffer buffer = ByteBuffer.allocate(MAX_SAVE_SIZE);
+	private final byte[] saveCards = new byte[CandyLandDeck.DECK_SIZE];
+	private final CRC32 crc = new CRC32();
 
 	/**
-	 * Check if a saved_game_data_X file exists for the given slot number.
+	 * Check if a save file exists for the given slot number.
 	 * If it exists, read the file and assign the information to the respective variables and return true.
-	 * If it does not exist, return false.
+	 * If it does not exist or is not a valid save, return false.
 	 * (Requirement 3.0.0)
-	 * 
-	 * @param slotNumber - integer indicating which save game slot to read from (1 : 3)
+	 *
+	 * @param slotNumber - integer indicating which save game slot to read from (1 : 3, or AUTOSAVE_SLOT)
 	 * @return boolean indicating if reading from specific slot was successful
 	 */
 	public boolean read(int slotNumber)
 	{
-		// three game save slots
+		// three game save slots and the autosave
 		// currently only utilizes slot 1 when pressing save
-		if (slotNumber < 1 || slotNumber > 3)
+		if (slotNumber < AUTOSAVE_SLOT || slotNumber > 3)
 		{
-			if (CandyLandMain.DEBUG)
+			if (CandyLandDebug.ENABLED)
 			{
 				System.err.println("Invalid slot number.");
 			}
 			return false;
 		}
-		// see if file exists and can be read
-		try (BufferedReader reader = new BufferedReader(new FileReader("saved_game_data_" + slotNumber + ".txt")))
+
+		boolean loaded;
+		if (Files.exists(savePath(slotNumber)))
 		{
-			// obtain entire string of saved characters
-			String line = reader.readLine();
+			loaded = readBinary(slotNumber);
+		}
+		else
+		{
+			// slot was last saved by an older version of the game
+			loaded = readText(slotNumber);
+		}
 
-			if (line == null || line.equals(""))
+		if (CandyLandDebug.ENABLED)
+		{
+			System.out.println(loaded ? "Slot " + slotNumber + " loaded." : "Slot " + slotNumber + " is empty.");
+		}
+		return loaded;
+	}
+
+	/**
+	 * Read a binary save into the respective variables.
+	 *
+	 * @param slotNumber - save game slot to read from
+	 * @return false if the file could not be read or is not a valid save
+	 */
+	private boolean readBinary(int slotNumber)
+	{
+		buffer.clear();
+		try (FileChannel channel = FileChannel.open(savePath(slotNumber), StandardOpenOption.READ))
+		{
+			// a save never fills the buffer, so a full buffer is not a save
+			int read = 0;
+			while (read >= 0 && buffer.hasRemaining())
 			{
-				// empty string, no saved game
-				if (CandyLandMain.DEBUG)
+				read = channel.read(buffer);
+			}
+			if (!buffer.hasRemaining())
+			{
+				return false;
+			}
+		}
+		catch (IOException e)
+		{
+			return false;
+		}
+		buffer.flip();
+
+		try
+		{
+			int saveVersion = buffer.getInt() == MAGIC ? buffer.get() : -1;
+			if (saveVersion < 1 || saveVersion > VERSION)
+			{
+				if (CandyLandDebug.ENABLED)
 				{
-					System.out.println("Slot " + slotNumber + " is empty.");
+					System.err.println("Slot " + slotNumber + " is not a saved game of this version.");
 				}
 				return false;
 			}
-			else
+			checksum = 0;
+			if (saveVersion >= CHECKSUM_VERSION)
 			{
-				// string exists
-				int firstLetter = 0;
-				int playerCounter = -1;
-
-				// obtain number of players
-				while (line.charAt(firstLetter) < 'A' || line.charAt(firstLetter) > 'Z')
+				// the checksum is the last 4 bytes, check it before trusting anything else
+				int end = buffer.limit() - 4;
+				if (end < buffer.position() || checksum(end) != buffer.getInt(end))
 				{
-					if (line.charAt(firstLetter) == '.')
+					if (CandyLandDebug.ENABLED)
 					{
-						playerCounter++;
+						System.err.println("Slot " + slotNumber + " is corrupted.");
 					}
-					firstLetter++;
+					return false;
+				}
+				checksum = buffer.getInt(end);
+				buffer.limit(end);
+			}
+
+			int players = buffer.get() & 0xFF;
+			if (players == 0)
+			{
+				return false;
+			}
+			int[] tokens = new int[players];
+			int[] positions = new int[players];
+			boolean[] licorice = new boolean[players];
+
+			for (int i = 0; i < players; i++)
+			{
+				tokens[i] = buffer.get();
+			}
+			for (int i = 0; i < players; i++)
+			{
+				positions[i] = getVarint(buffer);
+			}
+			int bits = 0;
+			for (int i = 0; i < players; i++)
+			{
+				if (i % 8 == 0)
+				{
+					bits = buffer.get();
+				}
+				licorice[i] = (bits & (1 << (i % 8))) != 0;
+			}
+
+			int cards = buffer.get() & 0xFF;
+			if (cards > CandyLandDeck.DECK_SIZE)
+			{
+				return false;
+			}
+			for (int i = 0; i < cards; i++)
+			{
+				byte code = buffer.get();
+				if (code < 0 || code >= CandyLandDeck.CARD_TYPES)
+				{
+					return false;
 				}
+				cardCodes[i] = code;
+			}
+
+			cardCount = cards;
+			playerTokens = tokens;
+			playerPositions = positions;
+			licoriceStatus = licorice;
+			version = saveVersion;
+			return true;
+		}
+		catch (BufferUnderflowException e)
+		{
+			// file ended early
+			return false;
+		}
+	}
+
+	/**
+	 * Read a save written as text by older versions of the game.
+	 * The text holds a difficulty ("0."), then for each player their token, a 0 or 1
+	 * for licorice status and their position followed by a '.', then a letter for each card,
+	 * 'A' being card code 0.
+	 *
+	 * @param slotNumber - save game slot to read from
+	 * @return false if there is no text save in the slot
+	 */
+	private boolean readText(int slotNumber)
+	{
+		// see if file exists and can be read
+		try (BufferedReader reader = new BufferedReader(new FileReader(textSavePath(slotNumber).toFile())))
+		{
+			// obtain entire string of saved characters
+			String line = reader.readLine();
 
-				// create variables to be filled by the saved information
-				playerPositions = new int[playerCounter];
-				playerTokens = new int[playerCounter];
-				licoriceStatus = new boolean[playerCounter];
-				boolean[] licoriceStatusValueChecked = new boolean[playerCounter];
+			if (line == null || line.equals(""))
+			{
+				// empty string, no saved game
+				return false;
+			}
 
-				// initialize variables otherwise gives null error
-				for (int i = 0; i < playerCounter; i++)
+			int firstLetter = 0;
+			int playerCounter = -1;
+
+			// obtain number of players
+			while (firstLetter < line.length() && (line.charAt(firstLetter) < 'A' || line.charAt(firstLetter) > 'Z'))
+			{
+				if (line.charAt(firstLetter) == '.')
 				{
-					playerPositions[i] = 0;
-					playerTokens[i] = -1;
-					licoriceStatus[i] = false;
-					licoriceStatusValueChecked[i] = false;
+					playerCounter++;
 				}
+				firstLetter++;
+			}
+			if (playerCounter < 1)
+			{
+				return false;
+			}
 
-				// clears card deck as cards variable is not re-initialized
-				cards.clear();
+			// create variables to be filled by the saved information
+			playerPositions = new int[playerCounter];
+			playerTokens = new int[playerCounter];
+			licoriceStatus = new boolean[playerCounter];
+			boolean[] licoriceStatusValueChecked = new boolean[playerCounter];
 
-				int currentPlayer = 0;
+			for (int i = 0; i < playerCounter; i++)
+			{
+				playerTokens[i] = -1;
+			}
 
-				// start at position 2 in the character string
-				//as first two locations are used for difficulty check
-				for (int i = 2; i < line.length(); i++)
+			cardCount = 0;
+			int currentPlayer = 0;
+
+			// start at position 2 in the character string
+			// as first two locations are used for difficulty check
+			for (int i = 2; i < line.length(); i++)
+			{
+				char c = line.charAt(i);
+				// integer input that isn't a card
+				if (c >= '0' && c <= '9' && currentPlayer < playerCounter)
 				{
-					// integer input that isn't a card
-					if (line.charAt(i) >= '0' && line.charAt(i) <= '9' )
+					// valid player piece index
+					if (playerTokens[currentPlayer] < 0)
 					{
-						// valid player piece index
-						if (playerTokens[currentPlayer] < 0)
-						{
-							playerTokens[currentPlayer] = line.charAt(i) - '0';
-						}
-						// add licorice status if the specific player index
-						// has not had their licorice status checked yet
-						else if (!licoriceStatusValueChecked[currentPlayer])
-						{
-							if (line.charAt(i) == '1')
-							{
-								licoriceStatus[currentPlayer] = true;
-							}
-							licoriceStatusValueChecked[currentPlayer] = true;
-						}
-						// player position
-						else
-						{
-							playerPositions[currentPlayer] *= 10;
-							playerPositions[currentPlayer] += line.charAt(i) - '0';
-						}
+						playerTokens[currentPlayer] = c - '0';
 					}
-					// increment player index
-					else if (line.charAt(i) == '.')
+					// add licorice status if the specific player index
+					// has not had their licorice status checked yet
+					else if (!licoriceStatusValueChecked[currentPlayer])
 					{
-						currentPlayer++;
+						licoriceStatus[currentPlayer] = c == '1';
+						licoriceStatusValueChecked[currentPlayer] = true;
 					}
-					// character input is a card within the card deck
-					else if (line.charAt(i) >= 'A' && line.charAt(i) <= 'Z' )
+					// player position
+					else
 					{
-						// valid card within the deck
-						switch (line.charAt(i))
-						{
-						case 'A':
-							cards.add("Red");
-							break;
-						case 'B':
-							cards.add("Orange");
-							break;
-						case 'C':
-							cards.add("Yellow");
-							break;
-						case 'D':
-							cards.add("Green");
-							break;
-						case 'E':
-							cards.add("Blue");
-							break;
-						case 'F':
-							cards.add("Purple");
-							break;
-						case 'G':
-							cards.add("Double Red");
-							break;
-						case 'H':
-							cards.add("Double Orange");
-							break;
-						case 'I':
-							cards.add("Double Yellow");
-							break;
-						case 'J':
-							cards.add("Double Green");
-							break;
-						case 'K':
-							cards.add("Double Blue");
-							break;
-						case 'L':
-							cards.add("Double Purple");
-							break;
-						case 'M':
-							cards.add("Peppermint Forest");
-							break;
-						case 'N':
-							cards.add("Gumdrop Mountains");
-							break;
-						case 'O':
-							cards.add("Peanut Acres");
-							break;
-						case 'P':
-							cards.add("Lollipop Woods");
-							break;
-						}
+						playerPositions[currentPlayer] = playerPositions[currentPlayer] * 10 + c - '0';
 					}
 				}
-				if (CandyLandMain.DEBUG)
+				// increment player index
+				else if (c == '.')
 				{
-					System.out.println("Slot " + slotNumber + " loaded.");
+					currentPlayer++;
+				}
+				// character input is a card within the card deck
+				else if (c >= 'A' && c < 'A' + CandyLandDeck.CARD_TYPES && cardCount < CandyLandDeck.DECK_SIZE)
+				{
+					cardCodes[cardCount++] = (byte) (c - 'A');
 				}
 			}
+			version = TEXT_VERSION;
+			return true;
 		}
 		catch (IOException e)
 		{
-			if (CandyLandMain.DEBUG)
-			{
-				System.err.println("Slot " + slotNumber + " is empty.");
-			}
 			return false;
 		}
-		return true;
 	}
 
 	/**
-	 * Write to saved_game_data_X, where X is indicated by the input integer slotNumber.
-	 * Values are passed as parameters and transitioned into a character output stream.
+	 * Write to saved_game_data_X.sav, where X is indicated by the input integer slotNumber.
 	 * This is necessary for writing arrays to a file, as libGDX's Preferences does
 	 * not support array saving / loading.
 	 * (Requirement 3.0.0)
-	 * 
+	 *
+	 * @param slotNumber - integer indicating which save game slot to write to.
+	 * @param playerTokens - integer array indicating index of each player's player piece. See GameScreen's setTextureString().
+	 * @param playerPositions - integer array indiciating each player's position on the board.
+	 * @param deck - the current card deck.
+	 * @param playerLicoriceStatus - boolean array indicating if next player's turn should be skipped due to being on a licorice location.
+	 * @return boolean indicating if writing to specific slot was successful
+	 */
+	public boolean write(int slotNumber, int[] playerTokens, int[] playerPositions, CandyLandDeck deck, boolean[] playerLicoriceStatus)
+	{
+		deck.getCards(saveCards);
+		return write(slotNumber, playerTokens, playerPositions, saveCards, deck.size(), playerLicoriceStatus);
+	}
+
+	/**
+	 * Write to saved_game_data_X.sav, taking the deck as card names.
+	 * (Requirement 3.0.0)
+	 *
 	 * @param slotNumber - integer indicating which save game slot to write to.
 	 * @param playerTokens - integer array indicating index of each player's player piece. See GameScreen's setTextureString().
 	 * @param playerPositions - integer array indiciating each player's position on the board.
@@ -220,120 +347,210 @@ public class CandyLandLoad
 	 * @param playerLicoriceStatus - boolean array indicating if next player's turn should be skipped due to being on a licorice location.
 	 * @return boolean indicating if writing to specific slot was successful
 	 */
-	public void write(int slotNumber, int[] playerTokens, int[] playerPositions, List<String> cards, boolean[] playerLicoriceStatus)
+	public boolean write(int slotNumber, int[] playerTokens, int[] playerPositions, List<String> cards, boolean[] playerLicoriceStatus)
 	{
-		// create output stream to store each paramater as a character
-		try (BufferedWriter writer = new BufferedWriter(new FileWriter("saved_game_data_" + slotNumber + ".txt")))
+		int count = Math.min(cards.size(), CandyLandDeck.DECK_SIZE);
+		for (int i = 0; i < count; i++)
 		{
-			// string to store all information from the characters generated
-			String toString = "";
+			saveCards[i] = (byte) CandyLandDeck.cardCode(cards.get(i));
+		}
+		return write(slotNumber, playerTokens, playerPositions, saveCards, count, playerLicoriceStatus);
+	}
 
-			// store difficulty
-			// currently not implemented
-			toString += "0.";
+	/**
+	 * Write to saved_game_data_X.sav, taking the deck as card codes.
+	 * (Requirement 3.0.0)
+	 *
+	 * @param slotNumber - integer indicating which save game slot to write to.
+	 * @param playerTokens - integer array indicating index of each player's player piece. See GameScreen's setTextureString().
+	 * @param playerPositions - integer array indiciating each player's position on the board.
+	 * @param cards - card codes of the current card deck, first card is drawn first.
+	 * @param cardCount - number of cards to take from cards.
+	 * @param playerLicoriceStatus - boolean array indicating if next player's turn should be skipped due to being on a licorice location.
+	 * @return boolean indicating if writing to specific slot was successful
+	 */
+	public boolean write(int slotNumber, int[] playerTokens, int[] playerPositions, byte[] cards, int cardCount, boolean[] playerLicoriceStatus)
+	{
+		int players = Math.min(playerPositions.length, MAX_PLAYERS);
 
-			// loop through each player index
-			for (int i = 0; i < playerPositions.length; i++)
+		buffer.clear();
+		buffer.putInt(MAGIC);
+		buffer.put((byte) VERSION);
+		buffer.put((byte) players);
+		for (int i = 0; i < players; i++)
+		{
+			buffer.put((byte) playerTokens[i]);
+		}
+		for (int i = 0; i < players; i++)
+		{
+			putVarint(buffer, playerPositions[i]);
+		}
+		int bits = 0;
+		for (int i = 0; i < players; i++)
+		{
+			if (playerLicoriceStatus[i])
 			{
-				// add the index of each player's player piece
-				toString += playerTokens[i];
-
-				// add status of skipNextTurn[] boolean
-				if (playerLicoriceStatus[i]) toString += '1';
-				else toString += '0';
-
-				// player's position on the board
-				toString += playerPositions[i];
-
-				toString += '.';
+				bits |= 1 << (i % 8);
+			}
+			if (i % 8 == 7 || i == players - 1)
+			{
+				buffer.put((byte) bits);
+				bits = 0;
 			}
+		}
+		buffer.put((byte) cardCount);
+		buffer.put(cards, 0, cardCount);
+		checksum = checksum(buffer.position());
+		buffer.putInt(checksum);
+		buffer.flip();
 
-			// each card in the current card deck saved as an associated character (letter)
-			for (String card : cards)
+		Path save = savePath(slotNumber);
+		Path temporary = Paths.get(save + ".tmp");
+		try
+		{
+			try (FileChannel channel = FileChannel.open(temporary,
+					StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING))
 			{
-				switch (card)
+				while (buffer.hasRemaining())
 				{
-				case "Red":
-					toString += 'A';
-					break;
-				case "Orange":
-					toString += 'B';
-					break;
-				case "Yellow":
-					toString += 'C';
-					break;
-				case "Green":
-					toString += 'D';
-					break;
-				case "Blue":
-					toString += 'E';
-					break;
-				case "Purple":
-					toString += 'F';
-					break;
-				case "Double Red":
-					toString += 'G';
-					break;
-				case "Double Orange":
-					toString += 'H';
-					break;
-				case "Double Yellow":
-					toString += 'I';
-					break;
-				case "Double Green":
-					toString += 'J';
-					break;
-				case "Double Blue":
-					toString += 'K';
-					break;
-				case "Double Purple":
-					toString += 'L';
-					break;
-				case "Peppermint Forest":
-					toString += 'M';
-					break;
-				case "Gumdrop Mountains":
-					toString += 'N';
-					break;
-				case "Peanut Acres":
-					toString += 'O';
-					break;
-				case "Lollipop Woods":
-					toString += 'P';
-					break;
+					channel.write(buffer);
 				}
+				// the save must be on disk before it replaces the previous one
+				channel.force(false);
+			}
+			try
+			{
+				Files.move(temporary, save, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			}
+			catch (AtomicMoveNotSupportedException e)
+			{
+				Files.move(temporary, save, StandardCopyOption.REPLACE_EXISTING);
 			}
-			// write final string of characters to file
-			writer.write(toString);
-			if (CandyLandMain.DEBUG)
+			if (CandyLandDebug.ENABLED)
 			{
 				System.out.println("Game saved in Slot " + slotNumber + ".");
 			}
+			return true;
 		}
 		catch (IOException e)
 		{
-			if (CandyLandMain.DEBUG)
+			if (CandyLandDebug.ENABLED)
 			{
 				System.err.println("Error writing to file: " + e.getMessage());
 			}
+			return false;
 		}
 	}
 
+	/**
+	 * @param length - number of bytes from the start of the buffer to check
+	 * @return CRC32 of the first length bytes of the buffer
+	 */
+	private int checksum(int length)
+	{
+		crc.reset();
+		crc.update(buffer.array(), 0, length);
+		return (int) crc.getValue();
+	}
+
+	/**
+	 * Write an unsigned integer 7 bits at a time, low bits first.
+	 */
+	private static void putVarint(ByteBuffer buffer, int value)
+	{
+		while ((value & ~0x7F) != 0)
+		{
+			buffer.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte) value);
+	}
+
+	private static int getVarint(ByteBuffer buffer)
+	{
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7)
+		{
+			byte b = buffer.get();
+			value |= (b & 0x7F) << shift;
+			if (b >= 0)
+			{
+				return value;
+			}
+		}
+		throw new BufferUnderflowException();
+	}
+
+	private static Path savePath(int slotNumber)
+	{
+		return Paths.get("saved_game_data_" + slotNumber + ".sav");
+	}
+
+	private static Path textSavePath(int slotNumber)
+	{
+		return Paths.get("saved_game_data_" + slotNumber + ".txt");
+	}
+
 	/**
 	 * Obtain list of current deck of cards.
 	 * Utilized for saving/loading.
-	 * 
+	 *
 	 * @return	list of cards in the deck
 	 */
 	public List<String> getCards()
 	{
+		List<String> cards = new ArrayList<>(cardCount);
+		for (int i = 0; i < cardCount; i++)
+		{
+			cards.add(CandyLandDeck.cardName(cardCodes[i]));
+		}
 		return cards;
 	}
 
+	/**
+	 * Obtain the card codes of the loaded deck, first card is drawn first.
+	 * Only the first getCardCount() codes are part of the deck.
+	 *
+	 * @return	card codes of the loaded deck
+	 */
+	public byte[] getCardCodes()
+	{
+		return cardCodes;
+	}
+
+	/**
+	 * @return	number of cards in the loaded deck
+	 */
+	public int getCardCount()
+	{
+		return cardCount;
+	}
+
+	/**
+	 * Identifies the save last written or read, used by the turn journal
+	 * to check it continues that save.
+	 *
+	 * @return	CRC32 of the save last written or read
+	 */
+	public int getChecksum()
+	{
+		return checksum;
+	}
+
+	/**
+	 * Format of the save last read, shown in the save index.
+	 *
+	 * @return	version of the binary save, TEXT_VERSION for a text save
+	 */
+	public int getVersion()
+	{
+		return version;
+	}
+
 	/**
 	 * Obtain array of each player's positions.
 	 * Utilized for saving/loading.
-	 * 
+	 *
 	 * @return	integer array with player positions
 	 */
 	public int[] getPlayerPositions()
@@ -344,7 +561,7 @@ public class CandyLandLoad
 	/**
 	 * Obtain each player's game piece.
 	 * Utilized for saving/loading.
-	 * 
+	 *
 	 * @return	integer array with index of each player's game piece token
 	 */
 	public int[] getPlayerTokens()
@@ -355,7 +572,7 @@ public class CandyLandLoad
 	/**
 	 * Obtain licorice status of each player indicating if their next turn will be skipped.
 	 * Utilized for saving/loading.
-	 * 
+	 *
 	 * @return	boolean array with status of needing to skip next turn
 	 */
 	public boolean[] getLicoriceStatus()
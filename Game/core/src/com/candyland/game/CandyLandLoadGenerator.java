@@ -0,0 +1,399 @@
+/**
+ * CandyLandLoadGenerator.java
+ * This class represents simulated clients playing games on a CandyLandServer, used to measure it.
+ * Every client connects, starts a game and plays turns one request at a time,
+ * starting a new game whenever one is won, until it has played its turns.
+ * Clients wait a random think time between turns, as players do, so thousands of mostly idle clients
+ * offer a steady load rather than all asking at once; with no think time every client plays
+ * as fast as the server answers.
+ * The latency of each turn, from sending the request to reading the whole reply, is recorded
+ * and reported as percentiles.
+ */
+
+package com.candyland.game;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class CandyLandLoadGenerator
+{
+	// the default game, the user and three computers on Extreme difficulty
+	private final static int PLAYERS = CandyLandGame.GAME_PIECES;
+	private final static int DIFFICULTY = 1;
+
+	// client reply states
+	private final static int WAITING = 0;
+	private final static int REPLIED = 1;
+	private final static int DONE = 2;
+
+	private final InetSocketAddress address;
+	private final int threads;
+	private final long seed;
+	private final long thinkTime;
+
+	/**
+	 * @param address - address of the server
+	 * @param threads - number of threads driving the clients, each with its own selector
+	 * @param seed - master seed of the games' seeds
+	 * @param thinkTime - average nanoseconds a client waits after a reply before its next request,
+	 * each wait is between half and one and a half times as long
+	 */
+	public CandyLandLoadGenerator(InetSocketAddress address, int threads, long seed, long thinkTime)
+	{
+		this.address = address;
+		this.threads = Math.max(1, threads);
+		this.seed = seed;
+		this.thinkTime = thinkTime;
+	}
+
+	/**
+	 * Connect the clients and play until every client has played its turns.
+	 *
+	 * @param clients - number of clients, each its own connection and session
+	 * @param turns - turns played by each client
+	 * @return latencies of every turn played
+	 */
+	public Results run(int clients, int turns)
+	{
+		SplittableRandom master = new SplittableRandom(seed);
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try
+		{
+			List<Future<Results>> futures = new ArrayList<>();
+			for (int i = 0; i < threads; i++)
+			{
+				// first (clients % threads) threads drive one extra client
+				int threadClients = clients / threads + (i < clients % threads ? 1 : 0);
+				SplittableRandom random = master.split();
+				futures.add(pool.submit(() -> drive(threadClients, turns, random)));
+			}
+
+			Results total = new Results(0);
+			for (Future<Results> future : futures)
+			{
+				total.add(future.get());
+			}
+			// sorted once every share is in, for the percentiles
+			Arrays.sort(total.latencies, 0, total.turns);
+			return total;
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Load test interrupted", e);
+		}
+		catch (ExecutionException e)
+		{
+			throw new IllegalStateException("Load test failed", e.getCause());
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Drive a share of the clients on the calling thread.
+	 */
+	private Results drive(int clients, int turns, SplittableRandom random) throws IOException
+	{
+		Results results = new Results(clients * turns);
+		long start = System.nanoTime();
+		int finished = 0;
+		// clients thinking before their next request, the first due first
+		PriorityQueue<Client> thinking = new PriorityQueue<>((a, b) -> Long.compare(a.due, b.due));
+		try (Selector selector = Selector.open())
+		{
+			for (int i = 0; i < clients; i++)
+			{
+				SocketChannel channel = SocketChannel.open();
+				channel.configureBlocking(false);
+				channel.socket().setTcpNoDelay(true);
+				Client client = new Client(channel, turns, random.nextLong());
+				if (channel.connect(address))
+				{
+					client.newGame(channel);
+					channel.register(selector, SelectionKey.OP_READ, client);
+				}
+				else
+				{
+					channel.register(selector, SelectionKey.OP_CONNECT, client);
+				}
+			}
+
+			while (finished < clients)
+			{
+				long now = System.nanoTime();
+				while (!thinking.isEmpty() && thinking.peek().due <= now)
+				{
+					Client client = thinking.poll();
+					client.next(client.channel);
+				}
+				// wait for replies, or until the next client is done thinking
+				long wait = thinking.isEmpty() ? 0 : thinking.peek().due - now;
+				selector.select(wait > 0 ? Math.max(1, wait / 1000000) : 0);
+				Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+				while (keys.hasNext())
+				{
+					SelectionKey key = keys.next();
+					keys.remove();
+					SocketChannel channel = (SocketChannel) key.channel();
+					Client client = (Client) key.attachment();
+					int state;
+					try
+					{
+						if (key.isConnectable())
+						{
+							channel.finishConnect();
+							client.newGame(channel);
+							key.interestOps(SelectionKey.OP_READ);
+							state = WAITING;
+						}
+						else
+						{
+							state = client.read(channel, results);
+						}
+						if (state == REPLIED && thinkTime > 0)
+						{
+							client.due = System.nanoTime() + thinkTime / 2 + random.nextLong(thinkTime);
+							thinking.add(client);
+						}
+						else if (state == REPLIED)
+						{
+							client.next(channel);
+						}
+					}
+					catch (IOException e)
+					{
+						// refused or dropped by the server
+						results.errors++;
+						state = DONE;
+					}
+					if (state == DONE)
+					{
+						key.cancel();
+						channel.close();
+						finished++;
+					}
+				}
+			}
+		}
+		results.nanoseconds = System.nanoTime() - start;
+		return results;
+	}
+
+	/**
+	 * One simulated client and the request it is waiting on.
+	 */
+	private static class Client
+	{
+		final SocketChannel channel;
+		final ByteBuffer request = ByteBuffer.allocate(CandyLandServer.NEW_GAME_SIZE);
+		final ByteBuffer reply = ByteBuffer.allocate(CandyLandServer.REPLY_HEADER_SIZE + PLAYERS);
+		final SplittableRandom random;
+		int turnsLeft;
+		// System.nanoTime() the waiting turn was requested, 0 while waiting on a new game
+		long sent;
+		// true if the last reply was for a game that has been won
+		boolean won;
+		// System.nanoTime() the client stops thinking
+		long due;
+
+		Client(SocketChannel channel, int turns, long seed)
+		{
+			this.channel = channel;
+			turnsLeft = turns;
+			random = new SplittableRandom(seed);
+		}
+
+		void newGame(SocketChannel channel) throws IOException
+		{
+			request.clear();
+			request.put((byte) CandyLandServer.NEW_GAME);
+			request.put((byte) PLAYERS);
+			request.put((byte) DIFFICULTY);
+			request.putLong(random.nextLong());
+			send(channel);
+			sent = 0;
+		}
+
+		void turn(SocketChannel channel) throws IOException
+		{
+			request.clear();
+			request.put((byte) CandyLandServer.TURN);
+			sent = System.nanoTime();
+			send(channel);
+		}
+
+		void send(SocketChannel channel) throws IOException
+		{
+			request.flip();
+			// requests are a few bytes, the socket always takes them whole
+			while (request.hasRemaining())
+			{
+				channel.write(request);
+			}
+		}
+
+		/**
+		 * Read the reply waited on.
+		 *
+		 * @return REPLIED once the reply is whole, WAITING until then,
+		 * DONE once the client has played its turns or the server refused a request
+		 */
+		int read(SocketChannel channel, Results results) throws IOException
+		{
+			if (channel.read(reply) < 0)
+			{
+				results.errors++;
+				return DONE;
+			}
+			if (reply.position() > 0 && reply.get(0) != CandyLandServer.OK)
+			{
+				results.errors++;
+				return DONE;
+			}
+			if (reply.position() < CandyLandServer.REPLY_HEADER_SIZE
+					|| reply.position() < CandyLandServer.REPLY_HEADER_SIZE + (reply.get(3) & 0xFF))
+			{
+				return WAITING;
+			}
+			won = (reply.get(2) & 0xFF) != CandyLandServer.NO_WINNER;
+			reply.clear();
+
+			if (sent != 0)
+			{
+				results.record(System.nanoTime() - sent);
+				turnsLeft--;
+				if (won)
+				{
+					results.games++;
+				}
+			}
+			return turnsLeft == 0 ? DONE : REPLIED;
+		}
+
+		/**
+		 * Send the request after a reply, a new game once the last one was won.
+		 */
+		void next(SocketChannel channel) throws IOException
+		{
+			if (won)
+			{
+				newGame(channel);
+			}
+			else
+			{
+				turn(channel);
+			}
+		}
+	}
+
+	/**
+	 * Latencies of the turns played by a share of the clients, or by all of them.
+	 */
+	public static class Results
+	{
+		// latency of each turn in nanoseconds
+		private long[] latencies;
+		private int turns;
+		public long games;
+		public long errors;
+		// longest time any thread took to drive its clients
+		public long nanoseconds;
+
+		private Results(int expectedTurns)
+		{
+			latencies = new long[expectedTurns];
+		}
+
+		private void record(long latency)
+		{
+			if (turns == latencies.length)
+			{
+				latencies = Arrays.copyOf(latencies, Math.max(16, turns * 2));
+			}
+			latencies[turns++] = latency;
+		}
+
+		private void add(Results other)
+		{
+			latencies = Arrays.copyOf(latencies, turns + other.turns);
+			System.arraycopy(other.latencies, 0, latencies, turns, other.turns);
+			turns += other.turns;
+			games += other.games;
+			errors += other.errors;
+			nanoseconds = Math.max(nanoseconds, other.nanoseconds);
+		}
+
+		/**
+		 * @return number of turns played
+		 */
+		public int getTurns()
+		{
+			return turns;
+		}
+
+		/**
+		 * @param percentile - percentile of the turns (0 : 100)
+		 * @return latency in nanoseconds that the given percentage of turns took at most, 0 if no turn was played
+		 */
+		public long latency(double percentile)
+		{
+			if (turns == 0)
+			{
+				return 0;
+			}
+			int rank = (int) Math.ceil(percentile / 100 * turns) - 1;
+			return latencies[Math.min(Math.max(rank, 0), turns - 1)];
+		}
+	}
+
+	/**
+	 * Run a load test from the command line.
+	 * Arguments: [clients] [turns per client] [think time in milliseconds]
+	 * [port, 0 to start a server in this process] [host] [threads]
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		int clients = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+		int turns = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+		long thinkTime = TimeUnit.MILLISECONDS.toNanos(args.length > 2 ? Long.parseLong(args[2]) : 1000);
+		int port = args.length > 3 ? Integer.parseInt(args[3]) : 0;
+		String host = args.length > 4 ? args[4] : "localhost";
+		int threads = args.length > 5 ? Integer.parseInt(args[5]) : Runtime.getRuntime().availableProcessors();
+
+		CandyLandServer server = null;
+		if (port == 0)
+		{
+			server = new CandyLandServer(0, threads);
+			port = server.getPort();
+		}
+		Results results = new CandyLandLoadGenerator(new InetSocketAddress(host, port), threads, 0, thinkTime).run(clients, turns);
+		if (server != null)
+		{
+			server.close();
+		}
+
+		double seconds = results.nanoseconds / 1e9;
+		System.out.println(clients + " clients played " + results.getTurns() + " turns (" + results.games + " games) in " + String.format("%.2f", seconds)
+				+ "s (" + String.format("%.0f", results.getTurns() / seconds) + " turns/s), " + results.errors + " errors");
+		System.out.println("Turn latency p50 " + String.format("%.1f", results.latency(50) / 1e3) + " us, p99 " + String.format("%.1f", results.latency(99) / 1e3)
+				+ " us, p99.9 " + String.format("%.1f", results.latency(99.9) / 1e3) + " us, max " + String.format("%.1f", results.latency(100) / 1e3) + " us");
+	}
+}
@@ -0,0 +1,295 @@
+/**
+ * CandyLandLoadTest.java
+ * This class represents the white box testing for saving and loading games,
+ * in the binary save format and the text format of older versions
+ */
+
+package com.candyland.game;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class CandyLandLoadTest
+{
+	private final static int SLOT = 3;
+
+	@After
+	public void deleteSaves() throws IOException
+	{
+		Files.deleteIfExists(Paths.get("saved_game_data_" + SLOT + ".sav"));
+		Files.deleteIfExists(Paths.get("saved_game_data_" + SLOT + ".txt"));
+		Files.deleteIfExists(Paths.get("saved_game_data_" + SLOT + ".sav.tmp"));
+		Files.deleteIfExists(Paths.get("saved_game_data_" + SLOT + ".jnl"));
+		Files.deleteIfExists(Paths.get("test.rpl"));
+		Files.deleteIfExists(Paths.get("saved_games.idx"));
+	}
+
+	/*
+	 * Testing:
+	 * A saved game loads back with the same pieces, positions, licorice status and deck
+	 * (Requirement 3.0.0)
+	 */
+	@Test
+	public void binaryRoundTrip()
+	{
+		CandyLandDeck deck = new CandyLandDeck(new SplittableRandom(7));
+		deck.reset();
+		deck.draw();
+		int[] tokens = {2, 0, 3, 1};
+		int[] positions = {5, 128, 0, 135};
+		boolean[] licorice = {false, true, false, true};
+
+		CandyLandLoad saver = new CandyLandLoad();
+		saver.write(SLOT, tokens, positions, deck, licorice);
+
+		CandyLandLoad loader = new CandyLandLoad();
+		assertTrue(loader.read(SLOT));
+		assertArrayEquals(tokens, loader.getPlayerTokens());
+		assertArrayEquals(positions, loader.getPlayerPositions());
+		assertArrayEquals(licorice, loader.getLicoriceStatus());
+		assertEquals(deck.toCardNames(), loader.getCards());
+		assertEquals(CandyLandLoad.VERSION, loader.getVersion());
+
+		CandyLandDeck loadedDeck = new CandyLandDeck(new SplittableRandom(0));
+		loadedDeck.setCards(loader.getCardCodes(), loader.getCardCount());
+		assertEquals(deck.toCardNames(), loadedDeck.toCardNames());
+	}
+
+	/*
+	 * Testing:
+	 * Games saved as text by older versions still load, and the rebuilt save index
+	 * lists them as text saves whose turn count is not known
+	 * (Requirement 3.0.0)
+	 */
+	@Test
+	public void readsTextSave() throws IOException
+	{
+		// tokens 0-3, player 1 on licorice, positions 12, 47, 99 and 135, then Red, Double Blue and Lollipop Woods
+		Files.write(Paths.get("saved_game_data_" + SLOT + ".txt"), "0.0012.1147.2099.30135.AKP".getBytes("US-ASCII"));
+
+		CandyLandLoad loader = new CandyLandLoad();
+		assertTrue(loader.read(SLOT));
+		assertArrayEquals(new int[] {0, 1, 2, 3}, loader.getPlayerTokens());
+		assertArrayEquals(new int[] {12, 47, 99, 135}, loader.getPlayerPositions());
+		assertArrayEquals(new boolean[] {false, true, false, false}, loader.getLicoriceStatus());
+		assertEquals(3, loader.getCardCount());
+		assertEquals("Red", CandyLandDeck.cardName(loader.getCardCodes()[0]));
+		assertEquals("Double Blue", CandyLandDeck.cardName(loader.getCardCodes()[1]));
+		assertEquals("Lollipop Woods", CandyLandDeck.cardName(loader.getCardCodes()[2]));
+		assertEquals(CandyLandLoad.TEXT_VERSION, loader.getVersion());
+
+		Files.deleteIfExists(Paths.get("saved_games.idx"));
+		CandyLandSlotIndex.Entry entry = CandyLandSlotIndex.read()[SLOT];
+		assertEquals(CandyLandLoad.TEXT_VERSION, entry.version);
+		assertEquals(CandyLandSlotIndex.UNKNOWN_TURN_COUNT, entry.turnCount);
+		assertEquals(135, entry.leaderPosition);
+	}
+
+	/*
+	 * Testing:
+	 * A file that is not a save, or is cut short, does not load
+	 * (Requirement 3.0.0)
+	 */
+	@Test
+	public void rejectsInvalidSave() throws IOException
+	{
+		CandyLandLoad loader = new CandyLandLoad();
+		assertFalse(loader.read(SLOT));
+
+		Files.write(Paths.get("saved_game_data_" + SLOT + ".sav"), new byte[] {'C', 'L', 'S', 'V', 1, 4, 0});
+		assertFalse(loader.read(SLOT));
+
+		Files.write(Paths.get("saved_game_data_" + SLOT + ".sav"), "0.0012.AKP".getBytes("US-ASCII"));
+		assertFalse(loader.read(SLOT));
+	}
+
+	/*
+	 * Testing:
+	 * A save that was changed on disk is detected by its checksum,
+	 * and saving leaves no temporary file behind
+	 * (Requirement 3.0.0)
+	 */
+	@Test
+	public void detectsCorruptedSave() throws IOException
+	{
+		CandyLandDeck deck = new CandyLandDeck(new SplittableRandom(7));
+		deck.reset();
+		CandyLandLoad loader = new CandyLandLoad();
+		loader.write(SLOT, new int[] {0, 1, 2, 3}, new int[] {12, 47, 99, 135}, deck, new boolean[4]);
+		assertFalse(Files.exists(Paths.get("saved_game_data_" + SLOT + ".sav.tmp")));
+		assertTrue(loader.read(SLOT));
+
+		byte[] save = Files.readAllBytes(Paths.get("saved_game_data_" + SLOT + ".sav"));
+		save[save.length / 2] ^= 1;
+		Files.write(Paths.get("saved_game_data_" + SLOT + ".sav"), save);
+		assertFalse(loader.read(SLOT));
+	}
+
+	/*
+	 * Testing:
+	 * Background saves write the latest state, every caller is told the save completed,
+	 * and later changes to the game do not reach a save already requested
+	 * (Requirement 3.0.0)
+	 */
+	@Test
+	public void backgroundSaves()
+	{
+		CandyLandDeck deck = new CandyLandDeck(new SplittableRandom(7));
+		deck.reset();
+		int[] tokens = {0, 1, 2, 3};
+		int[] positions = {12, 47, 99, 135};
+		boolean[] licorice = new boolean[4];
+		AtomicInteger saved = new AtomicInteger();
+
+		CandyLandSaveService saves = new CandyLandSaveService();
+		for (int i = 0; i < 10; i++)
+		{
+			positions[0] = i;
+			saves.save(SLOT, tokens, positions, deck, licorice, i, success ->
+			{
+				if (success)
+				{
+					saved.incrementAndGet();
+				}
+			});
+		}
+		positions[0] = 100;
+		saves.dispose();
+
+		assertEquals(10, saved.get());
+		CandyLandLoad loader = new CandyLandLoad();
+		assertTrue(loader.read(SLOT));
+		assertEquals(9, loader.getPlayerPositions()[0]);
+	}
+
+	/*
+	 * Testing:
+	 * A game autosaved by the turn journal, through reshuffles and compactions,
+	 * recovers to the exact turn, ignoring a turn cut short
+	 * (Requirement 3.0.0)
+	 */
+	@Test
+	public void journalRecoversExactTurn() throws IOException
+	{
+		int[] tokens = {0, 1, 2, 3};
+		CandyLandGame game = new CandyLandGame(new SplittableRandom(11));
+		game.extremeDifficulty = true;
+		game.newGame();
+		game.activeGame = true;
+
+		CandyLandSaveService saves = new CandyLandSaveService();
+		CandyLandJournal journal = new CandyLandJournal(SLOT, saves);
+		journal.snapshot(game, tokens);
+		for (int turn = 0; turn < 150 && !game.checkWinner(); turn++)
+		{
+			int player = game.getCurrentPlayerType();
+			if (game.skipNextTurn[player])
+			{
+				game.skipNextTurn[player] = false;
+				game.incrementIndex();
+				journal.record(game, tokens, player, 0, 0);
+			}
+			else
+			{
+				int card = player != 0 ? game.drawComputerCard() : game.drawNextCard();
+				game.playCard(card);
+				game.incrementIndex();
+				journal.record(game, tokens, player, player != 0 ? 2 : 1, card);
+			}
+		}
+		journal.close();
+		saves.dispose();
+		Files.write(Paths.get("saved_game_data_" + SLOT + ".jnl"), new byte[] {1}, StandardOpenOption.APPEND);
+
+		CandyLandGame recovered = new CandyLandGame(new SplittableRandom(0));
+		assertArrayEquals(tokens, new CandyLandJournal(SLOT, saves).recover(recovered));
+		assertArrayEquals(game.playerPositions, recovered.playerPositions);
+		assertArrayEquals(game.skipNextTurn, recovered.skipNextTurn);
+		assertEquals(game.getCurrentPlayerType(), recovered.getCurrentPlayerType());
+		assertEquals(game.deck.toCardNames(), recovered.deck.toCardNames());
+	}
+
+	/*
+	 * Testing:
+	 * A recorded game replays to the same state at every turn, from its file,
+	 * with no card differing from the recording
+	 * (Requirement 1.1.1)
+	 */
+	@Test
+	public void replayReproducesGame()
+	{
+		int[] tokens = {2, 0, 3, 1};
+		CandyLandReplay recording = new CandyLandReplay(1234, CandyLandStrategy.EXTREME, tokens);
+		CandyLandGame game = recording.createGame();
+		int[][] positions = new int[1000][];
+		while (game.activeGame)
+		{
+			// played and recorded the way GameScreen does
+			int turn = game.turnCount++;
+			positions[turn] = game.playerPositions.clone();
+			int player = game.getCurrentPlayerType();
+			if (game.skipNextTurn[player])
+			{
+				game.skipNextTurn[player] = false;
+				recording.record(CandyLandReplay.SKIPPED);
+			}
+			else
+			{
+				int card = recording.drawCard(game, turn);
+				game.playCard(card);
+				game.checkWinner();
+				recording.record(card);
+			}
+			game.incrementIndex();
+		}
+		assertTrue(recording.write(Paths.get("test.rpl")));
+
+		CandyLandReplay replay = CandyLandReplay.read(Paths.get("test.rpl"));
+		assertNotNull(replay);
+		assertEquals(game.turnCount, replay.getTurnCount());
+		assertArrayEquals(tokens, replay.getPlayerTokens());
+		for (int turn = 0; turn < replay.getTurnCount(); turn += 7)
+		{
+			assertArrayEquals(positions[turn], replay.seek(turn).playerPositions);
+		}
+		CandyLandGame end = replay.seek(replay.getTurnCount());
+		assertArrayEquals(game.playerPositions, end.playerPositions);
+		assertEquals(game.gameWinner, end.gameWinner);
+		assertFalse(replay.hasDiverged());
+	}
+
+	/*
+	 * Testing:
+	 * A background save is listed in the save index with its turn count and leader,
+	 * and deleting it removes it from the index
+	 */
+	@Test
+	public void indexListsSaves()
+	{
+		CandyLandDeck deck = new CandyLandDeck(new SplittableRandom(7));
+		deck.reset();
+		CandyLandSaveService saves = new CandyLandSaveService();
+		saves.save(SLOT, new int[] {1, 2, 3, 4}, new int[] {12, 40, 3, 0}, deck, new boolean[4], 21, null);
+		saves.dispose();
+
+		CandyLandSlotIndex.Entry entry = CandyLandSlotIndex.read()[SLOT];
+		assertEquals(SLOT, entry.slotNumber);
+		assertEquals(CandyLandLoad.VERSION, entry.version);
+		assertEquals(21, entry.turnCount);
+		assertEquals(40, entry.leaderPosition);
+		assertEquals(4, entry.players);
+		assertEquals(entry.timestamp, CandyLandSlotIndex.latest().timestamp);
+
+		CandyLandSlotIndex.remove(SLOT);
+		assertNull(CandyLandSlotIndex.read()[SLOT]);
+	}
+}
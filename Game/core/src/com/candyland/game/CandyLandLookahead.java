@@ -0,0 +1,171 @@
+/**
+ * CandyLandLookahead.java
+ * This class represents a strategy that draws two cards and looks ahead before choosing.
+ * Every card drawn is played in many random playouts of the rest of the game,
+ * and the card the player won with most often is chosen.
+ * The order of the cards left in the deck is unknown to the player, so each playout
+ * shuffles them; each round plays every card against the same shuffle.
+ * Playouts run until the decision's deadline, or until every card has MAX_PLAYOUTS.
+ */
+
+package com.candyland.game;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+public class CandyLandLookahead implements CandyLandStrategy
+{
+	// budget of a decision in a game on screen, shorter than the pause between computer turns
+	public final static long DEFAULT_BUDGET = TimeUnit.MILLISECONDS.toNanos(200);
+	// playouts of each card after which the choice is made even with time left
+	public final static int MAX_PLAYOUTS = 4096;
+
+	private final long timeBudget;
+	// playout game and scratch arrays of each thread deciding with this strategy
+	private final ThreadLocal<Playout> playouts = ThreadLocal.withInitial(Playout::new);
+
+	/**
+	 * @param timeBudget - nanoseconds each decision may take
+	 */
+	public CandyLandLookahead(long timeBudget)
+	{
+		if (timeBudget <= 0)
+		{
+			throw new IllegalArgumentException("Invalid time budget: " + timeBudget);
+		}
+		this.timeBudget = timeBudget;
+	}
+
+	@Override
+	public String getName()
+	{
+		return timeBudget == DEFAULT_BUDGET ? "lookahead" : "lookahead:" + TimeUnit.NANOSECONDS.toMillis(timeBudget);
+	}
+
+	@Override
+	public int cardsDrawn()
+	{
+		return 2;
+	}
+
+	@Override
+	public long getTimeBudget()
+	{
+		return timeBudget;
+	}
+
+	@Override
+	public int choose(CandyLandGame game, int[] cards, int count, long deadline)
+	{
+		if (count == 1)
+		{
+			return cards[0];
+		}
+		Playout playout = playouts.get();
+		playout.prepare(game);
+		int player = game.getCurrentPlayerType();
+		int[] wins = new int[count];
+		int rounds = 0;
+
+		while (rounds < MAX_PLAYOUTS && System.nanoTime() < deadline)
+		{
+			playout.shuffle();
+			for (int i = 0; i < count; i++)
+			{
+				if (playout.play(game, cards[i]) == player)
+				{
+					wins[i]++;
+				}
+			}
+			rounds++;
+		}
+
+		if (rounds == 0)
+		{
+			// no time to look ahead, progress as far as possible
+			return EXTREME.choose(game, cards, count, deadline);
+		}
+		// the later card on a tie, as on Extreme difficulty
+		int best = 0;
+		for (int i = 1; i < count; i++)
+		{
+			if (wins[i] >= wins[best])
+			{
+				best = i;
+			}
+		}
+		return cards[best];
+	}
+
+	/**
+	 * A game reused for every playout of one thread's decisions.
+	 */
+	private static class Playout
+	{
+		final SplittableRandom random = new SplittableRandom();
+		final CandyLandGame game = new CandyLandGame(random.split());
+		final byte[] remaining = new byte[CandyLandDeck.DECK_SIZE];
+		final byte[] order = new byte[CandyLandDeck.DECK_SIZE];
+		int size;
+
+		/**
+		 * Take the cards left in the deck and the strategies of the game being decided.
+		 * Players who need time to choose play greedily in playouts, so a playout never looks ahead itself.
+		 */
+		void prepare(CandyLandGame from)
+		{
+			int players = from.getPlayerCount();
+			if (game.getPlayerCount() != players || game.strategies == null)
+			{
+				game.setPlayerCount(players);
+				game.strategies = new CandyLandStrategy[players];
+			}
+			for (int i = 0; i < players; i++)
+			{
+				CandyLandStrategy strategy = from.getStrategy(i);
+				if (strategy.getTimeBudget() > 0)
+				{
+					strategy = strategy.cardsDrawn() > 1 ? EXTREME : NORMAL;
+				}
+				game.strategies[i] = strategy;
+			}
+			size = from.deck.size();
+			from.deck.getCards(remaining);
+		}
+
+		/**
+		 * Deal the remaining cards into a new random order for the next round.
+		 */
+		void shuffle()
+		{
+			System.arraycopy(remaining, 0, order, 0, size);
+			for (int i = size - 1; i > 0; i--)
+			{
+				int j = random.nextInt(i + 1);
+				byte swap = order[i];
+				order[i] = order[j];
+				order[j] = swap;
+			}
+		}
+
+		/**
+		 * Play a card for the current player, then play the game out.
+		 *
+		 * @return index of the winning player
+		 */
+		int play(CandyLandGame from, int card)
+		{
+			int players = from.getPlayerCount();
+			System.arraycopy(from.playerPositions, 0, game.playerPositions, 0, players);
+			System.arraycopy(from.skipNextTurn, 0, game.skipNextTurn, 0, players);
+			game.deck.setCards(order, size);
+			game.gameWinner = -1;
+			game.setCurrentPlayerType(from.getCurrentPlayerType());
+
+			game.playCard(card);
+			game.checkWinner();
+			game.incrementIndex();
+			return game.playGame();
+		}
+	}
+}
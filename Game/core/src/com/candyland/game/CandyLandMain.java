@@ -7,8 +7,13 @@
 package com.candyland.game;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+
+import java.nio.file.Paths;
 
 public class CandyLandMain extends Game
 {
@@ -18,29 +23,109 @@ public class CandyLandMain extends Game
 	// but this is out of the scope for this game.
 	public SpriteBatch batch;
 	public BitmapFont font;
-	
-	// show console prints
-	public static boolean DEBUG = false;
+	// every UI and game piece image, packed at build time by the desktop packTextures task
+	public TextureAtlas atlas;
+
+	// textures and the atlas shared by every screen.
+	// assets are reference counted, each screen loads what it uses with loadAsset()
+	// and releases it in dispose() with unloadAsset(). The atlas and background
+	// are also held here for the lifetime of the game, so switching screens never
+	// decodes them again.
+	public AssetManager assets;
+	public final static String ATLAS = "candyland.atlas";
+	public final static String BACKGROUND = "5939.jpg";
+	// board map, compiled into a binary file beside it by CandyLandBoardCache
+	public final static String BOARD = "board-finish-multicolor.tmx";
+
+	// writes saved games in the background so disk latency never drops a frame
+	public CandyLandSaveService saves;
+	// frame time, draw call and allocation overlay over every screen, toggled with F3
+	public CandyLandProfiler profiler;
+
+	// replay to play instead of showing the main menu, set by the desktop launcher
+	public String replayFile;
+	public int replayTurn = 0;
+	public float replaySpeed = 1;
 
 	@Override
 	public void create()
 	{
+		// play the board of the map, before any game is created
+		CandyLandBoard.use(CandyLandBoardCache.get().getBoard());
 		batch = new SpriteBatch();
 		font = new BitmapFont();
+		saves = new CandyLandSaveService();
+		profiler = new CandyLandProfiler(batch, font);
+		assets = new AssetManager();
+		atlas = loadAsset(ATLAS, TextureAtlas.class);
+		loadAsset(BACKGROUND, Texture.class);
+
+		CandyLandReplay replay = replayFile != null ? CandyLandReplay.read(Paths.get(replayFile)) : null;
+		if (replay != null)
+		{
+			GameScreen gameScreen = new GameScreen(this);
+			gameScreen.loadReplay(replay, replayTurn, replaySpeed);
+			gameScreen.initializeGame();
+			this.setScreen(gameScreen);
+			return;
+		}
+		if (replayFile != null && CandyLandDebug.ENABLED)
+		{
+			System.err.println(replayFile + " is not a replay.");
+		}
 		this.setScreen(new MainMenuScreen(this));
 	}
 
 	@Override
 	public void render()
 	{
+		profiler.begin();
 		super.render();
+		profiler.end();
 	}
 
 	@Override
 	public void dispose()
 	{
 		super.dispose();
+		// libGDX only hides the current screen on exit, each screen disposes itself
+		// before switching, so the one on show is disposed here while its saves,
+		// journal and assets can still be written and released
+		if (getScreen() != null)
+		{
+			getScreen().dispose();
+		}
 		batch.dispose();
 		font.dispose();
+		profiler.dispose();
+		assets.dispose();
+		// pending saves are written before the game exits
+		saves.dispose();
+	}
+
+	/**
+	 * Obtain an asset, loading it if no screen is using it yet.
+	 * Every call must be matched by a call to unloadAsset().
+	 *
+	 * @param fileName - asset file name within the assets folder
+	 * @param type - class of the asset
+	 * @return the loaded asset
+	 */
+	public <T> T loadAsset(String fileName, Class<T> type)
+	{
+		assets.load(fileName, type);
+		assets.finishLoading();
+		return assets.get(fileName, type);
+	}
+
+	/**
+	 * Release an asset obtained through loadAsset().
+	 * The asset is disposed once nothing is using it.
+	 *
+	 * @param fileName - asset file name within the assets folder
+	 */
+	public void unloadAsset(String fileName)
+	{
+		assets.unload(fileName);
 	}
 }
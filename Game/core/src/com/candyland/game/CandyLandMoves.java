@@ -0,0 +1,106 @@
+/**
+ * CandyLandMoves.java
+ * This class represents the precomputed move table for Candy Land.
+ * Every (board position, card) pair is resolved once at startup through the
+ * rules in CandyLandGame, so moving a piece becomes a single array load.
+ */
+
+package com.candyland.game;
+
+import java.util.SplittableRandom;
+
+public class CandyLandMoves
+{
+	// bit layout of a table entry
+	private final static int DESTINATION_MASK = 0xFF;
+	private final static int LICORICE_FLAG = 1 << 8;
+	private final static int SHORTCUT_FLAG = 1 << 9;
+	private final static int STEPS_SHIFT = 16;
+
+	public final static int POSITIONS = CandyLandGame.MAX_POSITIONS + 1;
+
+	// TABLE[position * CARD_TYPES + card]
+	private final static int[] TABLE = createTable();
+
+	private CandyLandMoves() {}
+
+	/**
+	 * Resolve every move with the reference rules in CandyLandGame.
+	 *
+	 * @return packed move for every position and card
+	 */
+	private static int[] createTable()
+	{
+		int[] table = new int[POSITIONS * CandyLandDeck.CARD_TYPES];
+		CandyLandGame game = new CandyLandGame(new SplittableRandom(0));
+		for (int position = 0; position < POSITIONS; position++)
+		{
+			for (int card = 0; card < CandyLandDeck.CARD_TYPES; card++)
+			{
+				game.resetValues();
+				game.playerPositions[0] = position;
+
+				int steps = game.calculateSteps(card);
+				game.movePlayer(card, steps);
+
+				int move = game.playerPositions[0] | steps << STEPS_SHIFT;
+				if (game.skipNextTurn[0])
+				{
+					move |= LICORICE_FLAG;
+				}
+				if (game.shortcutTaken[0])
+				{
+					move |= SHORTCUT_FLAG;
+				}
+				table[position * CandyLandDeck.CARD_TYPES + card] = move;
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * @param position - board position the piece starts from
+	 * @param card - card code of the card played
+	 * @return packed move, read with destination(), isLicorice(), isShortcut() and steps()
+	 */
+	public static int get(int position, int card)
+	{
+		return TABLE[position * CandyLandDeck.CARD_TYPES + card];
+	}
+
+	/**
+	 * @param move - packed move from get()
+	 * @return final board position, after shortcuts and capped at the finish
+	 */
+	public static int destination(int move)
+	{
+		return move & DESTINATION_MASK;
+	}
+
+	/**
+	 * @param move - packed move from get()
+	 * @return true if the piece ends on licorice and skips its next turn
+	 */
+	public static boolean isLicorice(int move)
+	{
+		return (move & LICORICE_FLAG) != 0;
+	}
+
+	/**
+	 * @param move - packed move from get()
+	 * @return true if the piece took a shortcut
+	 */
+	public static boolean isShortcut(int move)
+	{
+		return (move & SHORTCUT_FLAG) != 0;
+	}
+
+	/**
+	 * @param move - packed move from get()
+	 * @return steps given by calculateSteps(), used to compare cards on Extreme difficulty
+	 */
+	public static int steps(int move)
+	{
+		return move >>> STEPS_SHIFT;
+	}
+}
@@ -0,0 +1,175 @@
+/**
+ * CandyLandMovesTest.java
+ * This class represents the white box testing for the headless game engine,
+ * card deck, precomputed move table and Markov chain solver
+ */
+
+package com.candyland.game;
+
+import static org.junit.Assert.*;
+
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+public class CandyLandMovesTest
+{
+	/*
+	 * Testing:
+	 * Moves of the table worked out by hand from the printed board, where spaces
+	 * 1 : 135 repeat purple, yellow, blue, green, orange, red and 136 is the finish
+	 * (Requirement 1.2.0 & 1.2.3 & 4.0.1 & 4.0.2)
+	 */
+	@Test
+	public void moveTableMatchesRules()
+	{
+		// special cards move to their space from anywhere, forwards or back
+		int[] specialCards = {CandyLandDeck.PEPPERMINT_FOREST, CandyLandDeck.GUMDROP_MOUNTAINS, CandyLandDeck.PEANUT_ACRES, CandyLandDeck.LOLLIPOP_WOODS};
+		int[] specialSpaces = {20, 36, 72, 99};
+		for (int i = 0; i < specialCards.length; i++)
+		{
+			assertMove(0, specialCards[i], specialSpaces[i], specialSpaces[i], false, false);
+			assertEquals(specialSpaces[i], CandyLandMoves.destination(CandyLandMoves.get(100, specialCards[i])));
+		}
+
+		// Rainbow Trail: 25 is purple, a single blue card lands on 27 and takes it to 56
+		assertMove(25, CandyLandDeck.BLUE, 56, 2, true, false);
+		// Gumdrop Pass: 47 is orange, a single purple card lands on 49 and takes it to 74
+		assertMove(47, CandyLandDeck.PURPLE, 74, 2, true, false);
+		// past a shortcut without landing on it
+		assertMove(26, CandyLandDeck.GREEN, 28, 2, false, false);
+
+		// licorice at 12: double red from the start passes red 6
+		assertMove(0, CandyLandDeck.DOUBLE + CandyLandDeck.RED, 12, 12, false, true);
+		// licorice at 44: 40 is green, yellow is four spaces on
+		assertMove(40, CandyLandDeck.YELLOW, 44, 4, false, true);
+		// licorice at 82: 80 is yellow, green is two spaces on
+		assertMove(80, CandyLandDeck.GREEN, 82, 2, false, true);
+
+		// no orange is left after 131, so orange reaches the finish five spaces on
+		assertMove(131, CandyLandDeck.ORANGE, 136, 5, false, false);
+		// 130 is green, the nearest blue is 135 and there is no second one
+		assertMove(130, CandyLandDeck.DOUBLE + CandyLandDeck.BLUE, 136, 6, false, false);
+		// one space from the finish every color card finishes
+		assertMove(135, CandyLandDeck.RED, 136, 1, false, false);
+	}
+
+	private static void assertMove(int from, int card, int destination, int steps, boolean shortcut, boolean licorice)
+	{
+		int move = CandyLandMoves.get(from, card);
+		assertEquals(destination, CandyLandMoves.destination(move));
+		assertEquals(steps, CandyLandMoves.steps(move));
+		assertEquals(shortcut, CandyLandMoves.isShortcut(move));
+		assertEquals(licorice, CandyLandMoves.isLicorice(move));
+	}
+
+	/*
+	 * Testing:
+	 * Deck generates 64 cards
+	 * Drawing removes cards from the top
+	 * Empty deck is re-created and shuffled
+	 * (Requirement 1.0.0 & 1.1.2)
+	 */
+	@Test
+	public void deckAttributes()
+	{
+		CandyLandDeck deck = new CandyLandDeck(new SplittableRandom(1));
+		assertTrue(deck.isEmpty());
+
+		deck.reset();
+		assertEquals(64, deck.size());
+
+		// count each card type
+		int[] counts = new int[CandyLandDeck.CARD_TYPES];
+		for (String card : deck.toCardNames())
+		{
+			counts[CandyLandDeck.cardCode(card)]++;
+		}
+		for (int card = 0; card < CandyLandDeck.CARD_TYPES; card++)
+		{
+			int expected = CandyLandDeck.isSpecial(card) ? 1 : CandyLandDeck.isDouble(card) ? 2 : 8;
+			assertEquals(expected, counts[card]);
+		}
+
+		// draw the top card
+		int top = deck.peek();
+		assertEquals(top, deck.draw());
+		assertEquals(63, deck.size());
+
+		// stack the deck
+		deck.set(0, CandyLandDeck.LOLLIPOP_WOODS);
+		assertEquals("Lollipop Woods", CandyLandDeck.cardName(deck.draw()));
+
+		// empty deck is re-created by the game before drawing
+		CandyLandGame game = new CandyLandGame(new SplittableRandom(1));
+		game.newGame();
+		for (int i = 0; i < 64; i++)
+		{
+			game.drawNextCard();
+		}
+		assertTrue(game.deck.isEmpty());
+		game.drawNextCard();
+		assertEquals(63, game.deck.size());
+	}
+
+	/*
+	 * Testing:
+	 * Headless games always produce a winner at the finish
+	 * Same seed plays the same game
+	 * (Requirement 1.3.0)
+	 */
+	@Test
+	public void headlessGame()
+	{
+		CandyLandGame first = new CandyLandGame(new SplittableRandom(7));
+		CandyLandGame second = new CandyLandGame(new SplittableRandom(7));
+		for (int i = 0; i < 100; i++)
+		{
+			first.newGame();
+			second.newGame();
+			int winner = first.playGame();
+
+			assertEquals(winner, second.playGame());
+			assertEquals(first.turnCount, second.turnCount);
+			assertEquals(CandyLandGame.MAX_POSITIONS, first.getCurrentPositionIndex(winner));
+			assertFalse(first.activeGame);
+		}
+	}
+
+	/*
+	 * Testing:
+	 * Solver distributions sum to one
+	 * Earlier seats are more likely to win on Normal difficulty
+	 * Computers are favoured on Extreme difficulty
+	 */
+	@Test
+	public void solverDistributions()
+	{
+		for (boolean extreme : new boolean[] {false, true})
+		{
+			CandyLandSolver.Solution solution = CandyLandSolver.solve(extreme);
+			double wins = 0;
+			double rounds = 0;
+			for (double p : solution.winProbability)
+			{
+				wins += p;
+			}
+			for (double p : solution.roundDistribution)
+			{
+				rounds += p;
+			}
+			assertEquals(1, wins, 1e-9);
+			assertEquals(1, rounds, 1e-9);
+		}
+
+		CandyLandSolver.Solution normal = CandyLandSolver.solve(false);
+		for (int i = 1; i < CandyLandGame.GAME_PIECES; i++)
+		{
+			assertTrue(normal.winProbability[i - 1] > normal.winProbability[i]);
+		}
+
+		CandyLandSolver.Solution extreme = CandyLandSolver.solve(true);
+		assertTrue(extreme.winProbability[0] < extreme.winProbability[CandyLandGame.GAME_PIECES - 1]);
+		assertTrue(extreme.expectedTurns(1) < extreme.expectedTurns(0));
+	}
+}
@@ -0,0 +1,146 @@
+/**
+ * CandyLandOccupancy.java
+ * This class represents which players are on each space of the board.
+ * The players on a space are kept in a linked list threaded through arrays
+ * indexed by player, so moving a player and listing the players on a space
+ * take time proportional to the players on that space, not the player count.
+ * The player who arrived last is first in the list.
+ */
+
+package com.candyland.game;
+
+import java.util.Arrays;
+
+public class CandyLandOccupancy
+{
+	// no player, the end of a list
+	public final static int NONE = -1;
+
+	// first player on each space, and the number of players on it
+	private final int[] first;
+	private final int[] count;
+	// space of each player, and the players before and after them on that space
+	private int[] space = new int[0];
+	private int[] next = new int[0];
+	private int[] previous = new int[0];
+
+	/**
+	 * @param spaces - number of spaces on the board, including the start
+	 */
+	public CandyLandOccupancy(int spaces)
+	{
+		first = new int[spaces];
+		count = new int[spaces];
+		Arrays.fill(first, NONE);
+	}
+
+	/**
+	 * Place every player on their space, used when a game starts or is loaded.
+	 *
+	 * @param playerPositions - each player's position on the board
+	 */
+	public void reset(int[] playerPositions)
+	{
+		int players = playerPositions.length;
+		if (space.length != players)
+		{
+			space = new int[players];
+			next = new int[players];
+			previous = new int[players];
+		}
+		Arrays.fill(first, NONE);
+		Arrays.fill(count, 0);
+		// added in reverse, so players on the same space are listed in player order
+		for (int player = players - 1; player >= 0; player--)
+		{
+			space[player] = playerPositions[player];
+			add(player);
+		}
+	}
+
+	/**
+	 * Move a player to a space, to the front of its list.
+	 * Nothing changes if the player is already on the space.
+	 *
+	 * @param player - index of the player
+	 * @param position - space the player is now on
+	 */
+	public void move(int player, int position)
+	{
+		if (space[player] == position)
+		{
+			return;
+		}
+		remove(player);
+		space[player] = position;
+		add(player);
+	}
+
+	/**
+	 * @param position - a space on the board
+	 * @return number of players on the space
+	 */
+	public int count(int position)
+	{
+		return count[position];
+	}
+
+	/**
+	 * @param position - a space on the board
+	 * @return the player who arrived last on the space, NONE if it is empty
+	 */
+	public int first(int position)
+	{
+		return first[position];
+	}
+
+	/**
+	 * @param player - index of a player
+	 * @return the player who arrived on the player's space before them, NONE if there is none
+	 */
+	public int next(int player)
+	{
+		return next[player];
+	}
+
+	/**
+	 * @param player - index of a player
+	 * @return the space the player is on
+	 */
+	public int getSpace(int player)
+	{
+		return space[player];
+	}
+
+	private void add(int player)
+	{
+		int position = space[player];
+		int head = first[position];
+		previous[player] = NONE;
+		next[player] = head;
+		if (head != NONE)
+		{
+			previous[head] = player;
+		}
+		first[position] = player;
+		count[position]++;
+	}
+
+	private void remove(int player)
+	{
+		int position = space[player];
+		if (previous[player] != NONE)
+		{
+			next[previous[player]] = next[player];
+		}
+		else
+		{
+			first[position] = next[player];
+		}
+		if (next[player] != NONE)
+		{
+			previous[next[player]] = previous[player];
+		}
+		count[position]--;
+	}
+}
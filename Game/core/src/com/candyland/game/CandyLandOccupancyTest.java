@@ -0,0 +1,63 @@
+/**
+ * CandyLandOccupancyTest.java
+ * This class represents the white box testing for the board occupancy index, in games of many players
+ */
+
+package com.candyland.game;
+
+import static org.junit.Assert.*;
+
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+public class CandyLandOccupancyTest
+{
+	/*
+	 * Testing:
+	 * Games of any player count play to the end, and the occupancy index
+	 * lists the same players on each space as the player positions
+	 */
+	@Test
+	public void occupancyFollowsManyPlayers()
+	{
+		int players = 64;
+		CandyLandGame game = new CandyLandGame(new SplittableRandom(3), players);
+		CandyLandOccupancy occupancy = new CandyLandOccupancy(CandyLandMoves.POSITIONS);
+		game.newGame();
+		occupancy.reset(game.playerPositions);
+		assertEquals(players, occupancy.count(0));
+
+		game.activeGame = true;
+		while (game.gameWinner == -1)
+		{
+			int player = game.getCurrentPlayerType();
+			int from = game.playerPositions[player];
+			game.playTurn();
+			occupancy.move(player, game.playerPositions[player]);
+			if (game.playerPositions[player] != from)
+			{
+				// the player who moved is listed first on their new space
+				assertEquals(player, occupancy.first(game.playerPositions[player]));
+			}
+		}
+		assertEquals(CandyLandGame.MAX_POSITIONS, game.playerPositions[game.gameWinner]);
+
+		int[] listed = new int[CandyLandMoves.POSITIONS];
+		for (int space = 0; space < CandyLandMoves.POSITIONS; space++)
+		{
+			for (int player = occupancy.first(space); player != CandyLandOccupancy.NONE; player = occupancy.next(player))
+			{
+				assertEquals(space, game.playerPositions[player]);
+				listed[space]++;
+			}
+			assertEquals(listed[space], occupancy.count(space));
+		}
+		int total = 0;
+		for (int count : listed)
+		{
+			total += count;
+		}
+		assertEquals(players, total);
+	}
+}
@@ -0,0 +1,236 @@
+/**
+ * CandyLandProfiler.java
+ * This class represents the performance overlay drawn over every screen, toggled with F3.
+ * While shown it measures each frame the current screen renders: the time it takes, without waiting for vsync
+ * (min, average and 99th percentile over the last WINDOW frames), the OpenGL draw calls,
+ * texture binds and shader switches counted by GLProfiler, the SpriteBatch render calls,
+ * the bytes allocated by the render thread and the heap in use.
+ * Only the screen is measured, the overlay itself is drawn after the counts are taken.
+ * Hidden, it costs one key check per frame.
+ */
+
+package com.candyland.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input.Keys;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.math.Matrix4;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+public class CandyLandProfiler
+{
+	public final static int TOGGLE_KEY = Keys.F3;
+	// frames the frame times are kept for, five seconds at 60 frames per second
+	public final static int WINDOW = 300;
+	// frames between updates of the overlay text, so it can be read and is rarely laid out
+	private final static int UPDATE_FRAMES = 30;
+
+	private final SpriteBatch batch;
+	private final GLProfiler gl;
+	// null where the virtual machine does not count allocations, e.g. Android
+	private final com.sun.management.ThreadMXBean threads;
+	private final long renderThread;
+
+	private boolean shown = false;
+	private final CandyLandLabel label;
+	private final Texture background;
+	private final Matrix4 projection = new Matrix4();
+	private final Matrix4 screenProjection = new Matrix4();
+
+	// nanoseconds each of the last WINDOW frames took to render, oldest overwritten first
+	private final long[] frameTimes = new long[WINDOW];
+	private final long[] sorted = new long[WINDOW];
+	private int frames = 0;
+	// counts of the last frame
+	private int drawCalls;
+	private int textureBindings;
+	private int shaderSwitches;
+	private int renderCalls;
+	// bytes allocated by the render thread since the overlay was last updated
+	private long allocated;
+
+	// taken by begin()
+	private long frameStart;
+	private int renderCallsStart;
+	private long allocatedStart;
+
+	/**
+	 * @param batch - batch shared by the screens, its render calls are counted
+	 * @param font - font the overlay is written in
+	 */
+	public CandyLandProfiler(SpriteBatch batch, BitmapFont font)
+	{
+		this.batch = batch;
+		gl = new GLProfiler(Gdx.graphics);
+		label = new CandyLandLabel(font);
+		renderThread = Thread.currentThread().getId();
+
+		com.sun.management.ThreadMXBean counter = null;
+		try
+		{
+			if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)
+			{
+				counter = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+				if (!counter.isThreadAllocatedMemorySupported())
+				{
+					counter = null;
+				}
+				else
+				{
+					counter.setThreadAllocatedMemoryEnabled(true);
+				}
+			}
+		}
+		catch (LinkageError | UnsupportedOperationException e)
+		{
+			counter = null;
+		}
+		threads = counter;
+
+		// one white pixel, stretched and tinted behind the text
+		Pixmap pixel = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+		pixel.setColor(Color.WHITE);
+		pixel.fill();
+		background = new Texture(pixel);
+		pixel.dispose();
+	}
+
+	/**
+	 * Show or hide the overlay if its key was pressed, then start measuring a frame.
+	 * Called before the screen renders.
+	 */
+	public void begin()
+	{
+		if (Gdx.input.isKeyJustPressed(TOGGLE_KEY))
+		{
+			setShown(!shown);
+		}
+		if (!shown)
+		{
+			return;
+		}
+		gl.reset();
+		renderCallsStart = batch.totalRenderCalls;
+		allocatedStart = getAllocatedBytes();
+		frameStart = System.nanoTime();
+	}
+
+	/**
+	 * Finish measuring the frame the screen rendered and draw the overlay over it.
+	 * Called after the screen renders.
+	 */
+	public void end()
+	{
+		if (!shown)
+		{
+			return;
+		}
+		frameTimes[frames % WINDOW] = System.nanoTime() - frameStart;
+		allocated += getAllocatedBytes() - allocatedStart;
+		drawCalls = gl.getDrawCalls();
+		textureBindings = gl.getTextureBindings();
+		shaderSwitches = gl.getShaderSwitches();
+		renderCalls = batch.totalRenderCalls - renderCallsStart;
+		frames++;
+		if (frames % UPDATE_FRAMES == 1)
+		{
+			updateText();
+		}
+		draw();
+	}
+
+	/**
+	 * @param shown - true to measure frames and draw the overlay, false to stop
+	 */
+	public void setShown(boolean shown)
+	{
+		this.shown = shown;
+		if (shown)
+		{
+			gl.enable();
+			frames = 0;
+			allocated = 0;
+		}
+		else
+		{
+			gl.disable();
+		}
+	}
+
+	/**
+	 * @return true if the overlay is shown
+	 */
+	public boolean isShown()
+	{
+		return shown;
+	}
+
+	/**
+	 * Write the statistics of the frames measured into the overlay text.
+	 */
+	private void updateText()
+	{
+		int count = Math.min(frames, WINDOW);
+		System.arraycopy(frameTimes, 0, sorted, 0, count);
+		Arrays.sort(sorted, 0, count);
+		long total = 0;
+		for (int i = 0; i < count; i++)
+		{
+			total += sorted[i];
+		}
+		long p99 = sorted[Math.max(0, (int) Math.ceil(count * 0.99) - 1)];
+		// frames since the last update, one after the overlay is first shown
+		int updateFrames = frames == 1 ? 1 : UPDATE_FRAMES;
+
+		Runtime runtime = Runtime.getRuntime();
+		long heap = runtime.totalMemory() - runtime.freeMemory();
+		String text = String.format("%d fps, frame %.2f min / %.2f avg / %.2f p99 ms (%d frames)\n"
+				+ "%d draw calls, %d texture binds, %d shader switches, %d batch render calls\n"
+				+ "heap %.1f / %.1f MB, %s",
+				Gdx.graphics.getFramesPerSecond(), sorted[0] / 1e6, total / 1e6 / count, p99 / 1e6, count,
+				drawCalls, textureBindings, shaderSwitches, renderCalls,
+				heap / 1048576.0, runtime.maxMemory() / 1048576.0,
+				threads == null ? "allocations not counted" : String.format("%.1f KB allocated per frame", allocated / 1024.0 / updateFrames));
+		allocated = 0;
+		label.setText(text, Color.WHITE, 10, Gdx.graphics.getHeight() - 10);
+	}
+
+	/**
+	 * Draw the overlay in the top left corner of the window.
+	 */
+	private void draw()
+	{
+		// screens set the projection they draw with, it is put back for the next frame
+		screenProjection.set(batch.getProjectionMatrix());
+		projection.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+		batch.setProjectionMatrix(projection);
+		batch.begin();
+		batch.setColor(0, 0, 0, 0.6f);
+		batch.draw(background, 0, Gdx.graphics.getHeight() - label.getHeight() - 20, label.getWidth() + 20, label.getHeight() + 20);
+		batch.setColor(Color.WHITE);
+		label.draw(batch);
+		batch.end();
+		batch.setProjectionMatrix(screenProjection);
+	}
+
+	/**
+	 * @return bytes the render thread has allocated since it started, 0 if not counted
+	 */
+	private long getAllocatedBytes()
+	{
+		return threads == null ? 0 : threads.getThreadAllocatedBytes(renderThread);
+	}
+
+	public void dispose()
+	{
+		gl.disable();
+		background.dispose();
+	}
+}
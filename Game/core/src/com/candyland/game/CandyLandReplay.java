@@ -0,0 +1,345 @@
+/**
+ * CandyLandReplay.java
+ * This class represents the record of a game, used to replay it exactly.
+ * The deck is only shuffled by a random source created from the game's seed,
+ * so the seed and the card played each turn are enough to re-drive the engine.
+ * Computer choices from two cards are replayed as recorded, not decided again.
+ *
+ * magic number		4 bytes, "CLRP"
+ * version			1 byte
+ * seed				8 bytes
+ * difficulty		1 byte, index of the computers' strategy in CandyLandStrategy.DIFFICULTIES
+ * player count		1 byte
+ * player tokens	1 byte per player
+ * turn count		4 bytes
+ * turns			1 byte per turn, card code played or SKIPPED
+ */
+
+package com.candyland.game;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class CandyLandReplay
+{
+	public final static int MAGIC = 0x434C5250;
+	public final static int VERSION = 1;
+	// turn skipped on licorice
+	public final static int SKIPPED = 0xFF;
+	// replay of the last game played, written when the game ends or is left
+	public final static String LAST_GAME = "last_game.rpl";
+
+	private final long seed;
+	private final CandyLandStrategy computerStrategy;
+	private final int[] playerTokens;
+	private byte[] turns = new byte[256];
+	private int turnCount;
+	private boolean diverged;
+
+	/**
+	 * Start recording a game.
+	 *
+	 * @param seed - seed of the game's random source
+	 * @param computerStrategy - strategy of the computers, one of CandyLandStrategy.DIFFICULTIES
+	 * @param playerTokens - index of each player's player piece
+	 */
+	public CandyLandReplay(long seed, CandyLandStrategy computerStrategy, int[] playerTokens)
+	{
+		this.seed = seed;
+		this.computerStrategy = computerStrategy;
+		this.playerTokens = playerTokens.clone();
+	}
+
+	/**
+	 * @return a new game shuffled by the recorded seed, ready for its first turn
+	 */
+	public CandyLandGame createGame()
+	{
+		CandyLandGame game = new CandyLandGame(new SplittableRandom(seed), playerTokens.length);
+		game.computerStrategy = computerStrategy;
+		game.newGame();
+		game.activeGame = true;
+		return game;
+	}
+
+	/**
+	 * Record the next turn.
+	 *
+	 * @param card - card code of the card played, SKIPPED if the turn was skipped on licorice
+	 */
+	public void record(int card)
+	{
+		if (turnCount == turns.length)
+		{
+			turns = Arrays.copyOf(turns, turnCount * 2);
+		}
+		turns[turnCount++] = (byte) card;
+	}
+
+	/**
+	 * Draw the cards of a recorded turn from the game's deck, as the player did.
+	 * Past the end of the replay, or if the recorded card was not drawn,
+	 * the player decides as they would in a new game.
+	 *
+	 * @param game - game being replayed
+	 * @param turn - index of the turn being played
+	 * @return card code of the card to play
+	 */
+	public int drawCard(CandyLandGame game, int turn)
+	{
+		CandyLandStrategy strategy = game.getStrategy(game.getCurrentPlayerType());
+		int count = game.drawCards(strategy);
+		int recorded = recordedCard(game, turn, count);
+		return recorded >= 0 ? recorded : game.chooseCard(strategy, count);
+	}
+
+	/**
+	 * Find the card played in a recorded turn among the cards just drawn with CandyLandGame.drawCards().
+	 *
+	 * @param game - game being replayed
+	 * @param turn - index of the turn being played
+	 * @param count - number of cards drawn
+	 * @return card code of the recorded card, -1 past the end of the replay or if the recorded card was not drawn
+	 */
+	public int recordedCard(CandyLandGame game, int turn, int count)
+	{
+		if (turn >= turnCount)
+		{
+			return -1;
+		}
+		int recorded = getTurn(turn);
+		int[] drawn = game.getCardsDrawn();
+		for (int i = 0; i < count; i++)
+		{
+			if (drawn[i] == recorded)
+			{
+				return recorded;
+			}
+		}
+		diverged = true;
+		if (CandyLandDebug.ENABLED)
+		{
+			System.err.println("Replay diverged at turn " + turn + ": recorded " + recorded + ", drew " + CandyLandDeck.cardName(drawn[0]));
+		}
+		return -1;
+	}
+
+	/**
+	 * Play a recorded turn without any delays, the same way GameScreen plays it.
+	 *
+	 * @param game - game being replayed
+	 */
+	public void playTurn(CandyLandGame game)
+	{
+		game.startTurn();
+		int turn = game.turnCount++;
+		int player = game.getCurrentPlayerType();
+		game.shortcutTaken[player] = false;
+		if (game.skipNextTurn[player])
+		{
+			game.skipCurrentTurn[player] = true;
+			game.skipNextTurn[player] = false;
+		}
+		else
+		{
+			game.skipCurrentTurn[player] = false;
+			game.playCard(drawCard(game, turn));
+			game.checkWinner();
+		}
+		game.incrementIndex();
+		game.events.dispatch();
+	}
+
+	/**
+	 * Replay the game instantly up to a turn.
+	 *
+	 * @param turn - number of turns to play, clamped to the recorded turns
+	 * @return the game as it was before the given turn was played
+	 */
+	public CandyLandGame seek(int turn)
+	{
+		CandyLandGame game = createGame();
+		int end = Math.min(Math.max(turn, 0), turnCount);
+		while (game.turnCount < end && game.activeGame)
+		{
+			playTurn(game);
+		}
+		return game;
+	}
+
+	/**
+	 * @param turn - index of a recorded turn
+	 * @return card code played in the turn, SKIPPED if the turn was skipped
+	 */
+	public int getTurn(int turn)
+	{
+		return turns[turn] & 0xFF;
+	}
+
+	public int getTurnCount()
+	{
+		return turnCount;
+	}
+
+	public long getSeed()
+	{
+		return seed;
+	}
+
+	public CandyLandStrategy getComputerStrategy()
+	{
+		return computerStrategy;
+	}
+
+	public int[] getPlayerTokens()
+	{
+		return playerTokens;
+	}
+
+	/**
+	 * @return true if a replayed turn did not draw the card that was recorded
+	 */
+	public boolean hasDiverged()
+	{
+		return diverged;
+	}
+
+	/**
+	 * Write the replay to a file.
+	 *
+	 * @param path - file to write
+	 * @return true if the replay was written
+	 */
+	public boolean write(Path path)
+	{
+		ByteBuffer buffer = ByteBuffer.allocate(4 + 1 + 8 + 1 + 1 + playerTokens.length + 4 + turnCount);
+		buffer.putInt(MAGIC);
+		buffer.put((byte) VERSION);
+		buffer.putLong(seed);
+		buffer.put((byte) difficultyIndex(computerStrategy));
+		buffer.put((byte) playerTokens.length);
+		for (int token : playerTokens)
+		{
+			buffer.put((byte) token);
+		}
+		buffer.putInt(turnCount);
+		buffer.put(turns, 0, turnCount);
+		try
+		{
+			Files.write(path, buffer.array());
+			return true;
+		}
+		catch (IOException e)
+		{
+			if (CandyLandDebug.ENABLED)
+			{
+				System.err.println("Error writing replay: " + e.getMessage());
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * @param strategy - strategy of the computers
+	 * @return index of the strategy in CandyLandStrategy.DIFFICULTIES,
+	 * the index of the difficulty drawing as many cards if it is not one of them
+	 */
+	private static int difficultyIndex(CandyLandStrategy strategy)
+	{
+		for (int i = 0; i < CandyLandStrategy.DIFFICULTIES.length; i++)
+		{
+			if (CandyLandStrategy.DIFFICULTIES[i] == strategy)
+			{
+				return i;
+			}
+		}
+		return strategy.cardsDrawn() > 1 ? 1 : 0;
+	}
+
+	/**
+	 * Read a replay written by write().
+	 *
+	 * @param path - file to read
+	 * @return the replay, null if the file could not be read or is not a replay
+	 */
+	public static CandyLandReplay read(Path path)
+	{
+		try
+		{
+			ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+			if (buffer.getInt() != MAGIC || buffer.get() != VERSION)
+			{
+				return null;
+			}
+			long seed = buffer.getLong();
+			int difficulty = buffer.get();
+			if (difficulty < 0 || difficulty >= CandyLandStrategy.DIFFICULTIES.length)
+			{
+				return null;
+			}
+			int[] playerTokens = new int[buffer.get() & 0xFF];
+			if (playerTokens.length == 0)
+			{
+				return null;
+			}
+			for (int i = 0; i < playerTokens.length; i++)
+			{
+				playerTokens[i] = buffer.get();
+			}
+			int turnCount = buffer.getInt();
+			if (turnCount < 0 || turnCount > buffer.remaining())
+			{
+				return null;
+			}
+
+			CandyLandReplay replay = new CandyLandReplay(seed, CandyLandStrategy.DIFFICULTIES[difficulty], playerTokens);
+			for (int i = 0; i < turnCount; i++)
+			{
+				replay.record(buffer.get() & 0xFF);
+			}
+			return replay;
+		}
+		catch (IOException | BufferUnderflowException e)
+		{
+			return null;
+		}
+	}
+
+	/**
+	 * Print the state of a recorded game at a turn, used to reproduce bug reports.
+	 * Run with gradlew core:replay -Pargs="[file] [turn]".
+	 *
+	 * @param args - replay file, defaults to LAST_GAME, and turn, defaults to the last turn
+	 */
+	public static void main(String[] args)
+	{
+		CandyLandReplay replay = read(Paths.get(args.length > 0 ? args[0] : LAST_GAME));
+		if (replay == null)
+		{
+			System.err.println("Not a replay file.");
+			return;
+		}
+		int turn = args.length > 1 ? Integer.parseInt(args[1]) : replay.getTurnCount();
+		CandyLandGame game = replay.seek(turn);
+
+		System.out.println("Seed " + replay.getSeed() + ", " + replay.getComputerStrategy().getName()
+				+ ", " + replay.getTurnCount() + " turns recorded");
+		System.out.println("Turn " + game.turnCount + ", player " + game.getCurrentPlayerType() + " to play"
+				+ (game.gameWinner >= 0 ? ", player " + game.gameWinner + " won" : ""));
+		for (int i = 0; i < game.playerPositions.length; i++)
+		{
+			System.out.println("Player " + i + ": position " + game.playerPositions[i] + (game.skipNextTurn[i] ? ", on licorice" : ""));
+		}
+		System.out.println("Next cards: " + game.deck.toCardNames());
+		if (replay.hasDiverged())
+		{
+			System.out.println("Replay diverged from the recorded cards.");
+		}
+	}
+}
@@ -0,0 +1,182 @@
+/**
+ * CandyLandSaveService.java
+ * This class represents saving games in the background, off the render thread.
+ * Each save takes a copy of the game state, so play can continue while it is written.
+ * Saves to a slot that is still waiting to be written replace the waiting save,
+ * so saving repeatedly only writes the latest state.
+ * Each save that is written is added to the save index shown by the main menu.
+ * Other disk work, such as the turn journal's snapshots, can run on the same thread.
+ */
+
+package com.candyland.game;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public class CandyLandSaveService
+{
+	// slots 1 : 3, index 0 is unused
+	private final static int SLOTS = 4;
+
+	private final ExecutorService executor;
+	// only used by the save thread
+	private final CandyLandLoad loadSaveManager = new CandyLandLoad();
+	// latest state waiting to be written for each slot, guarded by itself
+	private final Snapshot[] pending = new Snapshot[SLOTS];
+
+	public CandyLandSaveService()
+	{
+		executor = Executors.newSingleThreadExecutor(runnable ->
+		{
+			Thread thread = new Thread(runnable, "candyland-save");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Save the game in the background.
+	 * The arrays and deck are copied before returning, so they can keep changing.
+	 * (Requirement 3.0.0)
+	 *
+	 * @param slotNumber - save game slot to write to (1 : 3)
+	 * @param playerTokens - index of each player's player piece
+	 * @param playerPositions - each player's position on the board
+	 * @param deck - the current card deck
+	 * @param playerLicoriceStatus - if each player's next turn is skipped due to being on a licorice location
+	 * @param turnCount - number of turns played, shown in the save index
+	 * @param onSaved - called on the save thread with true once the save is on disk, false if it failed,
+	 * null if nothing needs to know
+	 */
+	public void save(int slotNumber, int[] playerTokens, int[] playerPositions, CandyLandDeck deck, boolean[] playerLicoriceStatus, int turnCount, Consumer<Boolean> onSaved)
+	{
+		if (slotNumber < 1 || slotNumber >= SLOTS)
+		{
+			throw new IllegalArgumentException("Invalid slot number: " + slotNumber);
+		}
+		Snapshot snapshot = new Snapshot(playerTokens, playerPositions, deck, playerLicoriceStatus, turnCount, onSaved);
+
+		synchronized (pending)
+		{
+			Snapshot waiting = pending[slotNumber];
+			pending[slotNumber] = snapshot;
+			if (waiting != null)
+			{
+				// a write of this slot is already queued and will take this snapshot instead
+				snapshot.replaced = waiting;
+				return;
+			}
+		}
+		executor.execute(() -> writePending(slotNumber));
+	}
+
+	/**
+	 * Write the latest snapshot of a slot, then tell everyone waiting on it.
+	 */
+	private void writePending(int slotNumber)
+	{
+		Snapshot snapshot;
+		synchronized (pending)
+		{
+			snapshot = pending[slotNumber];
+			pending[slotNumber] = null;
+		}
+
+		boolean saved = loadSaveManager.write(slotNumber, snapshot.playerTokens, snapshot.playerPositions,
+				snapshot.cards, snapshot.cards.length, snapshot.licoriceStatus);
+		if (saved)
+		{
+			CandyLandSlotIndex.update(slotNumber, snapshot.turnCount, snapshot.playerPositions);
+		}
+
+		// saves that were replaced are complete too, their state was superseded
+		for (Snapshot done = snapshot; done != null; done = done.replaced)
+		{
+			if (done.onSaved != null)
+			{
+				done.onSaved.accept(saved);
+			}
+		}
+	}
+
+	/**
+	 * Run other disk work on the save thread, after every save requested so far.
+	 * Runs it on the calling thread once the service is disposed.
+	 *
+	 * @param task - work to run in the background
+	 */
+	public void execute(Runnable task)
+	{
+		try
+		{
+			executor.execute(task);
+		}
+		catch (RejectedExecutionException e)
+		{
+			task.run();
+		}
+	}
+
+	/**
+	 * Block until every save requested so far is written.
+	 */
+	public void flush()
+	{
+		try
+		{
+			executor.submit(() -> {}).get();
+		}
+		catch (Exception e)
+		{
+			if (CandyLandDebug.ENABLED)
+			{
+				System.err.println("Error waiting for saves: " + e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Write every waiting save and stop the save thread.
+	 */
+	public void dispose()
+	{
+		executor.shutdown();
+		try
+		{
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Copy of the game state taken when a save was requested.
+	 */
+	private static class Snapshot
+	{
+		final int[] playerTokens;
+		final int[] playerPositions;
+		final byte[] cards;
+		final boolean[] licoriceStatus;
+		final int turnCount;
+		final Consumer<Boolean> onSaved;
+		// earlier save of the same slot this one replaced before it was written
+		Snapshot replaced;
+
+		Snapshot(int[] playerTokens, int[] playerPositions, CandyLandDeck deck, boolean[] licoriceStatus, int turnCount, Consumer<Boolean> onSaved)
+		{
+			this.playerTokens = playerTokens.clone();
+			this.playerPositions = playerPositions.clone();
+			this.licoriceStatus = licoriceStatus.clone();
+			this.cards = new byte[deck.size()];
+			deck.getCards(cards);
+			this.turnCount = turnCount;
+			this.onSaved = onSaved;
+		}
+	}
+}
@@ -0,0 +1,403 @@
+/**
+ * CandyLandServer.java
+ * This class represents a server hosting many headless games over a local socket.
+ * Each connection is a session playing one game at a time, with the same rules GameScreen plays by.
+ * Sessions are spread over a few event loop threads, each waiting on its own selector,
+ * so an idle session is only a game, a small buffer and a registered channel.
+ *
+ * Requests, client to server:
+ * NEW_GAME			1 byte, then player count 1 byte, difficulty 1 byte
+ * 					(index in CandyLandStrategy.DIFFICULTIES, only strategies without a time budget)
+ * 					and seed 8 bytes
+ * TURN				1 byte, the user draws, then every computer plays until it is the user's turn
+ * 					again or the game is won. A user on licorice has their turn skipped the same way
+ *
+ * Replies, server to client, one per request:
+ * status			1 byte, OK or ERROR. Nothing follows an ERROR
+ * card				1 byte, card code the user played, CandyLandReplay.SKIPPED if none was played
+ * winner			1 byte, index of the winning player, NO_WINNER while the game goes on
+ * player count		1 byte
+ * positions		1 byte per player
+ */
+
+package com.candyland.game;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class CandyLandServer
+{
+	public final static int DEFAULT_PORT = 7070;
+
+	// request types
+	public final static int NEW_GAME = 1;
+	public final static int TURN = 2;
+	public final static int NEW_GAME_SIZE = 11;
+
+	// reply status
+	public final static int OK = 0;
+	public final static int ERROR = 1;
+	public final static int REPLY_HEADER_SIZE = 4;
+	public final static int NO_WINNER = 0xFF;
+
+	// connections waiting to be accepted, the load generator connects thousands at once
+	private final static int BACKLOG = 4096;
+
+	private final ServerSocketChannel server;
+	private final EventLoop[] loops;
+	private final Thread[] threads;
+	// event loop given the next connection accepted
+	private int nextLoop = 0;
+
+	/**
+	 * Start listening and serving sessions.
+	 *
+	 * @param port - port to listen on, 0 for any free port
+	 * @param threads - number of event loop threads
+	 * @throws IOException if the port could not be opened
+	 */
+	public CandyLandServer(int port, int threads) throws IOException
+	{
+		server = ServerSocketChannel.open();
+		server.bind(new InetSocketAddress(port), BACKLOG);
+		server.configureBlocking(false);
+
+		loops = new EventLoop[Math.max(1, threads)];
+		for (int i = 0; i < loops.length; i++)
+		{
+			loops[i] = new EventLoop();
+		}
+		// the first loop also accepts connections and hands them to every loop in turn
+		server.register(loops[0].selector, SelectionKey.OP_ACCEPT);
+
+		this.threads = new Thread[loops.length];
+		for (int i = 0; i < loops.length; i++)
+		{
+			this.threads[i] = new Thread(loops[i], "candyland-server-" + i);
+			this.threads[i].start();
+		}
+	}
+
+	/**
+	 * @return port the server is listening on
+	 */
+	public int getPort()
+	{
+		return server.socket().getLocalPort();
+	}
+
+	/**
+	 * @return number of turns played in every session so far
+	 */
+	public long getTurnsPlayed()
+	{
+		long turns = 0;
+		for (EventLoop loop : loops)
+		{
+			turns += loop.turnsPlayed;
+		}
+		return turns;
+	}
+
+	/**
+	 * Stop listening, close every session and wait for the event loops to finish.
+	 */
+	public void close()
+	{
+		try
+		{
+			server.close();
+		}
+		catch (IOException e)
+		{
+			if (CandyLandDebug.ENABLED)
+			{
+				System.err.println("Error closing server: " + e.getMessage());
+			}
+		}
+		for (EventLoop loop : loops)
+		{
+			loop.running = false;
+			loop.selector.wakeup();
+		}
+		for (Thread thread : threads)
+		{
+			try
+			{
+				thread.join();
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Accept every waiting connection, handing each to the next event loop.
+	 */
+	private void accept() throws IOException
+	{
+		SocketChannel channel;
+		while ((channel = server.accept()) != null)
+		{
+			channel.configureBlocking(false);
+			channel.socket().setTcpNoDelay(true);
+			EventLoop loop = loops[nextLoop];
+			nextLoop = nextLoop + 1 == loops.length ? 0 : nextLoop + 1;
+			loop.accepted.add(channel);
+			// the loop registers it on its next select, straight away even if it is this loop
+			loop.selector.wakeup();
+		}
+	}
+
+	/**
+	 * One thread serving its sessions, playing turns as requests arrive.
+	 */
+	private class EventLoop implements Runnable
+	{
+		final Selector selector;
+		// connections accepted for this loop, registered by its own thread
+		final Queue<SocketChannel> accepted = new ConcurrentLinkedQueue<>();
+		// replies are built here and written straight out, only unwritten bytes are kept by the session
+		final ByteBuffer reply = ByteBuffer.allocateDirect(REPLY_HEADER_SIZE + CandyLandGame.MAX_PLAYERS);
+		volatile boolean running = true;
+		volatile long turnsPlayed;
+
+		EventLoop() throws IOException
+		{
+			selector = Selector.open();
+		}
+
+		@Override
+		public void run()
+		{
+			try
+			{
+				while (running)
+				{
+					selector.select();
+					SocketChannel channel;
+					while ((channel = accepted.poll()) != null)
+					{
+						channel.register(selector, SelectionKey.OP_READ, new Session());
+					}
+
+					Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+					while (keys.hasNext())
+					{
+						SelectionKey key = keys.next();
+						keys.remove();
+						if (!key.isValid())
+						{
+							continue;
+						}
+						try
+						{
+							if (key.isAcceptable())
+							{
+								accept();
+							}
+							else
+							{
+								serve(key);
+							}
+						}
+						catch (IOException e)
+						{
+							// the client went away
+							key.cancel();
+							key.channel().close();
+						}
+					}
+				}
+			}
+			catch (IOException | ClosedSelectorException e)
+			{
+				if (CandyLandDebug.ENABLED)
+				{
+					System.err.println("Server event loop stopped: " + e.getMessage());
+				}
+			}
+			finally
+			{
+				for (SelectionKey key : selector.keys())
+				{
+					try
+					{
+						key.channel().close();
+					}
+					catch (IOException e)
+					{
+						// closing anyway
+					}
+				}
+				try
+				{
+					selector.close();
+				}
+				catch (IOException e)
+				{
+					// closing anyway
+				}
+			}
+		}
+
+		/**
+		 * Finish writing a reply the client could not take at once, then answer every complete request.
+		 * No request is read while a reply is waiting to be written.
+		 */
+		void serve(SelectionKey key) throws IOException
+		{
+			SocketChannel channel = (SocketChannel) key.channel();
+			Session session = (Session) key.attachment();
+
+			if (session.unwritten != null)
+			{
+				channel.write(session.unwritten);
+				if (session.unwritten.hasRemaining())
+				{
+					return;
+				}
+				session.unwritten = null;
+			}
+			else if (channel.read(session.request) < 0)
+			{
+				key.cancel();
+				channel.close();
+				return;
+			}
+
+			while (session.unwritten == null && session.hasRequest())
+			{
+				session.request.flip();
+				reply.clear();
+				session.answer(session.request, reply);
+				session.request.compact();
+				turnsPlayed = turnsPlayed + session.turns;
+				session.turns = 0;
+
+				reply.flip();
+				channel.write(reply);
+				if (reply.hasRemaining())
+				{
+					// the client is slow to read, keep the rest until it can
+					session.unwritten = ByteBuffer.allocate(reply.remaining());
+					session.unwritten.put(reply);
+					session.unwritten.flip();
+				}
+			}
+			key.interestOps(session.unwritten != null ? SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+		}
+	}
+
+	/**
+	 * The game of one connection and its unanswered requests.
+	 */
+	private static class Session
+	{
+		final ByteBuffer request = ByteBuffer.allocate(NEW_GAME_SIZE);
+		// reply the client has not read yet, null when everything was written
+		ByteBuffer unwritten;
+		// null until the client starts a game
+		CandyLandGame game;
+		// turns played by the last request
+		int turns;
+
+		/**
+		 * @return true if a whole request has been read
+		 */
+		boolean hasRequest()
+		{
+			int read = request.position();
+			return read > 0 && read >= (request.get(0) == NEW_GAME ? NEW_GAME_SIZE : 1);
+		}
+
+		/**
+		 * Answer the request at the start of the buffer, consuming it.
+		 */
+		void answer(ByteBuffer in, ByteBuffer out)
+		{
+			int type = in.get();
+			if (type == NEW_GAME)
+			{
+				int players = in.get() & 0xFF;
+				int difficulty = in.get() & 0xFF;
+				long seed = in.getLong();
+				// a strategy that takes time to choose would hold up every session on this loop
+				if (players < 1 || difficulty >= CandyLandStrategy.DIFFICULTIES.length
+						|| CandyLandStrategy.DIFFICULTIES[difficulty].getTimeBudget() > 0)
+				{
+					out.put((byte) ERROR);
+					return;
+				}
+				game = new CandyLandGame(new SplittableRandom(seed), players);
+				game.computerStrategy = CandyLandStrategy.DIFFICULTIES[difficulty];
+				game.newGame();
+				game.activeGame = true;
+				putState(out, CandyLandReplay.SKIPPED);
+			}
+			else if (type == TURN && game != null && game.activeGame)
+			{
+				putState(out, playRound());
+			}
+			else
+			{
+				out.put((byte) ERROR);
+			}
+		}
+
+		/**
+		 * Play the user's turn and every computer turn after it, as GameScreen does.
+		 *
+		 * @return card code the user played, CandyLandReplay.SKIPPED if their turn was skipped
+		 */
+		int playRound()
+		{
+			game.playTurn();
+			turns++;
+			int card = game.skipCurrentTurn[0] ? CandyLandReplay.SKIPPED : game.getCardsDrawn()[0];
+			// computers play, and the user's turn is skipped while they are on licorice
+			while (game.gameWinner == -1 && (game.getCurrentPlayerType() != 0 || game.skipNextTurn[0]))
+			{
+				game.playTurn();
+				turns++;
+			}
+			return card;
+		}
+
+		void putState(ByteBuffer out, int card)
+		{
+			out.put((byte) OK);
+			out.put((byte) card);
+			out.put((byte) (game.gameWinner == -1 ? NO_WINNER : game.gameWinner));
+			out.put((byte) game.getPlayerCount());
+			for (int position : game.playerPositions)
+			{
+				out.put((byte) position);
+			}
+		}
+	}
+
+	/**
+	 * Run a server until the process is stopped.
+	 * Arguments: [port] [event loop threads]
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+		int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+		CandyLandServer server = new CandyLandServer(port, threads);
+		System.out.println("Serving games on port " + server.getPort() + " with " + threads + " event loops");
+	}
+}
@@ -0,0 +1,55 @@
+/**
+ * CandyLandServerTest.java
+ * This class represents the white box testing for the game server and its load generator
+ */
+
+package com.candyland.game;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+import org.junit.Test;
+
+public class CandyLandServerTest
+{
+	/*
+	 * Testing:
+	 * Clients of the game server play every turn they ask for,
+	 * and a strategy that takes time to choose is refused
+	 */
+	@Test
+	public void serverPlaysSessions() throws IOException
+	{
+		CandyLandServer server = new CandyLandServer(0, 2);
+		try
+		{
+			InetSocketAddress address = new InetSocketAddress("localhost", server.getPort());
+			CandyLandLoadGenerator.Results results = new CandyLandLoadGenerator(address, 2, 9, 0).run(50, 40);
+			assertEquals(0, results.errors);
+			assertEquals(2000, results.getTurns());
+			assertTrue(results.games > 0);
+			assertTrue(results.latency(50) <= results.latency(99));
+			// every request plays the user's turn and the computers' turns after it
+			assertTrue(server.getTurnsPlayed() >= 2000);
+
+			try (SocketChannel channel = SocketChannel.open(address))
+			{
+				ByteBuffer request = ByteBuffer.allocate(CandyLandServer.NEW_GAME_SIZE);
+				request.put((byte) CandyLandServer.NEW_GAME).put((byte) 4).put((byte) 2).putLong(1);
+				request.flip();
+				channel.write(request);
+				ByteBuffer reply = ByteBuffer.allocate(1);
+				channel.read(reply);
+				assertEquals(CandyLandServer.ERROR, reply.get(0));
+			}
+		}
+		finally
+		{
+			server.close();
+		}
+	}
+}
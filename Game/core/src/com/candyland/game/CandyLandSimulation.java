@@ -0,0 +1,248 @@
+/**
+ * CandyLandSimulation.java
+ * This class represents a batch runner playing many headless games of Candy Land
+ * across all cores, used for balancing the rules and difficulty.
+ * Results are identical for a given seed and thread count.
+ */
+
+package com.candyland.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class CandyLandSimulation
+{
+	// games longer than this many rounds are counted in the last histogram bucket
+	public final static int MAX_ROUNDS = 256;
+
+	private final long seed;
+	private final int threads;
+	private final int players;
+
+	/**
+	 * @param seed - master seed, each worker's random source is split from it
+	 * @param threads - number of worker threads to play games on
+	 */
+	public CandyLandSimulation(long seed, int threads)
+	{
+		this(seed, threads, CandyLandGame.GAME_PIECES);
+	}
+
+	/**
+	 * @param seed - master seed, each worker's random source is split from it
+	 * @param threads - number of worker threads to play games on
+	 * @param players - number of players in every game (1 : CandyLandGame.MAX_PLAYERS)
+	 */
+	public CandyLandSimulation(long seed, int threads, int players)
+	{
+		this.seed = seed;
+		this.threads = Math.max(1, threads);
+		this.players = players;
+	}
+
+	/**
+	 * Play the given number of complete games, divided evenly between the workers.
+	 *
+	 * @param games - total number of games to play
+	 * @param extremeDifficulty - true if computers draw two cards and keep the best
+	 * @return combined results of every worker
+	 */
+	public Results run(long games, boolean extremeDifficulty)
+	{
+		Results total = new Results(players);
+		for (Results results : runWorkers(seed, threads, games, (firstGame, workerGames, random) -> playGames(workerGames, random, extremeDifficulty, players)))
+		{
+			total.add(results);
+		}
+		return total;
+	}
+
+	/**
+	 * Plays a range of games on one worker thread.
+	 *
+	 * @param <R> - results of the games
+	 */
+	interface Worker<R>
+	{
+		/**
+		 * @param firstGame - number of the first game played, counted over every worker
+		 * @param games - number of games to play
+		 * @param random - random source owned by this worker
+		 * @return results of the games played
+		 */
+		R playGames(long firstGame, long games, SplittableRandom random);
+	}
+
+	/**
+	 * Divide games evenly between worker threads and wait for every worker to finish.
+	 * Shared by the simulation and CandyLandTournament.
+	 *
+	 * @param seed - master seed, each worker's random source is split from it
+	 * @param threads - number of worker threads to play games on
+	 * @param games - total number of games to play
+	 * @param worker - plays each worker's games
+	 * @return results of each worker, in worker order
+	 * @throws IllegalStateException if a worker fails or the calling thread is interrupted
+	 */
+	static <R> List<R> runWorkers(long seed, int threads, long games, Worker<R> worker)
+	{
+		// split one random source per worker, in worker order,
+		// so every worker sees the same sequence for a given seed
+		SplittableRandom master = new SplittableRandom(seed);
+		SplittableRandom[] randoms = new SplittableRandom[threads];
+		for (int i = 0; i < threads; i++)
+		{
+			randoms[i] = master.split();
+		}
+
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try
+		{
+			List<Future<R>> futures = new ArrayList<>();
+			long firstGame = 0;
+			for (int i = 0; i < threads; i++)
+			{
+				// first (games % threads) workers play one extra game
+				long workerGames = games / threads + (i < games % threads ? 1 : 0);
+				long workerFirstGame = firstGame;
+				SplittableRandom random = randoms[i];
+				futures.add(pool.submit(() -> worker.playGames(workerFirstGame, workerGames, random)));
+				firstGame += workerGames;
+			}
+
+			List<R> results = new ArrayList<>();
+			for (Future<R> future : futures)
+			{
+				results.add(future.get());
+			}
+			return results;
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Simulation interrupted", e);
+		}
+		catch (ExecutionException e)
+		{
+			throw new IllegalStateException("Simulation failed", e.getCause());
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Play games on the calling thread with a single reused game engine.
+	 *
+	 * @param games - number of games to play
+	 * @param random - random source owned by this worker
+	 * @param extremeDifficulty - true if computers draw two cards and keep the best
+	 * @param players - number of players in every game
+	 * @return results of the games played
+	 */
+	private static Results playGames(long games, SplittableRandom random, boolean extremeDifficulty, int players)
+	{
+		Results results = new Results(players);
+		CandyLandGame game = new CandyLandGame(random, players);
+		game.extremeDifficulty = extremeDifficulty;
+		for (long i = 0; i < games; i++)
+		{
+			game.newGame();
+			int winner = game.playGame();
+			results.record(winner, game.turnCount);
+		}
+		return results;
+	}
+
+	/**
+	 * Win counts and game lengths of a batch of games.
+	 */
+	public static class Results
+	{
+		public long games;
+		public long totalTurns;
+		// wins[p] = games won by the player in seat p
+		public long[] wins;
+		// roundHistogram[r] = number of games the winner finished on round r
+		public long[] roundHistogram = new long[MAX_ROUNDS + 1];
+
+		/**
+		 * @param players - number of players in each game
+		 */
+		public Results(int players)
+		{
+			wins = new long[players];
+		}
+
+		void record(int winner, int turns)
+		{
+			games++;
+			totalTurns += turns;
+			wins[winner]++;
+			int rounds = (turns + wins.length - 1) / wins.length;
+			roundHistogram[Math.min(rounds, MAX_ROUNDS)]++;
+		}
+
+		void add(Results other)
+		{
+			games += other.games;
+			totalTurns += other.totalTurns;
+			for (int i = 0; i < wins.length; i++)
+			{
+				wins[i] += other.wins[i];
+			}
+			for (int i = 0; i < roundHistogram.length; i++)
+			{
+				roundHistogram[i] += other.roundHistogram[i];
+			}
+		}
+
+		/**
+		 * @param player - player index
+		 * @return fraction of games won by the player
+		 */
+		public double winRate(int player)
+		{
+			return games == 0 ? 0 : (double) wins[player] / games;
+		}
+
+		/**
+		 * @return average number of rounds played per game
+		 */
+		public double averageRounds()
+		{
+			return games == 0 ? 0 : (double) totalTurns / games / wins.length;
+		}
+	}
+
+	/**
+	 * Run a simulation from the command line.
+	 * Arguments: [games] [seed] [threads] [extreme] [players]
+	 */
+	public static void main(String[] args)
+	{
+		long games = args.length > 0 ? Long.parseLong(args[0]) : 1000000;
+		long seed = args.length > 1 ? Long.parseLong(args[1]) : 0;
+		int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+		boolean extreme = args.length > 3 && Boolean.parseBoolean(args[3]);
+		int players = args.length > 4 ? Integer.parseInt(args[4]) : CandyLandGame.GAME_PIECES;
+
+		long start = System.nanoTime();
+		Results results = new CandyLandSimulation(seed, threads, players).run(games, extreme);
+		double seconds = (System.nanoTime() - start) / 1e9;
+
+		System.out.println(results.games + " games on " + threads + " threads in " + String.format("%.2f", seconds) + "s (" + String.format("%.0f", results.games / seconds) + " games/s)");
+		for (int i = 0; i < players; i++)
+		{
+			String name = i == 0 ? "You" : "Computer " + i;
+			System.out.println(name + ": " + String.format("%.4f", results.winRate(i)));
+		}
+		System.out.println("Average rounds: " + String.format("%.3f", results.averageRounds()));
+	}
+}
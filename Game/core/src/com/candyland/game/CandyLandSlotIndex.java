@@ -0,0 +1,257 @@
+/**
+ * CandyLandSlotIndex.java
+ * This class represents the index of saved games, saved_games.idx.
+ * It holds a few bytes about each save slot, so the main menu can list and preview
+ * saved games without reading them. Only the slot the player picks is loaded.
+ *
+ * magic number		4 bytes, "CLIX"
+ * version			1 byte
+ * entry count		1 byte
+ * entries			16 bytes each: slot, save format version, leader position, player count,
+ * 					turn count (4 bytes), time saved in milliseconds since 1970 (8 bytes)
+ *
+ * Saves are written by the save thread and the turn journal, so every update
+ * reads, changes and atomically replaces the file while holding the class lock.
+ */
+
+package com.candyland.game;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+public class CandyLandSlotIndex
+{
+	public final static int MAGIC = 0x434C4958;
+	public final static int VERSION = 1;
+	// the autosave and slots 1 : 3
+	public final static int SLOTS = 4;
+
+	private final static String FILE = "saved_games.idx";
+	private final static int HEADER_SIZE = 6;
+	private final static int ENTRY_SIZE = 16;
+
+	// turn count of entries rebuilt from the saves themselves, which do not record it
+	public final static int UNKNOWN_TURN_COUNT = -1;
+
+	/**
+	 * What the index knows about a saved game.
+	 */
+	public static class Entry
+	{
+		public final int slotNumber;
+		public final int version;
+		public final int leaderPosition;
+		public final int players;
+		public final int turnCount;
+		public final long timestamp;
+
+		public Entry(int slotNumber, int version, int leaderPosition, int players, int turnCount, long timestamp)
+		{
+			this.slotNumber = slotNumber;
+			this.version = version;
+			this.leaderPosition = leaderPosition;
+			this.players = players;
+			this.turnCount = turnCount;
+			this.timestamp = timestamp;
+		}
+	}
+
+	private CandyLandSlotIndex()
+	{
+	}
+
+	/**
+	 * Read every entry of the index.
+	 * If there is no index, as for games saved by older versions, it is rebuilt
+	 * once by reading each slot.
+	 *
+	 * @return entries indexed by slot number, null for empty slots
+	 */
+	public static synchronized Entry[] read()
+	{
+		Entry[] entries = readFile();
+		if (entries == null)
+		{
+			entries = rebuild();
+			writeFile(entries);
+		}
+		return entries;
+	}
+
+	/**
+	 * @return the most recently saved game, null if there is none
+	 */
+	public static Entry latest()
+	{
+		Entry latest = null;
+		for (Entry entry : read())
+		{
+			if (entry != null && (latest == null || entry.timestamp > latest.timestamp))
+			{
+				latest = entry;
+			}
+		}
+		return latest;
+	}
+
+	/**
+	 * Record a game that was just saved.
+	 *
+	 * @param slotNumber - save game slot written
+	 * @param turnCount - number of turns played in the game
+	 * @param playerPositions - each player's position on the board
+	 */
+	public static synchronized void update(int slotNumber, int turnCount, int[] playerPositions)
+	{
+		Entry[] entries = read();
+		int leader = 0;
+		for (int position : playerPositions)
+		{
+			leader = Math.max(leader, position);
+		}
+		entries[slotNumber] = new Entry(slotNumber, CandyLandLoad.VERSION, leader, playerPositions.length, turnCount, System.currentTimeMillis());
+		writeFile(entries);
+	}
+
+	/**
+	 * Remove a slot whose save was deleted.
+	 *
+	 * @param slotNumber - save game slot deleted
+	 */
+	public static synchronized void remove(int slotNumber)
+	{
+		Entry[] entries = read();
+		if (entries[slotNumber] != null)
+		{
+			entries[slotNumber] = null;
+			writeFile(entries);
+		}
+	}
+
+	/**
+	 * @return entries of the index file, null if there is no valid index
+	 */
+	private static Entry[] readFile()
+	{
+		try
+		{
+			ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(Paths.get(FILE)));
+			if (buffer.getInt() != MAGIC || buffer.get() != VERSION)
+			{
+				return null;
+			}
+			Entry[] entries = new Entry[SLOTS];
+			int count = buffer.get() & 0xFF;
+			for (int i = 0; i < count; i++)
+			{
+				int slotNumber = buffer.get() & 0xFF;
+				Entry entry = new Entry(slotNumber, buffer.get() & 0xFF, buffer.get() & 0xFF, buffer.get() & 0xFF, buffer.getInt(), buffer.getLong());
+				if (slotNumber < SLOTS)
+				{
+					entries[slotNumber] = entry;
+				}
+			}
+			return entries;
+		}
+		catch (IOException | BufferUnderflowException e)
+		{
+			return null;
+		}
+	}
+
+	/**
+	 * Build the index by reading every slot, the turn count is not known.
+	 * Each entry records the format its slot was read in, TEXT_VERSION for text saves.
+	 */
+	private static Entry[] rebuild()
+	{
+		Entry[] entries = new Entry[SLOTS];
+		CandyLandLoad loader = new CandyLandLoad();
+		for (int slotNumber = 0; slotNumber < SLOTS; slotNumber++)
+		{
+			if (loader.read(slotNumber))
+			{
+				int leader = 0;
+				for (int position : loader.getPlayerPositions())
+				{
+					leader = Math.max(leader, position);
+				}
+				entries[slotNumber] = new Entry(slotNumber, loader.getVersion(), leader, loader.getPlayerPositions().length, UNKNOWN_TURN_COUNT, lastModified(slotNumber));
+			}
+		}
+		return entries;
+	}
+
+	private static long lastModified(int slotNumber)
+	{
+		for (String extension : new String[] {".sav", ".txt"})
+		{
+			try
+			{
+				return Files.getLastModifiedTime(Paths.get("saved_game_data_" + slotNumber + extension)).toMillis();
+			}
+			catch (IOException e)
+			{
+				// try the next format
+			}
+		}
+		return 0;
+	}
+
+	private static void writeFile(Entry[] entries)
+	{
+		int count = 0;
+		for (Entry entry : entries)
+		{
+			if (entry != null)
+			{
+				count++;
+			}
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + count * ENTRY_SIZE);
+		buffer.putInt(MAGIC);
+		buffer.put((byte) VERSION);
+		buffer.put((byte) count);
+		for (Entry entry : entries)
+		{
+			if (entry != null)
+			{
+				buffer.put((byte) entry.slotNumber);
+				buffer.put((byte) entry.version);
+				buffer.put((byte) entry.leaderPosition);
+				buffer.put((byte) entry.players);
+				buffer.putInt(entry.turnCount);
+				buffer.putLong(entry.timestamp);
+			}
+		}
+
+		Path index = Paths.get(FILE);
+		Path temporary = Paths.get(FILE + ".tmp");
+		try
+		{
+			Files.write(temporary, buffer.array());
+			try
+			{
+				Files.move(temporary, index, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			}
+			catch (AtomicMoveNotSupportedException e)
+			{
+				Files.move(temporary, index, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		catch (IOException e)
+		{
+			if (CandyLandDebug.ENABLED)
+			{
+				System.err.println("Error writing save index: " + e.getMessage());
+			}
+		}
+	}
+}
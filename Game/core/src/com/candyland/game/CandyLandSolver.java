@@ -0,0 +1,284 @@
+/**
+ * CandyLandSolver.java
+ * This class represents an exact Markov chain solution of Candy Land.
+ * With an infinite deck every card is drawn with a fixed probability, so each player
+ * is an independent chain over (board position, licorice) states built from the
+ * precomputed move table. The chain gives the exact distribution of turns to finish,
+ * the win probability of every seat and the distribution of game length in rounds, in milliseconds instead of hours of sampling.
+ *
+ * The real 64 card deck is shared between players, which makes the remaining
+ * deck part of the state (billions of reachable deck compositions), so the
+ * finite deck is estimated with the seeded simulation runner instead.
+ */
+
+package com.candyland.game;
+
+import java.util.Arrays;
+
+public class CandyLandSolver
+{
+	// stop once the chance of a player still being on the board is below this
+	private final static double TAIL_PROBABILITY = 1e-13;
+	private final static int MAX_TURNS = 10000;
+
+	// chain states are position * 2 + licorice, licorice meaning the next turn is skipped
+	private final static int STATES = CandyLandMoves.POSITIONS * 2;
+	private final static int FINISH = CandyLandGame.MAX_POSITIONS;
+
+	private CandyLandSolver() {}
+
+	/**
+	 * Solve the game exactly with an infinite deck.
+	 * The user (seat 0) always plays one card, computers (seats 1 : 3)
+	 * keep the best of two cards on Extreme difficulty.
+	 *
+	 * @param extremeDifficulty - true if computers draw two cards and keep the best
+	 * @return exact distributions for the current rules
+	 */
+	public static Solution solve(boolean extremeDifficulty)
+	{
+		double[] normal = turnsToFinish(cardProbabilities(false));
+		double[] computer = extremeDifficulty ? turnsToFinish(cardProbabilities(true)) : normal;
+
+		double[][] seats = new double[CandyLandGame.GAME_PIECES][];
+		seats[0] = normal;
+		for (int i = 1; i < CandyLandGame.GAME_PIECES; i++)
+		{
+			seats[i] = computer;
+		}
+		return combine(seats);
+	}
+
+	/**
+	 * Estimate the game with the real 64 card deck and reshuffles,
+	 * by playing seeded headless games (see class comment).
+	 *
+	 * @param extremeDifficulty - true if computers draw two cards and keep the best
+	 * @param games - number of games to simulate
+	 * @param seed - master seed of the simulation
+	 * @return win probabilities and game length distribution, turnsToFinish is not available
+	 */
+	public static Solution estimateFiniteDeck(boolean extremeDifficulty, long games, long seed)
+	{
+		CandyLandSimulation.Results results = new CandyLandSimulation(seed, Runtime.getRuntime().availableProcessors()).run(games, extremeDifficulty);
+
+		Solution solution = new Solution();
+		solution.winProbability = new double[CandyLandGame.GAME_PIECES];
+		for (int i = 0; i < CandyLandGame.GAME_PIECES; i++)
+		{
+			solution.winProbability[i] = results.winRate(i);
+		}
+		solution.roundDistribution = new double[results.roundHistogram.length];
+		for (int i = 0; i < results.roundHistogram.length; i++)
+		{
+			solution.roundDistribution[i] = (double) results.roundHistogram[i] / results.games;
+		}
+		return solution;
+	}
+
+	/**
+	 * Obtain the probability of a player ending a turn on each move table entry
+	 * when starting from a given position, for every position.
+	 *
+	 * @param bestOfTwo - true if the player draws two cards and keeps the best
+	 * @return probabilities[position][card], the card being the one played
+	 */
+	private static double[][] cardProbabilities(boolean bestOfTwo)
+	{
+		double[] single = new double[CandyLandDeck.CARD_TYPES];
+		for (int card = 0; card < CandyLandDeck.CARD_TYPES; card++)
+		{
+			int copies = CandyLandDeck.isSpecial(card) ? 1 : CandyLandDeck.isDouble(card) ? 2 : 8;
+			single[card] = (double) copies / CandyLandDeck.DECK_SIZE;
+		}
+
+		double[][] probabilities = new double[CandyLandMoves.POSITIONS][];
+		for (int position = 0; position < CandyLandMoves.POSITIONS; position++)
+		{
+			if (!bestOfTwo)
+			{
+				probabilities[position] = single;
+				continue;
+			}
+
+			// same choice as CandyLandGame.drawComputerCard()
+			double[] chosen = new double[CandyLandDeck.CARD_TYPES];
+			for (int card1 = 0; card1 < CandyLandDeck.CARD_TYPES; card1++)
+			{
+				int steps1 = CandyLandMoves.steps(CandyLandMoves.get(position, card1));
+				for (int card2 = 0; card2 < CandyLandDeck.CARD_TYPES; card2++)
+				{
+					int steps2 = CandyLandMoves.steps(CandyLandMoves.get(position, card2));
+					chosen[steps1 <= steps2 ? card2 : card1] += single[card1] * single[card2];
+				}
+			}
+			probabilities[position] = chosen;
+		}
+		return probabilities;
+	}
+
+	/**
+	 * Step the chain of a single player from the start until it has (almost) surely finished.
+	 *
+	 * @param probabilities - card probabilities from cardProbabilities()
+	 * @return finish[t] = probability of finishing on the player's turn t (turn 1 is the first)
+	 */
+	private static double[] turnsToFinish(double[][] probabilities)
+	{
+		double[] finish = new double[MAX_TURNS + 1];
+		double[] current = new double[STATES];
+		double[] next = new double[STATES];
+		current[0] = 1;
+		double remaining = 1;
+
+		for (int turn = 1; turn <= MAX_TURNS && remaining > TAIL_PROBABILITY; turn++)
+		{
+			Arrays.fill(next, 0);
+			for (int position = 0; position < FINISH; position++)
+			{
+				// skipped turn, the player stays and loses licorice
+				next[position * 2] += current[position * 2 + 1];
+
+				double probability = current[position * 2];
+				if (probability == 0)
+				{
+					continue;
+				}
+				double[] cards = probabilities[position];
+				for (int card = 0; card < CandyLandDeck.CARD_TYPES; card++)
+				{
+					int move = CandyLandMoves.get(position, card);
+					int destination = CandyLandMoves.destination(move);
+					double p = probability * cards[card];
+					if (destination == FINISH)
+					{
+						finish[turn] += p;
+					}
+					else
+					{
+						next[destination * 2 + (CandyLandMoves.isLicorice(move) ? 1 : 0)] += p;
+					}
+				}
+			}
+			remaining -= finish[turn];
+			double[] temp = current;
+			current = next;
+			next = temp;
+		}
+		return finish;
+	}
+
+	/**
+	 * Combine independent players taking turns in seat order.
+	 * Seat i wins on round t if it finishes on its turn t, every earlier seat
+	 * needed more than t turns and every later seat more than t - 1 turns.
+	 *
+	 * @param seats - turnsToFinish() of every seat
+	 * @return combined solution
+	 */
+	private static Solution combine(double[][] seats)
+	{
+		int players = seats.length;
+		int turns = seats[0].length;
+
+		// survival[i][t] = probability seat i has not finished after t turns
+		double[][] survival = new double[players][turns];
+		for (int i = 0; i < players; i++)
+		{
+			survival[i][0] = 1;
+			for (int t = 1; t < turns; t++)
+			{
+				survival[i][t] = survival[i][t - 1] - seats[i][t];
+			}
+		}
+
+		Solution solution = new Solution();
+		solution.turnsToFinish = seats;
+		solution.winProbability = new double[players];
+		solution.roundDistribution = new double[turns];
+		for (int t = 1; t < turns; t++)
+		{
+			for (int i = 0; i < players; i++)
+			{
+				double p = seats[i][t];
+				for (int j = 0; j < players; j++)
+				{
+					if (j != i)
+					{
+						p *= survival[j][j < i ? t : t - 1];
+					}
+				}
+				solution.winProbability[i] += p;
+				solution.roundDistribution[t] += p;
+			}
+		}
+		return solution;
+	}
+
+	/**
+	 * Distributions describing a solved game.
+	 */
+	public static class Solution
+	{
+		// turnsToFinish[seat][t] = probability the seat, playing alone, finishes on its turn t
+		public double[][] turnsToFinish;
+		// winProbability[seat] = probability the seat wins the game
+		public double[] winProbability;
+		// roundDistribution[r] = probability the game ends on round r
+		public double[] roundDistribution;
+
+		/**
+		 * @return expected number of rounds in a game
+		 */
+		public double expectedRounds()
+		{
+			double expected = 0;
+			for (int r = 0; r < roundDistribution.length; r++)
+			{
+				expected += r * roundDistribution[r];
+			}
+			return expected;
+		}
+
+		/**
+		 * @param seat - player index
+		 * @return expected number of turns the seat needs to finish on its own
+		 */
+		public double expectedTurns(int seat)
+		{
+			double expected = 0;
+			for (int t = 0; t < turnsToFinish[seat].length; t++)
+			{
+				expected += t * turnsToFinish[seat][t];
+			}
+			return expected;
+		}
+	}
+
+	/**
+	 * Print the exact infinite deck solution and the finite deck estimate for both difficulties.
+	 * Arguments: [finite deck games] [seed]
+	 */
+	public static void main(String[] args)
+	{
+		long games = args.length > 0 ? Long.parseLong(args[0]) : 1000000;
+		long seed = args.length > 1 ? Long.parseLong(args[1]) : 0;
+
+		for (boolean extreme : new boolean[] {false, true})
+		{
+			String mode = extreme ? "Extreme" : "Normal";
+			long start = System.nanoTime();
+			Solution exact = solve(extreme);
+			double milliseconds = (System.nanoTime() - start) / 1e6;
+			Solution finite = estimateFiniteDeck(extreme, games, seed);
+
+			System.out.println(mode + " (infinite deck solved in " + String.format("%.1f", milliseconds) + "ms, finite deck from " + games + " games)");
+			for (int i = 0; i < CandyLandGame.GAME_PIECES; i++)
+			{
+				String name = i == 0 ? "You" : "Computer " + i;
+				System.out.println("  " + name + ": " + String.format("%.5f", exact.winProbability[i]) + " / " + String.format("%.5f", finite.winProbability[i]) + ", " + String.format("%.3f", exact.expectedTurns(i)) + " turns alone");
+			}
+			System.out.println("  Expected rounds: " + String.format("%.4f", exact.expectedRounds()) + " / " + String.format("%.4f", finite.expectedRounds()));
+		}
+	}
+}
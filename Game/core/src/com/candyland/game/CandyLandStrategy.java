@@ -0,0 +1,147 @@
+/**
+ * CandyLandStrategy.java
+ * This interface represents how a player chooses which card to play.
+ * A player draws cardsDrawn() cards each turn and plays the one chosen.
+ * Strategies are shared between games and threads, so they hold no game state.
+ * Each decision has a time budget, the engine hands the strategy a deadline
+ * and strategies that need time to choose return their best choice once it passes.
+ * The engine does not stop a strategy that overruns, on screen CandyLandDecider does.
+ */
+
+package com.candyland.game;
+
+import java.util.concurrent.TimeUnit;
+
+public interface CandyLandStrategy
+{
+	// most cards a strategy can draw in a turn, each is shown on GameScreen
+	int MAX_CARDS_DRAWN = 2;
+
+	/**
+	 * Normal difficulty, play the only card drawn.
+	 */
+	CandyLandStrategy NORMAL = new CandyLandStrategy()
+	{
+		@Override
+		public String getName()
+		{
+			return "normal";
+		}
+
+		@Override
+		public int cardsDrawn()
+		{
+			return 1;
+		}
+
+		@Override
+		public int choose(CandyLandGame game, int[] cards, int count, long deadline)
+		{
+			return cards[0];
+		}
+	};
+
+	/**
+	 * Extreme difficulty, draw two cards and play the one progressing the player further,
+	 * the second card if both move as far.
+	 * (Requirement 1.1.1)
+	 */
+	CandyLandStrategy EXTREME = new CandyLandStrategy()
+	{
+		@Override
+		public String getName()
+		{
+			return "extreme";
+		}
+
+		@Override
+		public int cardsDrawn()
+		{
+			return 2;
+		}
+
+		@Override
+		public int choose(CandyLandGame game, int[] cards, int count, long deadline)
+		{
+			int position = game.playerPositions[game.getCurrentPlayerType()];
+			int best = cards[0];
+			for (int i = 1; i < count; i++)
+			{
+				if (CandyLandMoves.steps(CandyLandMoves.get(position, best)) <= CandyLandMoves.steps(CandyLandMoves.get(position, cards[i])))
+				{
+					best = cards[i];
+				}
+			}
+			return best;
+		}
+	};
+
+	/**
+	 * Draw two cards and play out the rest of the game after each,
+	 * playing the card the player won with most often.
+	 */
+	CandyLandStrategy LOOKAHEAD = new CandyLandLookahead(CandyLandLookahead.DEFAULT_BUDGET);
+
+	// strategies the computers can be given in settings, in slider order.
+	// Replays save the computers' strategy as its index
+	CandyLandStrategy[] DIFFICULTIES = {NORMAL, EXTREME, LOOKAHEAD};
+
+	/**
+	 * @return name the strategy is chosen by, in lower case
+	 */
+	String getName();
+
+	/**
+	 * @return number of cards drawn each turn (1 : MAX_CARDS_DRAWN)
+	 */
+	int cardsDrawn();
+
+	/**
+	 * @return nanoseconds a decision may take, 0 if the strategy chooses instantly
+	 */
+	default long getTimeBudget()
+	{
+		return 0;
+	}
+
+	/**
+	 * Choose the card the current player plays.
+	 *
+	 * @param game - game being played, must not be changed
+	 * @param cards - card codes of the cards drawn, in the order they were drawn
+	 * @param count - number of cards drawn
+	 * @param deadline - System.nanoTime() by which to return, Long.MAX_VALUE if there is no time budget
+	 * @return card code of the card to play, one of the cards drawn
+	 */
+	int choose(CandyLandGame game, int[] cards, int count, long deadline);
+
+	/**
+	 * @param name - name of a strategy, as returned by getName().
+	 * "lookahead:N" is the lookahead strategy with a budget of N milliseconds per decision
+	 * @return the strategy, null if there is no strategy with the name
+	 */
+	static CandyLandStrategy forName(String name)
+	{
+		String[] parts = name.split(":", 2);
+		if (parts.length == 2 && parts[0].equalsIgnoreCase(LOOKAHEAD.getName()))
+		{
+			try
+			{
+				long milliseconds = Long.parseLong(parts[1].trim());
+				return milliseconds > 0 ? new CandyLandLookahead(TimeUnit.MILLISECONDS.toNanos(milliseconds)) : null;
+			}
+			catch (NumberFormatException e)
+			{
+				return null;
+			}
+		}
+		for (CandyLandStrategy strategy : DIFFICULTIES)
+		{
+			if (strategy.getName().equalsIgnoreCase(name))
+			{
+				return strategy;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,107 @@
+/**
+ * CandyLandStrategyTest.java
+ * This class represents the white box testing for computer strategies and their time budgets
+ */
+
+package com.candyland.game;
+
+import static org.junit.Assert.*;
+
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+public class CandyLandStrategyTest
+{
+	/*
+	 * Testing:
+	 * Lookahead chooses one of the cards drawn within its budget, falls back to the
+	 * furthest card with no time left, the decider abandons a strategy that overruns,
+	 * and a card that was not drawn is replaced by the furthest card as well
+	 */
+	@Test
+	public void strategiesKeepToTimeBudget()
+	{
+		CandyLandGame game = new CandyLandGame(new SplittableRandom(3));
+		game.newGame();
+		game.computerStrategy = CandyLandStrategy.forName("lookahead:20");
+		assertEquals("lookahead:20", game.computerStrategy.getName());
+		game.setCurrentPlayerType(1);
+
+		long start = System.nanoTime();
+		int count = game.drawCards(game.computerStrategy);
+		int card = game.chooseCard(game.computerStrategy, count);
+		assertTrue(System.nanoTime() - start < game.computerStrategy.getTimeBudget() + CandyLandDecider.GRACE);
+		int[] drawn = game.getCardsDrawn();
+		assertTrue(card == drawn[0] || card == drawn[1]);
+
+		// a deadline already passed leaves no time for playouts
+		int furthest = CandyLandStrategy.EXTREME.choose(game, drawn, count, Long.MAX_VALUE);
+		assertEquals(furthest, game.computerStrategy.choose(game, drawn, count, System.nanoTime()));
+
+		CandyLandStrategy stalling = new CandyLandStrategy()
+		{
+			@Override
+			public String getName()
+			{
+				return "stalling";
+			}
+
+			@Override
+			public int cardsDrawn()
+			{
+				return 2;
+			}
+
+			@Override
+			public long getTimeBudget()
+			{
+				return 1;
+			}
+
+			@Override
+			public int choose(CandyLandGame game, int[] cards, int count, long deadline)
+			{
+				try
+				{
+					Thread.sleep(60000);
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+				}
+				return cards[0];
+			}
+		};
+		CandyLandDecider decider = new CandyLandDecider();
+		CandyLandDecider.Decision decision = decider.decide(game, stalling, count);
+		while (!decision.isReady())
+		{
+			Thread.yield();
+		}
+		assertEquals(furthest, decision.getCard());
+		decider.dispose();
+
+		CandyLandStrategy cheating = new CandyLandStrategy()
+		{
+			@Override
+			public String getName()
+			{
+				return "cheating";
+			}
+
+			@Override
+			public int cardsDrawn()
+			{
+				return 2;
+			}
+
+			@Override
+			public int choose(CandyLandGame game, int[] cards, int count, long deadline)
+			{
+				return -1;
+			}
+		};
+		assertEquals(furthest, game.chooseCard(cheating, count));
+	}
+}
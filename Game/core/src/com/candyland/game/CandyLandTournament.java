@@ -0,0 +1,227 @@
+/**
+ * CandyLandTournament.java
+ * This class represents a batch runner playing headless games between computer strategies
+ * across all cores, used to tune the difficulty.
+ * Each entrant is a strategy with a starting seat. With seat rotation every entrant moves one seat
+ * each game, so over many games every entrant plays every seat equally often and the
+ * advantage of moving first does not favour any strategy.
+ * Win rates are reported with Wilson score confidence intervals.
+ * Games are divided between workers as CandyLandSimulation divides them, so results are
+ * identical for a given seed and thread count, unless an entrant with a time budget
+ * chooses differently depending on how fast it runs.
+ */
+
+package com.candyland.game;
+
+import java.util.SplittableRandom;
+
+public class CandyLandTournament
+{
+	// z score of a 95% confidence interval
+	public final static double Z_95 = 1.959963984540054;
+
+	private final long seed;
+	private final int threads;
+	private final CandyLandStrategy[] entrants;
+	private final boolean rotateSeats;
+
+	/**
+	 * @param seed - master seed, each worker's random source is split from it
+	 * @param threads - number of worker threads to play games on
+	 * @param entrants - strategy of each entrant, in the order of their starting seats
+	 * @param rotateSeats - true to move every entrant one seat on each game
+	 */
+	public CandyLandTournament(long seed, int threads, CandyLandStrategy[] entrants, boolean rotateSeats)
+	{
+		if (entrants.length < 1 || entrants.length > CandyLandGame.MAX_PLAYERS)
+		{
+			throw new IllegalArgumentException("Invalid number of entrants: " + entrants.length);
+		}
+		this.seed = seed;
+		this.threads = Math.max(1, threads);
+		this.entrants = entrants.clone();
+		this.rotateSeats = rotateSeats;
+	}
+
+	/**
+	 * Play the given number of complete games, divided evenly between the workers.
+	 *
+	 * @param games - total number of games to play
+	 * @return combined results of every worker
+	 */
+	public Results run(long games)
+	{
+		Results total = new Results(entrants);
+		for (Results results : CandyLandSimulation.runWorkers(seed, threads, games, this::playGames))
+		{
+			total.add(results);
+		}
+		return total;
+	}
+
+	/**
+	 * Play one worker's share of the tournament.
+	 * Seats are rotated by the game's number in the whole tournament,
+	 * so the rotation does not depend on how games are divided between workers.
+	 *
+	 * @param firstGame - number of the first game played
+	 * @param games - number of games to play
+	 * @param random - random source owned by this worker
+	 * @return results of the games played
+	 */
+	private Results playGames(long firstGame, long games, SplittableRandom random)
+	{
+		int players = entrants.length;
+		Results results = new Results(entrants);
+		CandyLandGame game = new CandyLandGame(random, players);
+		game.strategies = new CandyLandStrategy[players];
+		// entrant in each seat
+		int[] seated = new int[players];
+		int shift = rotateSeats ? (int) (firstGame % players) : 0;
+
+		for (long i = 0; i < games; i++)
+		{
+			for (int seat = 0; seat < players; seat++)
+			{
+				seated[seat] = seat + shift < players ? seat + shift : seat + shift - players;
+				game.strategies[seat] = entrants[seated[seat]];
+			}
+			game.newGame();
+			int winner = game.playGame();
+			results.record(seated[winner], winner, game.turnCount);
+
+			if (rotateSeats && ++shift == players)
+			{
+				shift = 0;
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Lower and upper bound of the Wilson score interval of a proportion.
+	 *
+	 * @param successes - number of games won
+	 * @param trials - number of games played
+	 * @param z - z score of the confidence level, Z_95 for 95%
+	 * @return the interval as {lower, upper}, {0, 1} if no games were played
+	 */
+	public static double[] wilsonInterval(long successes, long trials, double z)
+	{
+		if (trials == 0)
+		{
+			return new double[] {0, 1};
+		}
+		double n = trials;
+		double p = successes / n;
+		double z2 = z * z;
+		double center = (p + z2 / (2 * n)) / (1 + z2 / n);
+		double margin = z / (1 + z2 / n) * Math.sqrt(p * (1 - p) / n + z2 / (4 * n * n));
+		return new double[] {Math.max(0, center - margin), Math.min(1, center + margin)};
+	}
+
+	/**
+	 * Wins of every entrant and seat over a batch of games.
+	 * The wins and win rates of the simulation results are those of each seat.
+	 */
+	public static class Results extends CandyLandSimulation.Results
+	{
+		public final CandyLandStrategy[] entrants;
+		// entrantWins[e] = games won by entrant e, whichever seat they sat in
+		public final long[] entrantWins;
+
+		private Results(CandyLandStrategy[] entrants)
+		{
+			super(entrants.length);
+			this.entrants = entrants;
+			entrantWins = new long[entrants.length];
+		}
+
+		private void record(int entrant, int seat, int turns)
+		{
+			record(seat, turns);
+			entrantWins[entrant]++;
+		}
+
+		private void add(Results other)
+		{
+			super.add(other);
+			for (int i = 0; i < entrantWins.length; i++)
+			{
+				entrantWins[i] += other.entrantWins[i];
+			}
+		}
+
+		/**
+		 * @param entrant - index of an entrant
+		 * @return fraction of games won by the entrant
+		 */
+		public double entrantWinRate(int entrant)
+		{
+			return games == 0 ? 0 : (double) entrantWins[entrant] / games;
+		}
+
+		/**
+		 * @param entrant - index of an entrant
+		 * @return 95% confidence interval of the entrant's win rate, as {lower, upper}
+		 */
+		public double[] entrantWinRateInterval(int entrant)
+		{
+			return wilsonInterval(entrantWins[entrant], games, Z_95);
+		}
+
+		/**
+		 * @param seat - index of a seat, 0 plays first
+		 * @return 95% confidence interval of the seat's win rate, as {lower, upper}
+		 */
+		public double[] seatWinRateInterval(int seat)
+		{
+			return wilsonInterval(wins[seat], games, Z_95);
+		}
+	}
+
+	/**
+	 * Run a tournament from the command line.
+	 * Arguments: [games] [seed] [threads] [entrants, e.g. normal,extreme,lookahead:5,extreme] [rotate seats]
+	 * where lookahead:N looks ahead for N milliseconds per decision
+	 */
+	public static void main(String[] args)
+	{
+		long games = args.length > 0 ? Long.parseLong(args[0]) : 10000000;
+		long seed = args.length > 1 ? Long.parseLong(args[1]) : 0;
+		int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+		String[] names = (args.length > 3 ? args[3] : "normal,extreme,extreme,extreme").split(",");
+		boolean rotate = args.length <= 4 || Boolean.parseBoolean(args[4]);
+
+		CandyLandStrategy[] entrants = new CandyLandStrategy[names.length];
+		for (int i = 0; i < names.length; i++)
+		{
+			entrants[i] = CandyLandStrategy.forName(names[i].trim());
+			if (entrants[i] == null)
+			{
+				System.err.println("Unknown strategy: " + names[i]);
+				return;
+			}
+		}
+
+		long start = System.nanoTime();
+		Results results = new CandyLandTournament(seed, threads, entrants, rotate).run(games);
+		double seconds = (System.nanoTime() - start) / 1e9;
+
+		System.out.println(results.games + " games on " + threads + " threads in " + String.format("%.2f", seconds) + "s (" + String.format("%.0f", results.games / seconds) + " games/s)"
+				+ (rotate ? ", seats rotated" : ", fixed seats"));
+		for (int i = 0; i < entrants.length; i++)
+		{
+			double[] interval = results.entrantWinRateInterval(i);
+			System.out.println("Entrant " + i + " (" + entrants[i].getName() + "): " + String.format("%.4f", results.entrantWinRate(i))
+					+ ", 95% CI [" + String.format("%.4f", interval[0]) + ", " + String.format("%.4f", interval[1]) + "]");
+		}
+		for (int i = 0; i < entrants.length; i++)
+		{
+			double[] interval = results.seatWinRateInterval(i);
+			System.out.println("Seat " + i + ": " + String.format("%.4f", results.winRate(i))
+					+ ", 95% CI [" + String.format("%.4f", interval[0]) + ", " + String.format("%.4f", interval[1]) + "]");
+		}
+		System.out.println("Average rounds: " + String.format("%.3f", results.averageRounds()));
+	}
+}
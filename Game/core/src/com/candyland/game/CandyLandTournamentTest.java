@@ -0,0 +1,41 @@
+/**
+ * CandyLandTournamentTest.java
+ * This class represents the white box testing for tournaments between computer strategies
+ */
+
+package com.candyland.game;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class CandyLandTournamentTest
+{
+	/*
+	 * Testing:
+	 * Tournaments are reproducible for a seed and thread count, rotating seats
+	 * spreads the first seat evenly, and the Wilson interval holds the win rate
+	 */
+	@Test
+	public void tournamentIsReproducible()
+	{
+		CandyLandStrategy[] entrants = {CandyLandStrategy.NORMAL, CandyLandStrategy.EXTREME, CandyLandStrategy.EXTREME};
+		CandyLandTournament.Results first = new CandyLandTournament(5, 3, entrants, true).run(30000);
+		CandyLandTournament.Results second = new CandyLandTournament(5, 3, entrants, true).run(30000);
+		assertArrayEquals(first.entrantWins, second.entrantWins);
+		assertArrayEquals(first.wins, second.wins);
+		assertEquals(30000, first.games);
+
+		// two cards beat one card from any seat
+		assertTrue(first.entrantWinRate(0) < first.entrantWinRate(1));
+		for (int i = 0; i < entrants.length; i++)
+		{
+			double[] interval = first.entrantWinRateInterval(i);
+			assertTrue(interval[0] < first.entrantWinRate(i) && first.entrantWinRate(i) < interval[1]);
+		}
+
+		double[] interval = CandyLandTournament.wilsonInterval(50, 100, CandyLandTournament.Z_95);
+		assertEquals(0.4038, interval[0], 1e-4);
+		assertEquals(0.5962, interval[1], 1e-4);
+	}
+}
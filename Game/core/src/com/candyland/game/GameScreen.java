@@ -6,11 +6,6 @@
 
 package com.candyland.game;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
-
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input.Keys;
 import com.badlogic.gdx.InputAdapter;
@@ -18,91 +13,218 @@ import com.badlogic.gdx.Preferences;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ScreenUtils;
-import com.badlogic.gdx.utils.Timer;
+
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
 
 public class GameScreen extends ScreenAdapter
 {
 	// buttons and images
-	private Texture pausedLogo;
-	private Texture drawCard;
-	private Texture yourCard;
+	private TextureRegion pausedLogo;
+	private TextureRegion drawCard;
+	private TextureRegion yourCard;
 	private Rectangle drawButton;
-	private Texture exitTexture;
-	private Texture saveTexture;
-	private Texture savedTexture;
+	private TextureRegion exitTexture;
+	private TextureRegion saveTexture;
+	private TextureRegion savedTexture;
 	private Rectangle exitButton;
 	private Rectangle saveButton;
-	private Texture peppermintTexture;
-	private Texture peanutTexture;
-	private Texture gumdropTexture;
-	private Texture lollipopTexture;
-	private Texture rainbowShortcutTexture;
-	private Texture gumdropShortcutTexture;
+	private TextureRegion peppermintTexture;
+	private TextureRegion peanutTexture;
+	private TextureRegion gumdropTexture;
+	private TextureRegion lollipopTexture;
+	private TextureRegion rainbowShortcutTexture;
+	private TextureRegion gumdropShortcutTexture;
 	private Rectangle playButton;
-	private Texture playTexture;
-	private Texture pauseTexture;
+	private TextureRegion playTexture;
+	private TextureRegion pauseTexture;
 	private Rectangle pauseButton;
 
 	private CandyLandMain game;
 	private TiledMap gameSpaces;
+	// tileset images loaded because they are not in the texture atlas, unloaded in dispose()
+	private Array<String> boardTextures = new Array<>();
 	private OrthographicCamera camera = new OrthographicCamera();
 	private OrthogonalTiledMapRenderer renderer;
+	// the board as drawn before any piece or text, see createBoardLayer()
+	private FrameBuffer boardBuffer;
+	private TextureRegion boardLayer;
+
+	// text drawn every frame, laid out once and only again when it changes
+	private CandyLandLabel exitToMainMenuLabel;
+	private CandyLandLabel welcomeLabel;
+	private CandyLandLabel instructionsLabel;
+	private CandyLandLabel yourTurnLabel;
+	private CandyLandLabel youLabel;
+	// one per player, created for the player count of the game in initializeGame()
+	private CandyLandLabel[] playerNameLabels;
+	private CandyLandLabel[] firstCardLabels;
+	private CandyLandLabel[] secondCardLabels;
+	private CandyLandLabel[] shortcutLabels;
+	private CandyLandLabel[] skippedTurnLabels;
+	private CandyLandLabel[] licoriceLabels = new CandyLandLabel[CandyLandBoard.LICORICE_POSITIONS.length];
+	// "-> Color" text shown after a shortcut, indexed like CandyLandGame.COLORS
+	private String[] shortcutTexts = new String[CandyLandGame.COLORS.length];
 
 	// variables used to store game board information
-	private Sprite[] playerSprites = new Sprite[GAME_PIECES];
-	private Sprite[] playerSpritesDisplayed = new Sprite[GAME_PIECES];
-	private Texture[] playerTextures = new Texture[GAME_PIECES];
-	public CandyLandSpaces[] gamePositions = new CandyLandSpaces[137];
+	private Sprite[] playerSprites;
+	private Sprite[] playerSpritesDisplayed;
+	private TextureRegion[] playerTextures;
+	public CandyLandSpaces[] gamePositions = new CandyLandSpaces[CandyLandGame.BOARD.getSpaces()];
+	// players on each space, so overlapping pieces are laid out without checking every player
+	private CandyLandOccupancy occupancy = new CandyLandOccupancy(gamePositions.length);
+	// spacing of the player columns in the top left corner, narrower with more than seven players
+	private float columnScale = 1;
 	public boolean pausedState = false;
 
 	public int[] playerTokens = new int[GAME_PIECES];
-	public float positions[][] = new float[GAME_PIECES][2];
+	public float positions[][];
 	private boolean userSaved = false;
+	// incremented by every save and new turn, so only the latest save marks the game as saved
+	private int saveRequest = 0;
 	
 	// final variables that do not change
 	public final float RENDER_SCALE = 1/1.2f;
 	private final int SQUARE_SIZE = 32;
 	public final int MAX_POSITIONS = gamePositions.length - 1;
-	
-	private final String[] COLORS = {"Purple", "Yellow", "Blue", "Green", "Orange", "Red"};
-	private final int SINGLE_CARDS = 8;
-	private final int DOUBLE_CARDS = 2;
-
-	// Local Variables
-	private int playerIndex;
-	public boolean drawCardPressed = false;
 
 	// Public Variables
-	public final static int GAME_PIECES = 4;
+	public final static int GAME_PIECES = CandyLandGame.GAME_PIECES;
+	// number of player piece textures, pieces past these reuse them with a tint
+	public final static int PIECE_TYPES = 4;
+	private final static Color[] PIECE_TINTS = {Color.WHITE, Color.SKY, Color.GOLD, Color.LIME};
+	// player counts that can be chosen in settings, the player columns have room for sixteen
+	public final static int MIN_PLAYERS = 2;
+	public final static int MAX_PLAYERS = 16;
 	public boolean loadedGame = false;
-	public boolean[] skipNextTurn = new boolean[GAME_PIECES];
-	public int[] playerPositions = new int[GAME_PIECES];
-	public boolean[] skipCurrentTurn = new boolean[GAME_PIECES];
 	public boolean validPress = false;
-	public boolean activeGame = false;
 	public boolean firstPress = true;
-	public boolean[] shortcutTaken = new boolean[GAME_PIECES];
-	public String[][] drawnCards = new String[GAME_PIECES][2];
-	public int gameWinner = -1;
-	public boolean validMousePress = false;
-	public List<String> cards;
 	public CandyLandLoad LoadSaveManager = new CandyLandLoad();
+
+	// rules and game state, shared with headless simulations
+	public CandyLandGame engine;
+
+	// piece moves and the delays between turns, advanced by render
+	public CandyLandAnimator animator = new CandyLandAnimator();
+
+	// autosaves every turn, null when there is no screen
+	private CandyLandJournal journal;
+	// player whose turn it is in a loaded game, the user unless an autosave was loaded mid-round
+	private int resumePlayer = 0;
+	// record of this game, or the game being replayed, null for games loaded from a save
+	private CandyLandReplay replay;
+	// true if this game is played from a replay, the user's cards are drawn for them
+	private boolean replaying = false;
+	// chooses computers' cards with strategies that take time, off the render thread
+	private final CandyLandDecider decider = new CandyLandDecider();
+	// computer's choice being made by the decider, null when no computer is deciding
+	private CandyLandDecider.Decision decision;
 	
 	// necessary for white-box testing to remove GUI/LibGDX calls
 	public boolean includesScreenLogic = true;
 	public boolean enableLicoriceForTest = false;
 
+	// moves pieces and ends the game as the engine tells it what happened,
+	// events are dispatched once each step of a turn is complete
+	private final CandyLandListener engineListener = new CandyLandListener()
+	{
+		@Override
+		public void onPieceMoved(int player, int from, int to)
+		{
+			if (CandyLandDebug.ENABLED)
+			{
+				System.out.println("Moved to position " + getBoardPosition(to) + "/" + MAX_POSITIONS + ": " + getCurrentColor(to));
+			}
+			// Move game piece on GameScreen to new position
+			if (includesScreenLogic)
+			{
+				setPiecePosition(player);
+			}
+		}
+
+		@Override
+		public void onShortcutTaken(int player, int position)
+		{
+			if (CandyLandDebug.ENABLED)
+			{
+				System.out.println("Landed on a shortcut!");
+			}
+		}
+
+		@Override
+		public void onLicoriceHit(int player, int position)
+		{
+			if (CandyLandDebug.ENABLED)
+			{
+				System.out.println("Landed on Licorice so the next turn will be skipped!");
+			}
+		}
+
+		@Override
+		public void onGameWon(int winnerIndex)
+		{
+			validPress = false;
+			if (CandyLandDebug.ENABLED)
+			{
+				if (winnerIndex != 0)
+				{
+					System.out.println("Computer " + winnerIndex + " has won the game!");
+				}
+				else
+				{
+					System.out.println("Congratulations! You have won the game!");
+				}
+			}
+
+			if (journal != null)
+			{
+				// nothing left to resume
+				journal.delete();
+			}
+
+			if (includesScreenLogic)
+			{
+				// 1.2 second timer to allow for user to see a piece has moved
+				// into the FINISH location on GameScreen
+				animator.call(1.2f, () ->
+				{
+					switchToWinnerScreen(winnerIndex);
+				});
+			}
+		}
+	};
+
 	public GameScreen(final CandyLandMain game)
 	{
 		this.game = game;
+		setEngine(new CandyLandGame());
+	}
+
+	/**
+	 * Play a game engine on this screen, listening to its events.
+	 *
+	 * @param engine - rules and game state of the game to play
+	 */
+	private void setEngine(CandyLandGame engine)
+	{
+		this.engine = engine;
+		engine.addListener(engineListener);
 	}
 	
 	public void initializeGame()
@@ -110,54 +232,141 @@ public class GameScreen extends ScreenAdapter
 		// load preferences set by settings screen
 		Preferences preferences = Gdx.app.getPreferences("candyland-prefs");
 		boolean playMusicDuringGame = preferences.getBoolean("music");
-		if (!playMusicDuringGame)
+		if (!playMusicDuringGame && MainMenuScreen.mainMenuMusic != null)
 		{
 			MainMenuScreen.mainMenuMusic.stop();
 		}
+		// Initialize cards if game was not loaded
+		// Otherwise, these arrays are filled by the load method
+		long seed = 0;
+		if (!loadedGame)
+		{
+			// shuffle from a known seed, so the game can be replayed
+			seed = new SplittableRandom().nextLong();
+			int players = MathUtils.clamp(preferences.getInteger("players", GAME_PIECES), MIN_PLAYERS, MAX_PLAYERS);
+			setEngine(new CandyLandGame(new SplittableRandom(seed), players));
+			engine.newGame();
+		}
+
+		// computers follow the difficulty chosen in settings, or the one the replay recorded
+		if (!replaying)
+		{
+			engine.computerStrategy = getDifficulty(preferences);
+		}
+
+		createPlayers(engine.getPlayerCount());
 		createButtons();
 		createBoardSpaces();
+		createLabels();
 		handleInputs();
 		createSprites();
+		occupancy.reset(engine.playerPositions);
 
 		if (!loadedGame)
 		{
 			// game not loaded, place sprites at the default position
 			setDefaultPiecePositions();
+			// record every card played
+			replay = new CandyLandReplay(seed, engine.computerStrategy, playerTokens);
 		}
 		else
 		{
 			// game loaded, place sprites at their saved position
-			for (int i = 0; i < GAME_PIECES; i++)
+			for (int i = 0; i < engine.getPlayerCount(); i++)
 			{
-				setPiecePosition();
-				incrementIndex();
+				setPiecePosition(i);
 			}
 			// disable save button after loading a game as there is nothing to save
 			userSaved = true;
 		}
-		
-		// Initialize cards if game was not loaded
-		// Otherwise, these arrays are filled by the load method
-		if (!loadedGame)
-		{
-			initializeCards();
-			shuffleCards();
-		}
 
 		initializeLicorice();
 		resetShortcutTaken();
 
-		if (CandyLandMain.DEBUG)
+		if (CandyLandDebug.ENABLED)
 		{
 			System.out.println("Welcome to Candy Land!\n");
 			System.out.println("Your goal is to reach the end before the other players do!\n");
 			System.out.println("Press RIGHT ARROW KEY to draw a card!\n");
 		}
 
-		// Ensure user can interact with the GameScreen upon creation
-		playerIndex = 0;
-		validPress = true;
-		drawCardPressed = false;
+		// autosave from the start of the game, or from the game just loaded
+		// replays are not autosaved, they can be replayed again
+		engine.setCurrentPlayerType(resumePlayer);
+		// turns replayed while the game was loaded are already on the board
+		engine.events.clear();
+		if (!replaying)
+		{
+			journal = new CandyLandJournal(game.saves);
+			journal.snapshot(engine, playerTokens);
+		}
+
+		if (loadedGame && (resumePlayer != 0 || engine.skipNextTurn[0]))
+		{
+			// autosave was taken mid-round, or the user is on licorice,
+			// so play on until it is the user's turn
+			engine.activeGame = true;
+			validPress = false;
+			handleComputerTurn();
+		}
+		else
+		{
+			startUserTurn();
+		}
+	}
+
+	/**
+	 * Strategy of the computers chosen in settings, Normal if none was chosen.
+	 *
+	 * @param preferences - preferences set by the settings screen
+	 * @return one of CandyLandStrategy.DIFFICULTIES
+	 */
+	public static CandyLandStrategy getDifficulty(Preferences preferences)
+	{
+		// settings from before the strategy preference only saved if the difficulty was Extreme
+		String name = preferences.getString("strategy", preferences.getBoolean("difficulty") ? "extreme" : "normal");
+		CandyLandStrategy strategy = CandyLandStrategy.forName(name);
+		return strategy != null ? strategy : CandyLandStrategy.NORMAL;
+	}
+
+	/**
+	 * Replay a recorded game, playing every turn from the given turn at animation speed.
+	 * The user takes over if the replay ends before the game does.
+	 *
+	 * @param replay - recorded game
+	 * @param turn - turn to start from, earlier turns are played instantly
+	 * @param speed - animation speed, 1 is normal speed
+	 */
+	public void loadReplay(CandyLandReplay replay, int turn, float speed)
+	{
+		this.replay = replay;
+		replaying = true;
+		setEngine(replay.seek(turn));
+		loadedGame = true;
+		resumePlayer = engine.getCurrentPlayerType();
+		PieceSelectionScreen.pieceSelection = replay.getPlayerTokens()[0];
+		animator.timeScale = speed;
+	}
+
+	/**
+	 * It is the user's turn, let them draw a card, or draw it for them
+	 * while the turn is played from a replay.
+	 */
+	private void startUserTurn()
+	{
+		if (replaying && engine.turnCount < replay.getTurnCount())
+		{
+			animator.call(0.4f, this::drawUserCard);
+		}
+		else
+		{
+			validPress = true;
+			if (CandyLandDebug.ENABLED)
+			{
+				System.out.println("|---------------------------------|\n");
+				System.out.println("It is your turn! Press RIGHT ARROW KEY to draw a card!\n");
+			}
+		}
 	}
 
 	/**
@@ -166,50 +375,111 @@ public class GameScreen extends ScreenAdapter
 	 */
 	private void createButtons()
 	{
-		drawCard = new Texture(Gdx.files.internal("drawCardButton.png"));
-		yourCard = new Texture(Gdx.files.internal("yourCard.png"));
-		pausedLogo = new Texture(Gdx.files.internal("Paused.png"));
-		exitTexture = new Texture(Gdx.files.internal("textExitButton.png"));
-		saveTexture = new Texture(Gdx.files.internal("saveButton.png"));
-		savedTexture = new Texture(Gdx.files.internal("savedButton.png"));
-		peppermintTexture = new Texture(Gdx.files.internal("peppermint-56.png"));
-		peanutTexture = new Texture(Gdx.files.internal("peanut.png"));
-		gumdropTexture = new Texture(Gdx.files.internal("gumdrop.png"));
-		lollipopTexture = new Texture(Gdx.files.internal("lollipop.png"));
-		rainbowShortcutTexture = new Texture(Gdx.files.internal("arrow.png"));
-		gumdropShortcutTexture = new Texture(Gdx.files.internal("arrow.png"));
-		playTexture = new Texture(Gdx.files.internal("testPlayButtonOne.png"));
-		pauseTexture = new Texture(Gdx.files.internal("pause.jpg"));
+		drawCard = game.atlas.findRegion("drawCardButton");
+		yourCard = game.atlas.findRegion("yourCard");
+		pausedLogo = game.atlas.findRegion("Paused");
+		exitTexture = game.atlas.findRegion("textExitButton");
+		saveTexture = game.atlas.findRegion("saveButton");
+		savedTexture = game.atlas.findRegion("savedButton");
+		peppermintTexture = game.atlas.findRegion("peppermint-56");
+		peanutTexture = game.atlas.findRegion("peanut");
+		gumdropTexture = game.atlas.findRegion("gumdrop");
+		lollipopTexture = game.atlas.findRegion("lollipop");
+		rainbowShortcutTexture = game.atlas.findRegion("arrow");
+		gumdropShortcutTexture = game.atlas.findRegion("arrow");
+		playTexture = game.atlas.findRegion("testPlayButtonOne");
+		pauseTexture = game.atlas.findRegion("pause");
 
 		drawButton = new Rectangle();
-		drawButton.x = (Gdx.graphics.getWidth() - drawCard.getWidth()) / 2 + 75;
-		drawButton.y = (Gdx.graphics.getHeight() - drawCard.getWidth() - 25);
-		drawButton.width = drawCard.getWidth();
-		drawButton.height = drawCard.getHeight();
+		drawButton.x = (Gdx.graphics.getWidth() - drawCard.getRegionWidth()) / 2 + 75;
+		drawButton.y = (Gdx.graphics.getHeight() - drawCard.getRegionWidth() - 25);
+		drawButton.width = drawCard.getRegionWidth();
+		drawButton.height = drawCard.getRegionHeight();
 
 		exitButton = new Rectangle();
-		exitButton.x = (Gdx.graphics.getWidth() - exitTexture.getWidth()) / 3f;
+		exitButton.x = (Gdx.graphics.getWidth() - exitTexture.getRegionWidth()) / 3f;
 		exitButton.y = 50;
-		exitButton.width = exitTexture.getWidth();
-		exitButton.height = exitTexture.getHeight() - 20;
+		exitButton.width = exitTexture.getRegionWidth();
+		exitButton.height = exitTexture.getRegionHeight() - 20;
 
 		saveButton = new Rectangle();
-		saveButton.x = (Gdx.graphics.getWidth() - saveTexture.getWidth()) / 1.65f;
+		saveButton.x = (Gdx.graphics.getWidth() - saveTexture.getRegionWidth()) / 1.65f;
 		saveButton.y = 50;
-		saveButton.width = saveTexture.getWidth();
-		saveButton.height = saveTexture.getHeight() - 20;
+		saveButton.width = saveTexture.getRegionWidth();
+		saveButton.height = saveTexture.getRegionHeight() - 20;
 
 		playButton = new Rectangle();
-		playButton.x = ((Gdx.graphics.getWidth() - playTexture.getWidth()) / 2.10f);
+		playButton.x = ((Gdx.graphics.getWidth() - playTexture.getRegionWidth()) / 2.10f);
 		playButton.y = ((Gdx.graphics.getHeight()) / 3.2f) + 30;
-		playButton.width = playTexture.getWidth();
-		playButton.height = playTexture.getHeight();
+		playButton.width = playTexture.getRegionWidth();
+		playButton.height = playTexture.getRegionHeight();
 		
 		pauseButton = new Rectangle();
 		pauseButton.x = 1150;
 		pauseButton.y = 875;
-		pauseButton.width = pauseTexture.getWidth();
-		pauseButton.height = pauseTexture.getHeight();
+		pauseButton.width = pauseTexture.getRegionWidth();
+		pauseButton.height = pauseTexture.getRegionHeight();
+	}
+
+	/**
+	 * Create the arrays holding each player's sprites, labels and piece position.
+	 *
+	 * @param players - number of players in the game
+	 */
+	private void createPlayers(int players)
+	{
+		playerNameLabels = new CandyLandLabel[players];
+		firstCardLabels = new CandyLandLabel[players];
+		secondCardLabels = new CandyLandLabel[players];
+		shortcutLabels = new CandyLandLabel[players];
+		skippedTurnLabels = new CandyLandLabel[players];
+		playerSprites = new Sprite[players];
+		playerSpritesDisplayed = new Sprite[players];
+		playerTextures = new TextureRegion[players];
+		playerTokens = new int[players];
+		positions = new float[players][2];
+		columnScale = Math.min(1, 7f / players);
+	}
+
+	/**
+	 * Create the text displayed on the GameScreen.
+	 * Text that changes during the game is laid out again in render() only when it changes.
+	 */
+	private void createLabels()
+	{
+		exitToMainMenuLabel = new CandyLandLabel(game.font, "Exit to Main Menu?\n\nProgress is autosaved every turn,\nresume it with Continue on the Main Menu\n\nPress Exit to Confirm", Color.PINK, 50, 900);
+		welcomeLabel = new CandyLandLabel(game.font, "Welcome to Candy Land!\n\n\nYour goal is to reach the finish before your opponents!\n\n\nEach card drawn will progress your game piece!\n\n\nPress the RIGHT ARROW key or click the draw button to draw your first card!\n\n\nPress the ESCAPE key or click the pause button to pause the game!", Color.PINK, 60, 945);
+		instructionsLabel = new CandyLandLabel(game.font, "Press Right Arrow Key or Click the Draw Button to Begin!", Color.MAROON, 10, 85);
+		yourTurnLabel = new CandyLandLabel(game.font, "It is now your turn!", Color.PINK, 195, 750);
+		youLabel = new CandyLandLabel(game.font, "You", Color.SKY, 0, 0);
+
+		playerNameLabels[0] = new CandyLandLabel(game.font, "You", Color.RED, 50, 875);
+		for (int i = 1; i < playerNameLabels.length; i++)
+		{
+			// shorter names once the columns are narrower
+			String name = (columnScale < 1 ? "CPU " : "Computer ") + i;
+			playerNameLabels[i] = new CandyLandLabel(game.font, name, Color.RED, (i * 150 - 10) * columnScale, 875);
+		}
+
+		for (int i = 0; i < playerNameLabels.length; i++)
+		{
+			firstCardLabels[i] = new CandyLandLabel(game.font);
+			secondCardLabels[i] = new CandyLandLabel(game.font);
+			shortcutLabels[i] = new CandyLandLabel(game.font);
+			skippedTurnLabels[i] = new CandyLandLabel(game.font, "X Licorice X", Color.BLACK, i == 0 ? 50 : i * 145 * columnScale, 775);
+		}
+
+		// licorice spaces shown as a black X, centered on the space
+		for (int i = 0; i < licoriceLabels.length; i++)
+		{
+			CandyLandSpaces space = gamePositions[CandyLandBoard.LICORICE_POSITIONS[i]];
+			licoriceLabels[i] = new CandyLandLabel(game.font, "X", Color.BLACK, space.returnX() - 5, space.returnY() + 5);
+		}
+
+		for (int i = 0; i < shortcutTexts.length; i++)
+		{
+			shortcutTexts[i] = "-> " + CandyLandGame.COLORS[i];
+		}
 	}
 
 	/**
@@ -225,12 +495,12 @@ public class GameScreen extends ScreenAdapter
 				float touchX = screenX * camera.viewportWidth / Gdx.graphics.getWidth();
 				float touchY = (Gdx.graphics.getHeight() - screenY) * camera.viewportHeight / Gdx.graphics.getHeight();
 
-				if (drawButton.contains(touchX, touchY) && validPress && !pausedState)
+				if (drawButton.contains(touchX, touchY) && isUserTurn())
 				{
 					// user clicked draw card
 					// user has not saved and this is a valid press
 					userSaved = false;
-					validMousePress = true;
+					drawUserCard();
 					return true;
 				}
 				if (exitButton.contains(touchX, touchY) && pausedState)
@@ -245,9 +515,17 @@ public class GameScreen extends ScreenAdapter
 				}
 				if (saveButton.contains(touchX, touchY) && pausedState && !userSaved)
 				{
-					// user saved the game on pause screen
-					LoadSaveManager.write(1, getPlayerTokens(), playerPositions, cards, skipNextTurn);
-					userSaved = true;
+					// user saved the game on pause screen, written in the background
+					// and shown as saved once it is on disk
+					final int request = ++saveRequest;
+					game.saves.save(1, getPlayerTokens(), engine.playerPositions, engine.deck, engine.skipNextTurn, engine.turnCount, saved ->
+						Gdx.app.postRunnable(() ->
+						{
+							if (request == saveRequest)
+							{
+								userSaved = saved;
+							}
+						}));
 					return true;
 				}
 				if (playButton.contains(touchX, touchY) && pausedState)
@@ -267,6 +545,12 @@ public class GameScreen extends ScreenAdapter
 			@Override
 			public boolean keyDown(int keycode)
 			{
+				// player pressed the RIGHT ARROW key to draw a card on their turn
+				if (keycode == Keys.RIGHT && isUserTurn())
+				{
+					drawUserCard();
+					return true;
+				}
 				// player pressed escape and was already in pause menu
 				// close pause menu, return to game
 				if (Gdx.input.isKeyJustPressed(Keys.ESCAPE) && pausedState)
@@ -291,7 +575,7 @@ public class GameScreen extends ScreenAdapter
 	 */
 	private void createSprites()
 	{
-		for (int i = 0; i < GAME_PIECES; i++)
+		for (int i = 0; i < playerSprites.length; i++)
 		{
 			createSprites(i);
 		}
@@ -299,38 +583,15 @@ public class GameScreen extends ScreenAdapter
 
 	/**
 	 * Create game board space for every colored location on the board, up to MAX_POSITIONS.
-	 * Exact positioning follows location of each individual tile on the TiledMap
+	 * Exact positioning follows location of each individual tile on the TiledMap,
+	 * read once by CandyLandBoard
 	 * (Requirement 2.1.0)
 	 */
 	public void createBoardSpaces()
 	{
-		int x = 32;
-		int y = 32;
-		int lr = 1;
 		for (int i = 0; i <= MAX_POSITIONS; i++)
 		{
-			if ((x == 1248) || (x == 32 && y != 32))
-			{
-				createSpace(i, x, y);
-				i++;
-				y += 64;
-				createSpace(i, x, y);
-				i++;
-				y += 64;
-				lr = (x == 1248) ? 0 : 1;
-			}
-
-			if (lr == 1)
-			{
-				createSpace(i, x, y);
-				x += 64;
-			}
-
-			if (lr == 0)
-			{
-				createSpace(i, x, y);
-				x -= 64;
-			}
+			createSpace(i, CandyLandGame.BOARD.getX(i), CandyLandGame.BOARD.getY(i));
 		}
 	}
 
@@ -349,30 +610,70 @@ public class GameScreen extends ScreenAdapter
 	}
 
 	/**
-	 * Set every game piece to the four corners of the first square
+	 * Set every game piece to the corners of the first square
 	 * on the game board space.
 	 */
 	private void setDefaultPiecePositions()
 	{
-		for (int i = 0; i < GAME_PIECES; i++)
+		// every piece starts on the first space, laid out like any other overlap
+		Sprite firstPiece = getPlayerSprite(0);
+		float targetX = gamePositions[0].returnX() + (SQUARE_SIZE / 2) - (firstPiece.getWidth());
+		float targetY = gamePositions[0].returnY() + (SQUARE_SIZE / 2) - (firstPiece.getHeight());
+		layoutSpace(0, targetX, targetY);
+		for (int i = 0; i < playerSprites.length; i++)
 		{
-			Sprite playerPiece = getPlayerSprite(i);
-			int currentPosition = getCurrentPositionIndex(i);
-
-			float floatX = gamePositions[currentPosition].returnX() + (SQUARE_SIZE / 2) - (playerPiece.getWidth());
-			float floatY = gamePositions[currentPosition].returnY() + (SQUARE_SIZE / 2) - (playerPiece.getHeight());
-			
-			// logic to adjust position to each corner of the first square
-			// determined by player index
-			float offsetX = (i % 2 == 0) ? SQUARE_SIZE / 2 * RENDER_SCALE : -SQUARE_SIZE / 2 * RENDER_SCALE;
-			float offsetY = (i / 2 == 0) ? SQUARE_SIZE / 2 * RENDER_SCALE - (SQUARE_SIZE / (SQUARE_SIZE / 2)) : -SQUARE_SIZE / 2 * RENDER_SCALE - (SQUARE_SIZE / (SQUARE_SIZE / 2));
+			getPlayerSprite(i).setPosition(positions[i][0], positions[i][1]);
+		}
+	}
 
-			// save adjusted X and Y values into positions array,
-			// used by the animation calls in setPiecePosition().
-			positions[i][0] = floatX + offsetX;
-			positions[i][1] = floatY + offsetY;
-			playerPiece.setPosition(positions[i][0], positions[i][1]);
+	/**
+	 * Handle player piece overlap by laying out every piece on a space.
+	 * Position differs based on how many players are on the same position.
+	 * 1 player = centered
+	 * 2 players = side by side, the piece that arrived last on the right
+	 * 3+ players = spread over a grid filling the square, the four corners for up to four players
+	 * Only the pieces on the space are visited, however many players there are.
+	 * (Requirement 4.1.0)
+	 *
+	 * @param space - game board position
+	 * @param targetX - x of a single piece centered on the position
+	 * @param targetY - y of a single piece centered on the position
+	 * @return number of pieces on the position
+	 */
+	private int layoutSpace(int space, float targetX, float targetY)
+	{
+		int numberOfPieces = occupancy.count(space);
+		int player = occupancy.first(space);
+		if (numberOfPieces == 1)
+		{
+			positions[player][0] = targetX;
+			positions[player][1] = targetY;
+		}
+		else if (numberOfPieces == 2)
+		{
+			// two game pieces are overlapping on same position
+			int other = occupancy.next(player);
+			positions[player][0] = targetX + (SQUARE_SIZE / 2 - 2);
+			positions[player][1] = targetY - (SQUARE_SIZE / (SQUARE_SIZE / 2)) + 1;
+			positions[other][0] = targetX - (SQUARE_SIZE / 2 - 3);
+			positions[other][1] = targetY - (SQUARE_SIZE / (SQUARE_SIZE / 2));
+		}
+		else if (numberOfPieces > 2)
+		{
+			// more than two pieces are overlapping on the same position,
+			// assign each piece a cell of the grid in the order they arrived
+			int columns = (int) Math.ceil(Math.sqrt(numberOfPieces));
+			int rows = (numberOfPieces + columns - 1) / columns;
+			float half = SQUARE_SIZE / 2 * RENDER_SCALE;
+			for (int cell = 0; player != CandyLandOccupancy.NONE; cell++, player = occupancy.next(player))
+			{
+				float offsetX = half - 2 * half * (cell % columns) / (columns - 1);
+				float offsetY = half - 2 * half * (cell / columns) / (rows - 1) - (SQUARE_SIZE / (SQUARE_SIZE / 2));
+				positions[player][0] = targetX + offsetX;
+				positions[player][1] = targetY + offsetY;
+			}
 		}
+		return numberOfPieces;
 	}
 
 	/**
@@ -383,20 +684,19 @@ public class GameScreen extends ScreenAdapter
 	{
 		ScreenUtils.clear(255, 255, 255, 255);
 
-		renderer.setView(camera);
-		camera.update();
-		renderer.render();
-
-		// Accept right arrow key input method from candyLandGame
-		handleInput();
+		// move pieces and play turns that are due before anything is drawn
+		animator.update(delta);
+		pollDecision();
 
+		// the board, its decorations and licorice are one opaque quad, see createBoardLayer()
+		game.batch.setProjectionMatrix(camera.combined);
 		game.batch.begin();
-		game.batch.draw(peppermintTexture, 1012, 52);
-		game.batch.draw(peanutTexture, 532, 319);
-		game.batch.draw(gumdropTexture, 212, 107);
-		game.batch.draw(lollipopTexture, 800, 427);
-		game.batch.draw(rainbowShortcutTexture, 716, 160);
-		game.batch.draw(gumdropShortcutTexture, 395, 267);
+		game.batch.disableBlending();
+		game.batch.draw(boardLayer, 0, 0, camera.viewportWidth, camera.viewportHeight);
+		game.batch.enableBlending();
+
+		// every other image is a region of the texture atlas and is drawn before any text,
+		// so the batch only switches texture once, from the atlas to the font
 
 		/**
 	 	* Pause screen that allows user to save, return to menu, or return to game
@@ -407,7 +707,7 @@ public class GameScreen extends ScreenAdapter
 			// game is paused, display the pause screen
 			game.batch.draw(pausedLogo, Gdx.graphics.getWidth() / 2 - 200, Gdx.graphics.getHeight() / 2 + 100);
 			game.batch.draw(exitTexture, exitButton.x, exitButton.y);
-			if (!userSaved && validPress && activeGame)
+			if (!userSaved && validPress && engine.activeGame)
 			{
 				// player has not saved this round
 				game.batch.draw(saveTexture, saveButton.x, saveButton.y);
@@ -419,156 +719,122 @@ public class GameScreen extends ScreenAdapter
 			}
 			game.batch.draw(playTexture, playButton.x, playButton.y);
 
-			game.font.setColor(Color.PINK);
-			GlyphLayout exitToMainMenuText = new GlyphLayout(game.font, "Exit to Main Menu?\n\nProgress will NOT be automatically saved\n\nPress Exit to Confirm");
-			game.font.draw(game.batch, exitToMainMenuText, 50, 900);
+			exitToMainMenuLabel.draw(game.batch);
 		}
 		else
 		{
 			// game is not paused, display the normal board
 			game.batch.draw(pauseTexture, pauseButton.x, pauseButton.y);
 
-			if (firstPress)
-			{
-				// Display text instructions on how to play the game
-				// only if a user has not drawn a card
-				game.font.setColor(Color.PINK);
-				game.font.draw(game.batch, "Welcome to Candy Land!\n\n\nYour goal is to reach the finish before your opponents!\n\n\nEach card drawn will progress your game piece!\n\n\nPress the RIGHT ARROW key or click the draw button to draw your first card!\n\n\nPress the ESCAPE key or click the pause button to pause the game!", 60, 945);
-			}
-			else
-			{
-				// display player's game pieces and their names in
-				// top left corner
-				game.font.setColor(Color.RED);
-				game.font.draw(game.batch, "You", 50, 875);
-				game.font.draw(game.batch, "Computer 1", 140, 875);
-				game.font.draw(game.batch, "Computer 2", 290, 875);
-				game.font.draw(game.batch, "Computer 3", 440, 875);
-			}
-
 			/**
 	 		* Display button user can click to draw a card
 			* (Requirement 2.1.2)
 	 		*/
 			game.batch.draw(drawCard, drawButton.x, drawButton.y);
-			for (int i = 0; i < GAME_PIECES; i++)
+			for (int i = 0; i < playerSprites.length; i++)
 			{
 				// display each player's game piece
-				Sprite playerSprite = playerSprites[i];
-				playerSprite.draw(game.batch);
+				playerSprites[i].draw(game.batch);
 
 				if (!firstPress)
 				{
 					// display player's game pieces and their names in
 					// top left corner
-					Sprite playerSpriteDisplayed = playerSpritesDisplayed[i];
-					playerSpriteDisplayed.draw(game.batch);
+					playerSpritesDisplayed[i].draw(game.batch);
 				}
+			}
 
-				if (i == 0)
+			if (firstPress)
+			{
+				// Display text instructions on how to play the game
+				// only if a user has not drawn a card
+				welcomeLabel.draw(game.batch);
+			}
+			else
+			{
+				// display player's game pieces and their names in
+				// top left corner
+				for (CandyLandLabel playerNameLabel : playerNameLabels)
 				{
-					/**
-					 * Set "You" text over user's game piece on game board
-					 * (Requirement 4.3.1)
-					 */
-					game.font.setColor(Color.SKY);
-					GlyphLayout youText = new GlyphLayout(game.font, "You");
-					float youTextX = playerSprite.getX() + playerSprite.getWidth() / 2 - youText.width / 2 - 2;
-					float youTextY = playerSprite.getY() + playerSprite.getHeight() + youText.height - 1;
-					game.font.draw(game.batch, youText, youTextX, youTextY);
+					playerNameLabel.draw(game.batch);
 				}
+			}
+
+			/**
+			 * Set "You" text over user's game piece on game board
+			 * (Requirement 4.3.1)
+			 */
+			Sprite userSprite = playerSprites[0];
+			float youTextX = userSprite.getX() + userSprite.getWidth() / 2 - youLabel.getWidth() / 2 - 2;
+			float youTextY = userSprite.getY() + userSprite.getHeight() + youLabel.getHeight() - 1;
+			youLabel.setPosition(youTextX, youTextY);
+			youLabel.draw(game.batch);
 
-				if (drawnCards[i][0] != null)
+			for (int i = 0; i < playerSprites.length; i++)
+			{
+				if (engine.drawnCards[i][0] != null)
 				{
 					// display drawn card if it has been drawn this round
-					String[] drawnCard = drawnCards[i][0].split(" ");
-					float cardX = i == 0 ? 50 : i * 152;
-					float cardY = 825;
 					// format card text to wrap a line below for cards with spaces
-					for (String card : drawnCard)
-					{
-						GlyphLayout drawnCardText = new GlyphLayout(game.font, card);
-						determineCardColor(i);
-						game.font.draw(game.batch, card, cardX, cardY);
-						cardY -= drawnCardText.height * 2;
-					}
+					float cardX = i == 0 ? 50 : i * 152 * columnScale;
+					firstCardLabels[i].setWords(engine.drawnCards[i][0], getCardColor(i), cardX, 825);
+					firstCardLabels[i].draw(game.batch);
 				}
 
-				if (drawnCards[i][1] != null)
+				if (engine.drawnCards[i][1] != null)
 				{
 					// display second card if it has been drawn this round
 					// only applicable on Extreme difficulty
-					String[] drawnSecondCard = drawnCards[i][1].split(" ");
-					float secondCardX = i == 0 ? 50 : i * 152;
-					float secondCardY = 775;
-					// format card text to wrap a line below for cards with spaces
-					for (String card : drawnSecondCard)
-					{
-						GlyphLayout secondCardText = new GlyphLayout(game.font, card);
-						determineCardColor(i);
-						game.font.draw(game.batch, card, secondCardX, secondCardY);
-						secondCardY -= secondCardText.height * 2;
-					}
+					float secondCardX = i == 0 ? 50 : i * 152 * columnScale;
+					secondCardLabels[i].setWords(engine.drawnCards[i][1], getCardColor(i), secondCardX, 775);
+					secondCardLabels[i].draw(game.batch);
 				}
-				else if (shortcutTaken[i])
+				else if (engine.shortcutTaken[i])
 				{
 					// display shortcut taken through visual text below card drawn
-					float shortcutTextX = i == 0 ? 50 : i * 146;
-					float shortcutTextY = 775;
-					String shortcutDestination = getCurrentColor(playerPositions[i]);
-					determineCardColor(i);
-					shortcutDestination = "-> " + shortcutDestination;
-					game.font.draw(game.batch, shortcutDestination, shortcutTextX, shortcutTextY);
+					float shortcutTextX = i == 0 ? 50 : i * 146 * columnScale;
+					shortcutLabels[i].setText(getShortcutText(engine.playerPositions[i]), getCardColor(i), shortcutTextX, 775);
+					shortcutLabels[i].draw(game.batch);
 				}
-				else if (skipCurrentTurn[i] || skipNextTurn[i])
+				else if (engine.skipCurrentTurn[i] || engine.skipNextTurn[i])
 				{
 					// display licorice text if player's turn will be skipped next round
 					// needs current or next boolean to correctly display when intended
-					float licoriceTextX = i == 0 ? 50 : i * 145;
-					float licoriceTextY = 775;
-					game.font.setColor(Color.BLACK);
-					game.font.draw(game.batch, "X Licorice X", licoriceTextX, licoriceTextY);
+					skippedTurnLabels[i].draw(game.batch);
 				}
 			}
 			if (firstPress)
 			{
 				// display instructions in bottom left corner
 				// when card hasn't been drawn
-				game.font.setColor(Color.MAROON);
-				GlyphLayout instructionsText = new GlyphLayout(game.font, "Press Right Arrow Key or Click the Draw Button to Begin!");
-				game.font.draw(game.batch, instructionsText, 10, 85);
+				instructionsLabel.draw(game.batch);
 			}
 			else if (validPress)
 			{
 				// indicate it is the user's turn
-				game.font.setColor(Color.PINK);
-				GlyphLayout yourTurnText = new GlyphLayout(game.font, "It is now your turn!");
-				game.font.draw(game.batch, yourTurnText, 195, 750);
+				yourTurnLabel.draw(game.batch);
 			}
-			
-			// show licorice spaces at the specified game board positions
-			// these numbers line up with handleLicorice()
-			drawLicorice(12);
-			drawLicorice(44);
-			drawLicorice(82);
 		}
 		game.batch.end();
 	}
 
 	/**
-	 * Display licorice spaces as a black X on the game board
-	 * at the specified game board positions.
+	 * Obtain the text displayed after a shortcut is taken
 	 * 
-	 * @param index - game board position to display the licorice
+	 * @param position - game board position the shortcut ends on
+	 * @return "-> " followed by the color of the position
 	 */
-	private void drawLicorice(int index)
+	private String getShortcutText(int position)
 	{
-		// center the text
-		float targetX = gamePositions[index].returnX() - 5;
-		float targetY = gamePositions[index].returnY() + 5;
-		game.font.setColor(Color.BLACK);
-		GlyphLayout licoriceText = new GlyphLayout(game.font, "X");
-		game.font.draw(game.batch, licoriceText, targetX, targetY);
+		String color = getCurrentColor(position);
+		for (int i = 0; i < CandyLandGame.COLORS.length; i++)
+		{
+			if (CandyLandGame.COLORS[i].equals(color))
+			{
+				return shortcutTexts[i];
+			}
+		}
+		return color;
 	}
 
 	/**
@@ -576,16 +842,16 @@ public class GameScreen extends ScreenAdapter
 	 * by finding color associated with the given board position
 	 * 
 	 * @param index - a player position on the game board
+	 * @return color of the text
 	 */
-	private void determineCardColor(int index)
+	private Color getCardColor(int index)
 	{
 		// obtain color at current player's positions
 		// this gives color to location cards like 
-		String color = getCurrentColor(playerPositions[index]);
+		String color = getCurrentColor(engine.playerPositions[index]);
 		Color textColor;
 
-		// default should never be called as all positions have a valid color
-		// within the switch statement
+		// default is only used at the finish, which has no color
 		switch (color)
 		{
 			case "Purple":
@@ -610,9 +876,7 @@ public class GameScreen extends ScreenAdapter
 				textColor = game.font.getColor();
 				break;
 		}
-
-		// sets text color to determined color
-		game.font.setColor(textColor);
+		return textColor;
 	}
 
 	/**
@@ -624,238 +888,86 @@ public class GameScreen extends ScreenAdapter
 	 */
 	public void movePosition()
 	{
-		// obtain current player's position and player piece
+		// obtain current player's position
 		int playerType = getCurrentPlayerType();
 		int currentPosition = getCurrentPositionIndex(playerType);
-
-		int tempPosition = 0;
-		int numberOfPieces = 1;
-		int tempIndex = 0;
-
+		occupancy.move(playerType, currentPosition);
 
 		// end position for game piece, used for animation
 		float targetX = gamePositions[currentPosition].returnX() + (SQUARE_SIZE / 2);
 		float targetY = gamePositions[currentPosition].returnY() + (SQUARE_SIZE / 2);
-		positions[playerType][0] = targetX;
-		positions[playerType][1] = targetY;
-
-		/**
-		 * Handle player piece overlap by determining number of pieces overlap on a given position
-		 * Position differs based on how many players land on same position.
-		 * 2 players = side by side positioning
-		 * 3+ players = set pieces in each corner depending on the player's index
-		 * (Requirement 4.1.0)
-		 */
-		for (int i = 0; i < GAME_PIECES; i++)
-		{
-			tempPosition = getCurrentPositionIndex(i);
-
-			// determine number of pieces that are overlapping
-			if (i < playerType && tempPosition == currentPosition)
-			{
-				numberOfPieces++;
-				// tempIndex represents a player piece that overlaps
-				// we use this to handle the case of only 2 pieces overlapping
-				tempIndex = i;
-			}
-		}
-
-		if (numberOfPieces == 2)
-		{
-			// two game pieces are overlapping on same position
-			positions[playerType][0] = targetX + (SQUARE_SIZE / 2 - 2);
-			positions[playerType][1] = targetY - (SQUARE_SIZE / (SQUARE_SIZE / 2)) + 1;
-			// use index of player position determined to be overlapping,
-			// determined by previous for loop
-			positions[tempIndex][0] = targetX - (SQUARE_SIZE / 2 - 3);
-			positions[tempIndex][1] = targetY - (SQUARE_SIZE / (SQUARE_SIZE / 2));
-		}
-		else if (numberOfPieces > 2)
-		{
-			// more than two pieces are overlapping on the same position
-			for (int i = 0; i < GAME_PIECES; i++)
-			{
-				tempPosition = getCurrentPositionIndex(i);
-				if (currentPosition == tempPosition)
-				{
-					// set player offset based on their index, like we do
-					// when handling default player positioning,
-					// assigning pieces to corners
-					float offsetX = (i % 2 == 0) ? SQUARE_SIZE / 2 * RENDER_SCALE : -SQUARE_SIZE / 2 * RENDER_SCALE;
-					float offsetY = (i / 2 == 0) ? SQUARE_SIZE / 2 * RENDER_SCALE - (SQUARE_SIZE / (SQUARE_SIZE / 2)) : -SQUARE_SIZE / 2 * RENDER_SCALE - (SQUARE_SIZE / (SQUARE_SIZE / 2));
-					positions[i][0] = targetX + offsetX;
-					positions[i][1] = targetY + offsetY;
-				}
-			}
-		}
-		// end of overlap code
+		layoutSpace(currentPosition, targetX, targetY);
 	}
 	
-	public void setPiecePosition()
+	/**
+	 * Move a player's piece to their position, and slide over the pieces it now shares the space with.
+	 * Once the last computer has moved the user's turn starts.
+	 *
+	 * @param playerType - index of the player whose piece moved
+	 */
+	public void setPiecePosition(int playerType)
 	{
-		// obtain current player's position and player piece
-		int playerType = getCurrentPlayerType();
+		// obtain player's position and player piece
 		Sprite playerPiece = getPlayerSprite(playerType);
 		int currentPosition = getCurrentPositionIndex(playerType);
-
-		int tempPosition = 0;
-		int numberOfPieces = 1;
-		int tempIndex = 0;
-
-		// start position for game piece, used for animation
-		float startX = playerPiece.getX();
-		float startY = playerPiece.getY();
+		occupancy.move(playerType, currentPosition);
 
 		// end position for game piece, used for animation
 		float targetX = gamePositions[currentPosition].returnX() + (SQUARE_SIZE / 2) - (playerPiece.getWidth());
 		float targetY = gamePositions[currentPosition].returnY() + (SQUARE_SIZE / 2) - (playerPiece.getHeight());
-		positions[playerType][0] = targetX;
-		positions[playerType][1] = targetY;
-
-		// distance the animation needs to travel
-		float distanceX = targetX - startX;
-		float distanceY = targetY - startY;
 
 		// animation specifics
 		float animationDuration = 0.5f;
-		int steps = 60;
-
-		// maintain player piece X and Y values at each frame of the animation
-		float stepX = distanceX / steps;
-		float stepY = distanceY / steps;
-
-		/**
-		 * Handle player piece overlap by determining number of pieces overlap on a given position
-		 * Position differs based on how many players land on same position.
-		 * 2 players = side by side positioning
-		 * 3+ players = set pieces in each corner depending on the player's index
-		 * (Requirement 4.1.0)
-		 */
-		for (int i = 0; i < GAME_PIECES; i++)
-		{
-			tempPosition = getCurrentPositionIndex(i);
+		float overlapDuration = 0.15f;
+		boolean animateMove = !engine.skipCurrentTurn[playerType] && !loadedGame;
 
-			// determine number of pieces that are overlapping
-			if (i < playerType && tempPosition == currentPosition)
-			{
-				numberOfPieces++;
-				// tempIndex represents a player piece that overlaps
-				// we use this to handle the case of only 2 pieces overlapping
-				tempIndex = i;
-			}
-		}
-
-		if (numberOfPieces == 2)
-		{
-			// two game pieces are overlapping on same position
-			positions[playerType][0] = targetX + (SQUARE_SIZE / 2 - 2);
-			positions[playerType][1] = targetY - (SQUARE_SIZE / (SQUARE_SIZE / 2)) + 1;
-			// use index of player position determined to be overlapping,
-			// determined by previous for loop
-			positions[tempIndex][0] = targetX - (SQUARE_SIZE / 2 - 3);
-			positions[tempIndex][1] = targetY - (SQUARE_SIZE / (SQUARE_SIZE / 2));
-		}
-		else if (numberOfPieces > 2)
-		{
-			// more than two pieces are overlapping on the same position
-			for (int i = 0; i < GAME_PIECES; i++)
-			{
-				tempPosition = getCurrentPositionIndex(i);
-				if (currentPosition == tempPosition)
-				{
-					// set player offset based on their index, like we do
-					// when handling default player positioning,
-					// assigning pieces to corners
-					float offsetX = (i % 2 == 0) ? SQUARE_SIZE / 2 * RENDER_SCALE : -SQUARE_SIZE / 2 * RENDER_SCALE;
-					float offsetY = (i / 2 == 0) ? SQUARE_SIZE / 2 * RENDER_SCALE - (SQUARE_SIZE / (SQUARE_SIZE / 2)) : -SQUARE_SIZE / 2 * RENDER_SCALE - (SQUARE_SIZE / (SQUARE_SIZE / 2));
-					positions[i][0] = targetX + offsetX;
-					positions[i][1] = targetY + offsetY;
-				}
-			}
-		}
-		// end of overlap code
+		int numberOfPieces = layoutSpace(currentPosition, targetX, targetY);
 
-		for (int i = 0; i < GAME_PIECES; i++)
+		// only pieces on the space the player landed on change position
+		for (int i = occupancy.first(currentPosition); i != CandyLandOccupancy.NONE; i = occupancy.next(i))
 		{
 			// adjust game piece to:
 			// correct position if their turn was skipped
 			// account for new overlap
 			// when game is loaded from save state
-			if (skipCurrentTurn[i] || numberOfPieces > 1 || loadedGame)
+			// pieces slide over once the moving piece has arrived, loaded games are placed at once,
+			// the moving piece is left out as its destination already accounts for overlap
+			if ((engine.skipCurrentTurn[i] || numberOfPieces > 1 || loadedGame) && !(i == playerType && animateMove))
 			{
-				final int playerIndex = i;
-				final Sprite piece = getPlayerSprite(i);
-				Timer.schedule(new Timer.Task()
-				{
-					@Override
-					public void run()
-					{
-						piece.setPosition(positions[playerIndex][0], positions[playerIndex][1]);
-					}
-					// determine animation time based on if game was loaded or not
-				}, loadedGame ? 0.0f : 0.5f);
+				animator.move(getPlayerSprite(i), positions[i][0], positions[i][1], loadedGame ? 0.0f : overlapDuration,
+						loadedGame ? 0.0f : animationDuration, Interpolation.smooth);
 			}
 		}
 
-		if (playerType == GAME_PIECES - 1 && activeGame && !skipNextTurn[0])
+		if (playerType == engine.getPlayerCount() - 1 && engine.activeGame && !engine.skipNextTurn[0])
 		{
 			// indicate it is the user's turn, which occurs at .6 seconds
 			// where this is after final computer has their animation finished.
-			Timer.schedule(new Timer.Task()
+			animator.call(loadedGame ? 0.0f : 0.6f, () ->
 			{
-				@Override
-				public void run()
-				{
-					userSaved = false;
-					validPress = true;
-					if (CandyLandMain.DEBUG)
-					{
-						System.out.println("|---------------------------------|\n");
-						System.out.println("It is your turn! Press RIGHT ARROW KEY to draw a card!\n");
-					}
-				}
-			}, loadedGame ? 0.0f : 0.6f);
+				userSaved = false;
+				saveRequest++;
+				startUserTurn();
+			});
 		}
 
 		/**
-		 * Game piece locations animated through updating their position until
-		 * reaching target destination
+		 * Game piece locations animated by a tween that render advances each frame,
+		 * easing from the current position to the destination
 		 * (Requirement 4.2.0)
 		 */
-		if (!skipCurrentTurn[playerType] && !loadedGame)
+		if (animateMove)
 		{
 			// handle normal game piece animations if player is not on licorice
 			// and game was not loaded
-			for (int i = 0; i <= steps; i++)
-			{
-				// set and display current player piece position
-				// depending on the step of the animation
-				// progressively reaching the destination
-				final float currentX = startX + stepX * i;
-				final float currentY = startY + stepY * i;
-				final int stepIndex = i;
-				final Sprite piece = playerPiece;
-				Timer.schedule(new Timer.Task()
-				{
-					@Override
-					public void run()
-					{
-						piece.setPosition(currentX, currentY);
-						if (stepIndex == steps)
-						{
-							// adjust final piece position to account for overlap
-							piece.setPosition(positions[playerType][0], positions[playerType][1]);
-						}
-					}
-				}, i * (animationDuration / steps));
-			}
+			animator.move(playerPiece, positions[playerType][0], positions[playerType][1], animationDuration, 0.0f, Interpolation.smooth);
 		}
 		else
 		{
 			// current turn is over, set skip current turn to false
 			// this only triggers if this was true and it is a normal round
 			// that was not just loaded
-			skipCurrentTurn[playerType] = false;
+			engine.skipCurrentTurn[playerType] = false;
 		}
 	}
 
@@ -869,6 +981,7 @@ public class GameScreen extends ScreenAdapter
 	{
 		resetValues();
 		pausedState = false;
+		dispose();
 		game.setScreen(new WinnerScreen(game, p));
 		return;
 	}
@@ -897,32 +1010,37 @@ public class GameScreen extends ScreenAdapter
 		{
 			// user's texture for their game piece determined
 			// by their choice of game piece on PieceSelectionScreen
-			playerTextures[index] = new Texture(Gdx.files.internal(setTextureString(PieceSelectionScreen.pieceSelection)));
+			playerTextures[index] = game.atlas.findRegion(setTextureString(PieceSelectionScreen.pieceSelection));
 			playerTokens[index] = PieceSelectionScreen.pieceSelection;
 		}
-		else if (PieceSelectionScreen.pieceSelection == index)
+		else if (PieceSelectionScreen.pieceSelection == index % PIECE_TYPES)
 		{
 			// player index equal to the piece selection index
 			// we need to swap their player piece with the user's index
 			// as user "took" their player piece.
-			playerTextures[index] = new Texture(setTextureString(0));
+			playerTextures[index] = game.atlas.findRegion(setTextureString(0));
 			playerTokens[index] = 0;
 		}
 		else
 		{
 			// set player piece based on player index
-			playerTextures[index] = new Texture(setTextureString(index));
-			playerTokens[index] = index;
+			playerTextures[index] = game.atlas.findRegion(setTextureString(index % PIECE_TYPES));
+			playerTokens[index] = index % PIECE_TYPES;
 		}
+		// pieces past the first four players reuse the textures, told apart by a tint
+		Color tint = PIECE_TINTS[index / PIECE_TYPES % PIECE_TINTS.length];
+
 		// create new sprite based on determined piece texture
 		// this will display on the normal game board
 		playerSprites[index] = new Sprite(playerTextures[index]);
 		playerSprites[index].setScale(RENDER_SCALE);
+		playerSprites[index].setColor(tint);
 
 		// create new sprite based on determined piece texture
 		// this will display in the upper left corner
 		playerSpritesDisplayed[index] = new Sprite(playerTextures[index]);
-		playerSpritesDisplayed[index].setScale(1f);
+		playerSpritesDisplayed[index].setScale(columnScale);
+		playerSpritesDisplayed[index].setColor(tint);
 		
 		// determine position of displayed sprites in top left corner
 		// depending on player index
@@ -932,7 +1050,7 @@ public class GameScreen extends ScreenAdapter
 		}
 		else
 		{
-			playerSpritesDisplayed[index].setPosition(index * 155, 885);
+			playerSpritesDisplayed[index].setPosition(index * 155 * columnScale, 885);
 		}
 	}
 
@@ -941,22 +1059,22 @@ public class GameScreen extends ScreenAdapter
 	 * Called by createSprites()
 	 * 
 	 * @param index - game piece index
-	 * @return string of player piece texture, associated to a file within the assets
+	 * @return name of the player piece region within the texture atlas
 	 */
 	public String setTextureString(int index)
 	{
 		switch (index)
 		{
 			case 0:
-				return "cookiePiece.png";
+				return "cookiePiece";
 			case 1:
-				return "sucker.png";
+				return "sucker";
 			case 2:
-				return "candyCane.png";
+				return "candyCane";
 			case 3:
-				return "pinkCandy.png";
+				return "pinkCandy";
 			default:
-				return "cookiePiece.png";
+				return "cookiePiece";
 		}
 	}
 	
@@ -967,104 +1085,47 @@ public class GameScreen extends ScreenAdapter
 	public void resetValues()
 	{
 		loadedGame = false;
-		skipNextTurn = new boolean[GAME_PIECES];
-		playerPositions = new int[GAME_PIECES];
-		skipCurrentTurn = new boolean[GAME_PIECES];
 		validPress = false;
-		activeGame = false;
 		firstPress = true;
-		shortcutTaken = new boolean[GAME_PIECES];
-		drawnCards = new String[GAME_PIECES][2];
-		gameWinner = -1;
-		validMousePress = false;
-		drawCardPressed = false;
-		playerIndex = 0;
-		cards = new ArrayList<>();
+		// drop piece moves and turns still waiting to be played
+		animator.clear();
+		decision = null;
+		engine.resetValues();
 	}
 
 	/**
-	 * Handle input of user drawing a card during an active game
+	 * Checks if actively viewing a valid game and it is user's turn,
+	 * so a key press or click on the draw card button draws their card.
+	 * validPress is cleared as soon as they draw, so rapid presses draw only once.
+	 *
+	 * @return true if the user can draw a card
 	 */
-	public void handleInput()
+	private boolean isUserTurn()
 	{
-		// Checks if actively viewing a valid game and it is user's turn
-		if (playerIndex == 0 && validPress && gameWinner == -1 && !getPausedState())
-		{
-			// Accepts draw card input through RIGHT ARROW key and mouse click on the draw card button
-			if (Gdx.input.isKeyJustPressed(Keys.RIGHT) || validMousePress)
-			{
-				// Ensures players cannot draw multiple times by rapidly drawing
-				if (!drawCardPressed)
-				{
-					drawCardPressed = true;
-					validPress = false;
-					validMousePress = false;
-					activeGame = true;
-					firstPress = false;
-					resetDrawnCards();
-					resetShortcutTaken();
-					drawCard();
-				}
-			}
-			else
-			{
-				drawCardPressed = false;
-			}
-		}
+		return engine.getCurrentPlayerType() == 0 && validPress && engine.gameWinner == -1 && !getPausedState();
 	}
 
 	/**
-	 * Reset the current rounds' drawn cards.
-	 * Array is used to display card text visually on 
+	 * Start the user's turn by drawing their card,
+	 * from the RIGHT ARROW key, the draw button or a replay
 	 */
-	public void resetDrawnCards()
+	private void drawUserCard()
 	{
-		for (int i = 0; i < GAME_PIECES; i++)
-		{
-			drawnCards[i][0] = null;
-		}
+		validPress = false;
+		engine.activeGame = true;
+		firstPress = false;
+		resetDrawnCards();
+		resetShortcutTaken();
+		drawCard();
 	}
 
 	/**
-	 * Create the 64 card deck
-	 * (Requirement 1.0.0)
+	 * Reset the current rounds' drawn cards.
+	 * Array is used to display card text visually on 
 	 */
-	private void initializeCards()
+	public void resetDrawnCards()
 	{
-		cards = new ArrayList<>();
-
-		/**
-		* Create 48 single color cards, 8 of each color
-		* (Requirement 1.0.1)
-		*/
-		for (String color : COLORS)
-		{
-			for (int i = 0; i < SINGLE_CARDS; i++)
-			{
-				cards.add(color);
-			}
-		}
-
-		/**
-		* Create 12 double color cards, 2 of each color
-		* (Requirement 1.0.2)
-		*/
-		for (int i = 0; i < DOUBLE_CARDS; i++)
-		{
-			for (String color : COLORS)
-			{
-				cards.add("Double " + color);
-			}
-		}
-
-		/**
-		* Create 4 special character cards
-		* (Requirement 1.0.3)
-		*/
-		cards.add("Peppermint Forest");
-		cards.add("Gumdrop Mountains");
-		cards.add("Peanut Acres");
-		cards.add("Lollipop Woods");
+		engine.resetDrawnCards();
 	}
 
 	/**
@@ -1075,12 +1136,12 @@ public class GameScreen extends ScreenAdapter
 	 */
 	private void initializeLicorice()
 	{
-		for (int i = 0; i < GAME_PIECES; i++)
+		for (int i = 0; i < engine.getPlayerCount(); i++)
 		{
-			skipCurrentTurn[i] = false;
+			engine.skipCurrentTurn[i] = false;
 			if (!loadedGame)
 			{
-				skipNextTurn[i] = false;
+				engine.skipNextTurn[i] = false;
 			}
 		}
 	}
@@ -1091,22 +1152,7 @@ public class GameScreen extends ScreenAdapter
 	 */
 	public void resetShortcutTaken()
 	{
-		for (int i = 0; i < GAME_PIECES; i++)
-		{
-			shortcutTaken[i] = false;
-		}
-	}
-
-	/**
-	 * Shuffle card deck.
-	 * Called when checkEmptyDeck() returns true
-	 */
-	private void shuffleCards()
-	{
-		if (!cards.isEmpty())
-		{
-			Collections.shuffle(cards);
-		}
+		engine.resetShortcutTaken();
 	}
 
 	/**
@@ -1115,64 +1161,42 @@ public class GameScreen extends ScreenAdapter
 	 */
 	public void drawCard()
 	{
-		if (includesScreenLogic)
+		int playerIndex = engine.getCurrentPlayerType();
+		engine.startTurn();
+		if (includesScreenLogic || !enableLicoriceForTest || !engine.skipNextTurn[playerIndex])
 		{
-			// Check valid card in deck and draw next card
-			checkEmptyDeck();
-			String card = nextCard();
+			// Check valid card in deck and draw next card,
+			// the recorded card when the game is replayed
+			int card = replay != null ? replay.drawCard(engine, engine.turnCount) : engine.drawNextCard();
 
-			if (CandyLandMain.DEBUG)
+			if (CandyLandDebug.ENABLED)
 			{
-				System.out.println("You (" + getPiece(playerIndex) + ") drew: " + card);
+				System.out.println("You (" + getPiece(playerIndex) + ") drew: " + CandyLandDeck.cardName(card));
 			}
-			drawnCards[playerIndex][0] = card;
+			engine.drawnCards[playerIndex][0] = CandyLandDeck.cardName(card);
 
 			// Move player based on number of steps determined from calculateSteps()
 			movePlayer(card, calculateSteps(card));
 
-			removeCard();
 			checkWinner();
 			incrementIndex();
+			recordTurn(playerIndex, 1, card);
 		}
 		else
 		{
-			if (!enableLicoriceForTest || (!skipNextTurn[playerIndex] && enableLicoriceForTest))
-			{
-				checkEmptyDeck();
-				String card = nextCard();
-
-				if (CandyLandMain.DEBUG)
-				{
-					System.out.println("You (" + getPiece(playerIndex) + ") drew: " + card);
-				}
-				drawnCards[playerIndex][0] = card;
-
-				// Move player based on number of steps determined from calculateSteps()
-				movePlayer(card, calculateSteps(card));
-
-				removeCard();
-				checkWinner();
-				incrementIndex();
-			}
-			else
-			{
-				skipCurrentTurn[playerIndex] = true;
-				skipNextTurn[playerIndex] = false;
-				incrementIndex();
-			}
+			engine.skipCurrentTurn[playerIndex] = true;
+			engine.skipNextTurn[playerIndex] = false;
+			incrementIndex();
+			recordTurn(playerIndex, 0, 0);
 		}
 
 		if (includesScreenLogic)
 		{
 			// 0.4 second timer to allow for space between user's draw and computers drawing cards
-			Timer.schedule(new Timer.Task()
+			animator.call(0.4f, () ->
 			{
-				@Override
-				public void run()
-				{
-					handleComputerTurn();
-				}
-			}, 0.4f);
+				handleComputerTurn();
+			});
 		}
 		else
 		{
@@ -1189,144 +1213,174 @@ public class GameScreen extends ScreenAdapter
 		if (includesScreenLogic)
 		{
 			// 0.4 second timer to allow for space between computer turns
-			Timer.schedule(new Timer.Task()
+			animator.call(0.4f, () ->
 			{
-				@Override
-				public void run()
+				int playerIndex = engine.getCurrentPlayerType();
+				if (playerIndex != 0 && engine.activeGame)
 				{
-					if (playerIndex != 0 && activeGame)
+					engine.startTurn();
+					// Computer not on Licorice location
+					if (!engine.skipNextTurn[playerIndex])
 					{
-						// Computer not on Licorice location
-						if (!skipNextTurn[playerIndex])
-						{
-							checkEmptyDeck();
-							String card1 = nextCard();
-							drawnCards[playerIndex][0] = card1;
-							int steps1 = calculateSteps(card1);
-							removeCard();
-							String finalCard = card1;
-							int finalSteps = steps1;
-
-							// Load difficulty preference
-							Preferences preferences = Gdx.app.getPreferences("candyland-prefs");
-							boolean extremeDifficulty = preferences.getBoolean("difficulty");
-							if (extremeDifficulty)
-							{
-								// Computer draws second card if Extreme difficulty selected
-								checkEmptyDeck();
-								final String card2 = nextCard();
-								drawnCards[playerIndex][1] = card2;
-								int steps2 = calculateSteps(card2);
-								removeCard();
-
-								// Determines which card drawn will progress the player further
-								if (steps1 <= steps2)
-								{
-									finalCard = card2;
-									finalSteps = steps2;
-								}
-								final String chosenCard = finalCard;
-								final int index = playerIndex;
-
-								// 1 second timer to visually remove the second drawn card text on GameScreen
-								Timer.schedule(new Timer.Task()
-								{
-									@Override
-									public void run()
-									{
-										drawnCards[index][0] = chosenCard;
-										drawnCards[index][1] = null;
-									}
-								}, 1.0f);
-								if (CandyLandMain.DEBUG)
-								{
-									System.out.println("Computer " + index + " (" + getPiece(index) + ") drew: " + card1 + " and " + card2);
-								}
-							}
-							if (CandyLandMain.DEBUG)
-							{
-								String phrasing = extremeDifficulty ? "chose" : "drew";
-								System.out.println("Computer " + playerIndex + " (" + getPiece(playerIndex) + ") " + phrasing + ": " + finalCard);
-							}
-							movePlayer(finalCard, finalSteps);
-							checkWinner();
-							incrementIndex();
-							validPress = false;
-						}
-						else
+						// Computer draws second card if its strategy draws two
+						// and keeps the card it chooses, or the card it kept when the game is replayed
+						CandyLandStrategy strategy = engine.getStrategy(playerIndex);
+						int count = engine.drawCards(strategy);
+						int recorded = replay != null ? replay.recordedCard(engine, engine.turnCount, count) : -1;
+						if (recorded < 0 && strategy.getTimeBudget() > 0)
 						{
-							// Computer was on Licorice location
-							if (CandyLandMain.DEBUG)
-							{
-								System.out.println("Computer " + playerIndex + " (" + getPiece(playerIndex) + ") is on a Licorice space and had their turn skipped!");
-								System.out.println("Stayed at position " + getBoardPosition(playerPositions[playerIndex]) + "/" + MAX_POSITIONS + ": " + getCurrentColor(playerPositions[playerIndex]) + "\n");
-							}
-							skipCurrentTurn[playerIndex] = true;
-							if (includesScreenLogic)
-							{
-								setPiecePosition();
-							}
-							skipNextTurn[playerIndex] = false;
-							incrementIndex();
+							// strategy takes time, it chooses on the decider's thread
+							// and render plays the card once it is handed back
+							decision = decider.decide(engine, strategy, count);
+							return;
 						}
-
+						playComputerCard(playerIndex, count, recorded >= 0 ? recorded : engine.chooseCard(strategy, count));
 					}
-
-					// Handle next computer's turn
-					if (playerIndex != 0)
-					{
-						handleComputerTurn();
-					}
-					// Player landed on licorice space
-					// Skip their turn and draw the next round of computer cards
-					else if (playerIndex == 0 && skipNextTurn[playerIndex])
+					else
 					{
-						// 1.1 second timer to add space between rounds
-						// .1 seconds longer than the visually remove second drawn card text
-						// from GameScreen timer, to prevent cards being incorrectly removed from GameScreen
-						Timer.schedule(new Timer.Task()
+						// Computer was on Licorice location
+						if (CandyLandDebug.ENABLED)
 						{
-							@Override
-							public void run()
-							{
-								if (CandyLandMain.DEBUG)
-								{
-									System.out.println("You are on a Licorice space so your turn was skipped!");
-									System.out.println("Stayed at position " + getBoardPosition(playerPositions[playerIndex]) + "/" + MAX_POSITIONS + ": " + getCurrentColor(playerPositions[playerIndex]) + "\n");
-								}
-								skipCurrentTurn[playerIndex] = true;
-								if (includesScreenLogic)
-								{
-									setPiecePosition();
-								}
-								skipNextTurn[playerIndex] = false;
-								resetDrawnCards();
-								resetShortcutTaken();
-								incrementIndex();
-								handleComputerTurn();
-							}
-						}, 1.1f);
+							System.out.println("Computer " + playerIndex + " (" + getPiece(playerIndex) + ") is on a Licorice space and had their turn skipped!");
+							System.out.println("Stayed at position " + getBoardPosition(engine.playerPositions[playerIndex]) + "/" + MAX_POSITIONS + ": " + getCurrentColor(engine.playerPositions[playerIndex]) + "\n");
+						}
+						engine.skipCurrentTurn[playerIndex] = true;
+						setPiecePosition(playerIndex);
+						engine.skipNextTurn[playerIndex] = false;
+						incrementIndex();
+						recordTurn(playerIndex, 0, 0);
 					}
+
 				}
-			}, 0.4f);
+				continueRound();
+			});
 		}
 		else
 		{
-			while (playerIndex != 0 && activeGame)
+			while (engine.getCurrentPlayerType() != 0 && engine.activeGame)
 			{
-				checkEmptyDeck();
-				String card = nextCard();
+				int card = engine.drawNextCard();
 
 				// Move player based on number of steps determined from calculateSteps()
 				movePlayer(card, calculateSteps(card));
 
-				removeCard();
 				checkWinner();
 				incrementIndex();
 			}
 		}
 	}
 
+	/**
+	 * Play the card a computer chose and record the turn.
+	 *
+	 * @param index - index of the computer
+	 * @param count - number of cards the computer drew
+	 * @param finalCard - card code of the card chosen
+	 */
+	private void playComputerCard(int index, int count, int finalCard)
+	{
+		if (count > 1)
+		{
+			// 1 second timer to visually remove the second drawn card text on GameScreen
+			animator.call(1.0f, () ->
+			{
+				engine.drawnCards[index][0] = CandyLandDeck.cardName(finalCard);
+				engine.drawnCards[index][1] = null;
+			});
+			if (CandyLandDebug.ENABLED)
+			{
+				System.out.println("Computer " + index + " (" + getPiece(index) + ") drew: " + engine.drawnCards[index][0] + " and " + engine.drawnCards[index][1]);
+			}
+		}
+		if (CandyLandDebug.ENABLED)
+		{
+			String phrasing = count > 1 ? "chose" : "drew";
+			System.out.println("Computer " + index + " (" + getPiece(index) + ") " + phrasing + ": " + CandyLandDeck.cardName(finalCard));
+		}
+		movePlayer(finalCard, calculateSteps(finalCard));
+		checkWinner();
+		incrementIndex();
+		recordTurn(index, count, finalCard);
+		validPress = false;
+	}
+
+	/**
+	 * Play the card of a computer whose strategy chose on the decider's thread,
+	 * once it is handed back or the strategy runs out of time, then carry on with the round.
+	 */
+	private void pollDecision()
+	{
+		if (decision != null && decision.isReady())
+		{
+			CandyLandDecider.Decision decided = decision;
+			decision = null;
+			playComputerCard(engine.getCurrentPlayerType(), decided.getCount(), decided.getCard());
+			continueRound();
+		}
+	}
+
+	/**
+	 * Start the next computer's turn, or skip the user's turn if they are on licorice.
+	 * Called once a computer has played.
+	 */
+	private void continueRound()
+	{
+		// Handle next computer's turn
+		if (engine.getCurrentPlayerType() != 0)
+		{
+			handleComputerTurn();
+		}
+		// Player landed on licorice space
+		// Skip their turn and draw the next round of computer cards
+		else if (engine.skipNextTurn[0])
+		{
+			// 1.1 second timer to add space between rounds
+			// .1 seconds longer than the visually remove second drawn card text
+			// from GameScreen timer, to prevent cards being incorrectly removed from GameScreen
+			animator.call(1.1f, () ->
+			{
+				if (CandyLandDebug.ENABLED)
+				{
+					System.out.println("You are on a Licorice space so your turn was skipped!");
+					System.out.println("Stayed at position " + getBoardPosition(engine.playerPositions[0]) + "/" + MAX_POSITIONS + ": " + getCurrentColor(engine.playerPositions[0]) + "\n");
+				}
+				engine.startTurn();
+				engine.skipCurrentTurn[0] = true;
+				setPiecePosition(0);
+				engine.skipNextTurn[0] = false;
+				resetDrawnCards();
+				resetShortcutTaken();
+				incrementIndex();
+				recordTurn(0, 0, 0);
+				handleComputerTurn();
+			});
+		}
+	}
+
+	/**
+	 * Record a turn that has just been played in the replay and the autosave.
+	 *
+	 * @param player - index of the player whose turn it was
+	 * @param cardsDrawn - number of cards drawn, 0 if the turn was skipped on licorice
+	 * @param card - card code of the card played
+	 */
+	private void recordTurn(int player, int cardsDrawn, int card)
+	{
+		// turns played from a replay are already recorded, new turns extend it
+		int turn = engine.turnCount++;
+		if (replay != null && turn == replay.getTurnCount())
+		{
+			replay.record(cardsDrawn == 0 ? CandyLandReplay.SKIPPED : card);
+		}
+
+		if (journal != null && engine.activeGame)
+		{
+			journal.record(engine, playerTokens, player, cardsDrawn, card);
+		}
+		// the turn is over, tell listeners about anything not yet told
+		engine.events.dispatch();
+	}
+
 	/**
 	 * Returns an integer representing the location of the specified player's index
 	 * 
@@ -1335,7 +1389,7 @@ public class GameScreen extends ScreenAdapter
 	 */
 	public int getCurrentPositionIndex(int index)
 	{
-		return playerPositions[index];
+		return engine.getCurrentPositionIndex(index);
 	}
 
 	/**
@@ -1344,46 +1398,9 @@ public class GameScreen extends ScreenAdapter
 	 */
 	public void checkWinner()
 	{
-		// Prevent multiple players from winning in the same round
-		if (gameWinner == -1)
-		{
-			for (int i = 0; i < GAME_PIECES; i++)
-			{
-				if (playerPositions[i] >= MAX_POSITIONS)
-				{
-					activeGame = false;
-					validPress = false;
-					if (CandyLandMain.DEBUG)
-					{
-						if (i != 0)
-						{
-							System.out.println("Computer " + i + " has won the game!");
-						}
-						else
-						{
-							System.out.println("Congratulations! You have won the game!");
-						}
-					}
-					gameWinner = i;
-					int winnerIndex = gameWinner;
-
-					if (includesScreenLogic)
-					{
-						// 1.2 second timer to allow for user to see a piece has moved
-						// into the FINISH location on GameScreen
-						Timer.schedule(new Timer.Task()
-						{
-							@Override
-							public void run()
-							{
-								switchToWinnerScreen(winnerIndex);
-							}
-						}, 1.2f);
-						break;
-					}
-				}
-			}
-		}
+		// a winner is handled by onGameWon
+		engine.checkWinner();
+		engine.events.dispatch();
 	}
 
 	/**
@@ -1392,11 +1409,7 @@ public class GameScreen extends ScreenAdapter
 	 */
 	public void checkEmptyDeck()
 	{
-		if (cards.isEmpty())
-		{
-			initializeCards();
-			shuffleCards();
-		}
+		engine.checkEmptyDeck();
 	}
 
 	/**
@@ -1404,12 +1417,11 @@ public class GameScreen extends ScreenAdapter
 	 * Only used to print in console
 	 * 
 	 * @param index - player index
-	 * @return string of player's game piece, with the file type removed
+	 * @return string of player's game piece
 	 */
 	private String getPiece(int index)
 	{
-		String texture = getTextureString(index);
-		return texture.substring(0, texture.lastIndexOf('.'));
+		return getTextureString(index);
 	}
 	
 	/**
@@ -1422,49 +1434,16 @@ public class GameScreen extends ScreenAdapter
 	 */
 	public int calculateSteps(String nextCard)
 	{
-		int steps = 0;
-		/**
-		 * Double color cards move to second nearest color position
-		 * (Requirement 1.2.2)
-		 */
-		if (nextCard.contains("Double"))
-		{
-			String drawnColor = nextCard.substring("Double ".length());
-			steps = getStepsFromColor(drawnColor);
-			// Add 6 to steps needed as there are 6 colors,
-			// which handles the double color draws
-			steps += 6;
-		}
+		return engine.calculateSteps(nextCard);
+	}
 
-		/**
-		 * Special cards cards move to pre-determined board position
-		 * (Requirement 1.2.3)
-		 */
-		else if (nextCard.contains("Peppermint Forest"))
-		{
-			steps = 20;
-		}
-		else if (nextCard.contains("Gumdrop Mountains"))
-		{
-			steps = 36;
-		}
-		else if (nextCard.contains("Peanut Acres"))
-		{
-			steps = 72;
-		}
-		else if (nextCard.contains("Lollipop Woods"))
-		{
-			steps = 99;
-		}
-		else
-		{
-			/**
-			 * Single color cards move to nearest color position
-			 * (Requirement 1.2.1)
-			 */
-			steps = getStepsFromColor(nextCard);
-		}
-		return steps;
+	/**
+	 * @param	nextCard - card code of the card drawn
+	 * @return	the steps needed to reach the position from the drawn card
+	 */
+	public int calculateSteps(int nextCard)
+	{
+		return engine.calculateSteps(nextCard);
 	}
 
 	/**
@@ -1475,90 +1454,24 @@ public class GameScreen extends ScreenAdapter
 	 */
 	public void movePlayer(String nextCard, int steps)
 	{
-		// Check for 4 special cards
-		if (nextCard.contains("Peppermint Forest") || nextCard.contains("Gumdrop Mountains") || nextCard.contains("Peanut Acres") || nextCard.contains("Lollipop Woods"))
-		{
-			//Special card drawn so set player position to value of special card
-			playerPositions[playerIndex] = steps;
-		}
-		else
-		{
-			//Normal movement card so add steps to current player position
-			int newPosition = playerPositions[playerIndex] + steps;
-			playerPositions[playerIndex] = newPosition;
-		}
-
-		if (CandyLandMain.DEBUG)
-		{
-			System.out.println("Moved to position " + getBoardPosition(playerPositions[playerIndex]) + "/" + MAX_POSITIONS + ": " + getCurrentColor(playerPositions[playerIndex]));
-		}
-
-		// Handle logic of shortcuts and licorice before setting piece position
-		// Ideally we should handle shortcuts differently with a timer after
-		// person reaches their drawn card, to then display the shortcut movement
-		handleShortcuts();
-		handleLicorice();
-
-		if (CandyLandMain.DEBUG)
-		{
-			System.out.println("");
-		}
-
-		// Prevent player position array from overflowing if there is a winner
-		if (playerPositions[playerIndex] >= MAX_POSITIONS)
-		{
-			playerPositions[playerIndex] = MAX_POSITIONS;
-		}
-		// Move game piece on GameScreen to new position
-		if (includesScreenLogic)
-		{
-			setPiecePosition();
-		}
-	}
-
-	/**
-	 * Determine if player landed on a shortcut location
-	 * (Requirement 4.0.1)
-	 */
-	private void handleShortcuts()
-	{
-		if (playerPositions[playerIndex] == 27)
-		{
-			// Set player position to shortcut destination
-			playerPositions[playerIndex] = 56;
-			if (CandyLandMain.DEBUG)
-			{
-				System.out.println("Landed on the Rainbow Trail shortcut!");
-				System.out.println("New position is " + getBoardPosition(playerPositions[playerIndex]) + "/" + MAX_POSITIONS + ": "  + getCurrentColor(playerPositions[playerIndex]));
-			}
-			shortcutTaken[playerIndex] = true;
-		}
-		else if (playerPositions[playerIndex] == 49)
-		{
-			// Set player position to shortcut destination
-			playerPositions[playerIndex] = 74;
-			if (CandyLandMain.DEBUG)
-			{
-				System.out.println("Landed on the Gumdrop Pass shortcut!");
-				System.out.println("New position is " + getBoardPosition(playerPositions[playerIndex]) + "/" + MAX_POSITIONS + ": "  + getCurrentColor(playerPositions[playerIndex]));
-			}
-			shortcutTaken[playerIndex] = true;
-		}
+		movePlayer(CandyLandDeck.cardCode(nextCard), steps);
 	}
 
 	/**
-	 * Determine if player landed on a licorice location
-	 * (Requirement 4.0.2)
+	 * Move the player index and piece position based on card drawn
+	 * 
+	 * @param	nextCard - card code of the card drawn
+	 * @param 	steps - number of steps the player piece will move
 	 */
-	private void handleLicorice()
+	public void movePlayer(int nextCard, int steps)
 	{
-		if (playerPositions[playerIndex] == 12 || playerPositions[playerIndex] == 44 || playerPositions[playerIndex] == 82)
+		// Handles shortcuts, licorice and the finish position,
+		// the piece is moved on GameScreen by onPieceMoved
+		engine.movePlayer(nextCard, steps);
+		engine.events.dispatch();
+		if (CandyLandDebug.ENABLED)
 		{
-			if (CandyLandMain.DEBUG)
-			{
-				System.out.println("Landed on Licorice so the next turn will be skipped!");
-			}
-			skipNextTurn[playerIndex] = true;
+			System.out.println("");
 		}
 	}
 
@@ -1581,54 +1494,7 @@ public class GameScreen extends ScreenAdapter
 	 */
 	public int getStepsFromColor(String color)
 	{
-		// Obtain index of input color within COLORS array
-		// We add 1 because we want to know the card number (1 : 6)
-		int drawnCardValue = Arrays.asList(COLORS).indexOf(color) + 1;
-		int steps = 0;
-		
-		// Obtain card value of current player's position
-		int currentCardValue = getCardValue(playerPositions[playerIndex]);
-
-		if (currentCardValue < 0)
-		{
-			currentCardValue = 0;
-		}
-
-		// Current position color's value is greater than drawn card's value
-		if (currentCardValue > drawnCardValue)
-		{
-			// Subtract current card's value from color array length
-			// and add the drawn card's value to this number to obtain steps
-			int temp = COLORS.length - currentCardValue;
-			temp += drawnCardValue;
-			steps = temp;
-		}
-		// Current position's color is the same as the drawn color
-		else if (currentCardValue == drawnCardValue)
-		{
-			// length of array will move to same color
-			steps = COLORS.length;
-		}
-		// Current position color value is less than drawn card color value
-		else
-		{
-			// Subtract drawn card's value from current position value
-			steps = drawnCardValue - currentCardValue;
-			if (steps < 0)
-			{
-				steps = Math.abs(steps);
-			}
-		}
-		return steps;
-	}
-
-	/**
-	 * Remove card from deck.
-	 * Only called after checkEmptyDeck()
-	 */
-	private void removeCard()
-	{
-		cards.remove(0);
+		return engine.getStepsFromColor(color);
 	}
 
 	/**
@@ -1639,33 +1505,7 @@ public class GameScreen extends ScreenAdapter
 	 */
 	public String getCurrentColor(int position)
 	{
-		// Start position
-		if (position == 0)
-		{
-			// Last element in array is first color on the board
-			return COLORS[COLORS.length - 1];
-		}
-		// Not the start position
-		else
-		{
-			// Remainder indicates game board position
-			int color = position % COLORS.length;
-
-			// No remainder, last position in the array, first position on board
-			if (color == 0)
-			{
-				// String of last element in array, first position on board
-				return COLORS[COLORS.length - 1];
-			}
-			// Not the last position in the array
-			else
-			{
-				// Subtract one to obtain COLORS array position
-				// color indicates game board position (COLORS + 1)
-				// 0 : 4
-				return COLORS[color - 1];
-			}
-		}
+		return engine.getCurrentColor(position);
 	}
 
 	/**
@@ -1676,48 +1516,16 @@ public class GameScreen extends ScreenAdapter
 	 */
 	public int getCardValue(int position)
 	{
-		// Start position
-		if (position == 0)
-		{
-			// value of starting location
-			return 0;
-		}
-		else
-		{
-			// Remainder indicates game board position
-			int color = position % COLORS.length;
-
-			// No remainder, last position in the array, first position on board (0 : 5)
-			if (color == 0)
-			{
-				return COLORS.length;
-			}
-			else
-			{
-				// game board position
-				// 1 : 5
-				return color;
-			}
-		}
-	}
-
-	/**
-	 * Obtain the next card to be drawn
-	 * 
-	 * @return	the string of the next card in the deck
-	 */
-	private String nextCard()
-	{
-		return cards.get(0);
+		return engine.getCardValue(position);
 	}
 
 	/**
 	 * Increment current player index
-	 * Starts over at 0 once it would reach GAME_PIECES value.
+	 * Starts over at 0 once it would reach the player count.
 	 */
 	public void incrementIndex()
 	{
-		playerIndex = (playerIndex + 1) % GAME_PIECES;
+		engine.incrementIndex();
 	}
 
 	/**
@@ -1729,7 +1537,7 @@ public class GameScreen extends ScreenAdapter
 	 */
 	public int getCurrentPlayerType()
 	{
-		return playerIndex;
+		return engine.getCurrentPlayerType();
 	}
 
 	/**
@@ -1739,7 +1547,7 @@ public class GameScreen extends ScreenAdapter
 	 */
 	public int getWinner()
 	{
-		return gameWinner;
+		return engine.getWinner();
 	}
 
 	/**
@@ -1750,6 +1558,20 @@ public class GameScreen extends ScreenAdapter
 	 */
 	public boolean load(int slotNumber)
 	{
+		if (slotNumber == CandyLandLoad.AUTOSAVE_SLOT)
+		{
+			// restore the autosave at the exact turn it was taken
+			int[] tokens = new CandyLandJournal(game.saves).recover(engine);
+			if (tokens == null)
+			{
+				return false;
+			}
+			loadedGame = true;
+			resumePlayer = engine.getCurrentPlayerType();
+			PieceSelectionScreen.pieceSelection = tokens[0];
+			return true;
+		}
+
 		// check if save file exists
 		boolean loadCorrect = LoadSaveManager.read(slotNumber);
 
@@ -1758,10 +1580,14 @@ public class GameScreen extends ScreenAdapter
 		{
 			// import values from the game save
 			loadedGame = true;
-			cards = LoadSaveManager.getCards();
-			skipNextTurn = LoadSaveManager.getLicoriceStatus();
-			playerPositions = LoadSaveManager.getPlayerPositions();
+			engine.setPlayerCount(LoadSaveManager.getPlayerPositions().length);
+			engine.deck.setCards(LoadSaveManager.getCardCodes(), LoadSaveManager.getCardCount());
+			engine.skipNextTurn = LoadSaveManager.getLicoriceStatus();
+			engine.playerPositions = LoadSaveManager.getPlayerPositions();
 			PieceSelectionScreen.pieceSelection = LoadSaveManager.getPlayerTokens()[0];
+			// the save itself does not hold the turn count, the index does
+			CandyLandSlotIndex.Entry entry = CandyLandSlotIndex.read()[slotNumber];
+			engine.turnCount = entry != null ? Math.max(entry.turnCount, 0) : 0;
 
 			// disable save button after loading a game as there is nothing to save
 			userSaved = true;
@@ -1787,11 +1613,11 @@ public class GameScreen extends ScreenAdapter
 	 * Determines names of a sprite's texture, used for printing in console
 	 * 
 	 * @param index - player index
-	 * @return - string of game piece texture at a player's index. Displays the full file, including .png
+	 * @return - name of the game piece region within the texture atlas at a player's index
 	 */
 	public String getTextureString(int index)
 	{
-		return playerTextures[index].toString();
+		return setTextureString(playerTokens[index]);
 	}
 	
 	public boolean getPausedState()
@@ -1809,32 +1635,168 @@ public class GameScreen extends ScreenAdapter
 	{
 		camera.setToOrtho(false, 1280, 960);
 		camera.update();
+		// a minimized window has no size to draw the board at, the last one is kept
+		if (renderer != null && width > 0 && height > 0)
+		{
+			createBoardLayer();
+		}
+	}
+
+	/**
+	 * Draw everything on the board that never changes once, into a frame buffer the size of the screen:
+	 * the tile map, the special space and shortcut images and the licorice spaces.
+	 * render() then draws the whole board as a single quad instead of every tile and image.
+	 * Drawn again only when the screen is resized. Licorice is drawn under the pieces,
+	 * and stays on the board while the game is paused.
+	 */
+	private void createBoardLayer()
+	{
+		if (boardBuffer != null)
+		{
+			boardBuffer.dispose();
+		}
+		boardBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, Gdx.graphics.getBackBufferWidth(), Gdx.graphics.getBackBufferHeight(), false);
+		boardBuffer.begin();
+		ScreenUtils.clear(255, 255, 255, 255);
+		renderer.setView(camera);
+		renderer.render();
+
+		game.batch.setProjectionMatrix(camera.combined);
+		game.batch.begin();
+		game.batch.draw(peppermintTexture, 1012, 52);
+		game.batch.draw(peanutTexture, 532, 319);
+		game.batch.draw(gumdropTexture, 212, 107);
+		game.batch.draw(lollipopTexture, 800, 427);
+		game.batch.draw(rainbowShortcutTexture, 716, 160);
+		game.batch.draw(gumdropShortcutTexture, 395, 267);
+		// show licorice spaces at the game board positions used by handleLicorice()
+		for (CandyLandLabel licoriceLabel : licoriceLabels)
+		{
+			licoriceLabel.draw(game.batch);
+		}
+		game.batch.end();
+		boardBuffer.end();
+
+		// frame buffers are drawn upside down
+		boardLayer = new TextureRegion(boardBuffer.getColorBufferTexture());
+		boardLayer.flip(false, true);
 	}
 
 	@Override
 	public void show()
 	{
-		gameSpaces = new TmxMapLoader().load("board-finish-multicolor.tmx");
+		gameSpaces = createBoardMap();
 		renderer = new OrthogonalTiledMapRenderer(gameSpaces, RENDER_SCALE);
 	}
 
+	/**
+	 * Build the board map from the compiled board, without reading the map file.
+	 * Tiles are cut from the tileset images in the texture atlas,
+	 * so the board is drawn from the same texture as every other image.
+	 *
+	 * @return the board map, its tiles owned by the atlas or the asset manager
+	 */
+	private TiledMap createBoardMap()
+	{
+		CandyLandBoardCache board = CandyLandBoardCache.get();
+		TiledMap map = new TiledMap();
+		for (CandyLandBoardCache.Tileset tileset : board.getTilesets())
+		{
+			if (tileset.image.isEmpty())
+			{
+				continue;
+			}
+			// atlas regions are named after their image file
+			String name = tileset.image.substring(tileset.image.lastIndexOf('/') + 1).replaceFirst("\\.[^.]*$", "");
+			TextureRegion image = game.atlas.findRegion(name);
+			if (image == null)
+			{
+				image = new TextureRegion(game.loadAsset(tileset.image, Texture.class));
+				boardTextures.add(tileset.image);
+			}
+
+			TiledMapTileSet tiles = new TiledMapTileSet();
+			tiles.setName(tileset.name);
+			for (int i = 0; i < tileset.tileCount; i++)
+			{
+				int x = i % tileset.columns * tileset.tileWidth;
+				int y = i / tileset.columns * tileset.tileHeight;
+				StaticTiledMapTile tile = new StaticTiledMapTile(new TextureRegion(image, x, y, tileset.tileWidth, tileset.tileHeight));
+				tile.setId(tileset.firstId + i);
+				tiles.putTile(tile.getId(), tile);
+			}
+			map.getTileSets().addTileSet(tiles);
+		}
+
+		TiledMapTileLayer layer = new TiledMapTileLayer(board.getColumns(), board.getRows(), board.getTileWidth(), board.getTileHeight());
+		for (int row = 0; row < board.getRows(); row++)
+		{
+			for (int column = 0; column < board.getColumns(); column++)
+			{
+				int id = board.getTile(column, row);
+				if (map.getTileSets().getTile(id & ~CandyLandBoardCache.FLIP_FLAGS) == null)
+				{
+					continue;
+				}
+				boolean flipHorizontally = (id & CandyLandBoardCache.FLIP_HORIZONTALLY) != 0;
+				boolean flipVertically = (id & CandyLandBoardCache.FLIP_VERTICALLY) != 0;
+				Cell cell = new Cell();
+				// diagonal flips become rotations, as TmxMapLoader turns them
+				if ((id & CandyLandBoardCache.FLIP_DIAGONALLY) != 0)
+				{
+					cell.setFlipHorizontally(flipHorizontally && flipVertically);
+					cell.setFlipVertically(!flipHorizontally && !flipVertically);
+					cell.setRotation(flipVertically && !flipHorizontally ? Cell.ROTATE_90 : Cell.ROTATE_270);
+				}
+				else
+				{
+					cell.setFlipHorizontally(flipHorizontally);
+					cell.setFlipVertically(flipVertically);
+				}
+				cell.setTile(map.getTileSets().getTile(id & ~CandyLandBoardCache.FLIP_FLAGS));
+				// layers count rows from the bottom, the compiled board from the top
+				layer.setCell(column, board.getRows() - 1 - row, cell);
+			}
+		}
+		map.getLayers().add(layer);
+		return map;
+	}
+
 	@Override
 	public void dispose()
 	{
-		drawCard.dispose();
-		yourCard.dispose();
-		pausedLogo.dispose();
-		exitTexture.dispose();
-		saveTexture.dispose();
-		savedTexture.dispose();
-		playTexture.dispose();
-		pauseTexture.dispose();
-		peppermintTexture.dispose();
-		peanutTexture.dispose();
-		gumdropTexture.dispose();
-		lollipopTexture.dispose();
-		rainbowShortcutTexture.dispose();
-		gumdropShortcutTexture.dispose();
+		if (journal != null)
+		{
+			journal.close();
+		}
+		// saves of this game are on disk before any other screen can load them
+		game.saves.flush();
+		decision = null;
+		decider.dispose();
+		if (replay != null && !replaying)
+		{
+			// keep the game just played so it can be replayed
+			replay.write(Paths.get(CandyLandReplay.LAST_GAME));
+		}
+
+		// images are regions of the texture atlas owned by CandyLandMain
+		if (renderer != null)
+		{
+			renderer.dispose();
+			renderer = null;
+			gameSpaces.dispose();
+			// the buffer is created by the first resize() with a size, which may not have happened
+			if (boardBuffer != null)
+			{
+				boardBuffer.dispose();
+				boardBuffer = null;
+			}
+			for (String texture : boardTextures)
+			{
+				game.unloadAsset(texture);
+			}
+			boardTextures.clear();
+		}
 	}
 
 	@Override
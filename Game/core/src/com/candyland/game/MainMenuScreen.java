@@ -2,6 +2,7 @@
  * MainMenuScreen.java
  * This class represents a visual landing screen displaying the main menu.
  * Displayed upon launching the game.
+ * Saved games are listed from the save index, only the one chosen is loaded.
  * (Requirement 2.0.0)
  */
 package com.candyland.game;
@@ -11,26 +12,35 @@ import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.Preferences;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
 public class MainMenuScreen extends ScreenAdapter
 {
 	// buttons and images
 	private Texture mainMenuBackgroundTexture;
-	private Texture titleCard;
-	private Texture newGameTexture;
-	private Texture exitTexture;
-	private Texture settingsTexture;
-	private Texture loadTexture;
+	private TextureRegion titleCard;
+	private TextureRegion newGameTexture;
+	private TextureRegion exitTexture;
+	private TextureRegion settingsTexture;
+	private TextureRegion loadTexture;
 	private Rectangle newGameButton;
 	private Rectangle exitButton;
 	private Rectangle settingsButton;
 	private Rectangle loadButton;
+	// one preview per saved game, null for empty slots
+	private final CandyLandLabel[] slotLabels = new CandyLandLabel[CandyLandSlotIndex.SLOTS];
+	private final Rectangle[] slotButtons = new Rectangle[CandyLandSlotIndex.SLOTS];
+	private CandyLandSlotIndex.Entry latestSave;
 
 	private FitViewport viewport;
 	private OrthographicCamera camera;
@@ -76,6 +86,7 @@ public class MainMenuScreen extends ScreenAdapter
 
 		handleInputs();
 		createButtons();
+		createSlotPreviews();
 	}
 
 	/**
@@ -115,59 +126,113 @@ public class MainMenuScreen extends ScreenAdapter
 				}
 				if (loadButton.contains(touchX, touchY))
 				{
-					GameScreen gameScreen = new GameScreen(game);
-					// user selected continue game
-					if (gameScreen.load(1))
+					// user selected continue game, resume the most recently saved game
+					if (latestSave != null)
 					{
-						// valid save loaded, switch display to game screen
-						dispose();
-						gameScreen.initializeGame();
-						game.setScreen(gameScreen);
-						gameScreen.loadedGame = false;
+						continueGame(latestSave.slotNumber);
 					}
 					return true;
 				}
+				for (int i = 0; i < slotButtons.length; i++)
+				{
+					if (slotButtons[i] != null && slotButtons[i].contains(touchX, touchY))
+					{
+						// user selected a saved game from the list
+						continueGame(i);
+						return true;
+					}
+				}
 				return false;
 			}
 		});
 	}
 
+	/**
+	 * Load a saved game and switch to it.
+	 *
+	 * @param slotNumber - slot of the saved game
+	 */
+	private void continueGame(int slotNumber)
+	{
+		GameScreen gameScreen = new GameScreen(game);
+		if (gameScreen.load(slotNumber))
+		{
+			// valid save loaded, switch display to game screen
+			dispose();
+			gameScreen.initializeGame();
+			game.setScreen(gameScreen);
+			gameScreen.loadedGame = false;
+		}
+	}
+
+	/**
+	 * List every saved game under the buttons, read from the save index
+	 * without opening the saves themselves.
+	 */
+	private void createSlotPreviews()
+	{
+		SimpleDateFormat dateFormat = new SimpleDateFormat("MMM d, h:mm a");
+		CandyLandSlotIndex.Entry[] entries = CandyLandSlotIndex.read();
+		float y = 380;
+		for (CandyLandSlotIndex.Entry entry : entries)
+		{
+			if (entry == null || entry.version > CandyLandLoad.VERSION)
+			{
+				continue;
+			}
+			if (latestSave == null || entry.timestamp > latestSave.timestamp)
+			{
+				latestSave = entry;
+			}
+
+			String text = (entry.slotNumber == CandyLandLoad.AUTOSAVE_SLOT ? "Autosave" : "Slot " + entry.slotNumber)
+					+ "  -  " + (entry.turnCount == CandyLandSlotIndex.UNKNOWN_TURN_COUNT ? "" : "turn " + entry.turnCount + ", ")
+					+ "leader on space " + entry.leaderPosition + " of " + CandyLandGame.MAX_POSITIONS
+					+ ", saved " + dateFormat.format(new Date(entry.timestamp));
+			CandyLandLabel label = new CandyLandLabel(game.font, text, Color.MAROON, 0, y);
+			label.setPosition((Gdx.graphics.getWidth() - label.getWidth()) / 2, y);
+			slotLabels[entry.slotNumber] = label;
+			slotButtons[entry.slotNumber] = new Rectangle((Gdx.graphics.getWidth() - label.getWidth()) / 2, y - label.getHeight(), label.getWidth(), label.getHeight());
+			y -= 30;
+		}
+	}
+
 	/**
 	 * Create all MainMenuScreen images and their respective rectangles indiciating
 	 * their physical interactable location if applicable
 	 */
 	private void createButtons()
 	{
-		mainMenuBackgroundTexture = new Texture(Gdx.files.internal("5939.jpg"));
-		newGameTexture = new Texture(Gdx.files.internal("newGame.png"));
-		exitTexture = new Texture(Gdx.files.internal("textExitButton.png"));
-		titleCard = new Texture(Gdx.files.internal("candyland_title.png"));
-		settingsTexture = new Texture(Gdx.files.internal("SettingsButton.png"));
-		loadTexture = new Texture(Gdx.files.internal("continue.png"));
+		mainMenuBackgroundTexture = game.loadAsset(CandyLandMain.BACKGROUND, Texture.class);
+		newGameTexture = game.atlas.findRegion("newGame");
+		exitTexture = game.atlas.findRegion("textExitButton");
+		titleCard = game.atlas.findRegion("candyland_title");
+		settingsTexture = game.atlas.findRegion("SettingsButton");
+		loadTexture = game.atlas.findRegion("continue");
 
 		exitButton = new Rectangle();
-		exitButton.x = (Gdx.graphics.getWidth() - exitTexture.getWidth()) / 2;
+		exitButton.x = (Gdx.graphics.getWidth() - exitTexture.getRegionWidth()) / 2;
 		exitButton.y = 200;
-		exitButton.width = exitTexture.getWidth();
-		exitButton.height = exitTexture.getHeight() - 20;
+		exitButton.width = exitTexture.getRegionWidth();
+		exitButton.height = exitTexture.getRegionHeight() - 20;
 
 		newGameButton = new Rectangle();
-		newGameButton.x = ((Gdx.graphics.getWidth() - newGameTexture.getWidth()) / 2);
+		newGameButton.x = ((Gdx.graphics.getWidth() - newGameTexture.getRegionWidth()) / 2);
 		newGameButton.y = (Gdx.graphics.getHeight()) / 1.6f;
-		newGameButton.width = newGameTexture.getWidth();
-		newGameButton.height = newGameTexture.getHeight();
+		newGameButton.width = newGameTexture.getRegionWidth();
+		newGameButton.height = newGameTexture.getRegionHeight();
 
 		loadButton = new Rectangle();
-		loadButton.x = ((Gdx.graphics.getWidth() - loadTexture.getWidth()) / 2);
+		loadButton.x = ((Gdx.graphics.getWidth() - loadTexture.getRegionWidth()) / 2);
 		loadButton.y = 515;
-		loadButton.width = loadTexture.getWidth();
-		loadButton.height = loadTexture.getHeight() - 20;
+		loadButton.width = loadTexture.getRegionWidth();
+		loadButton.height = loadTexture.getRegionHeight() - 20;
 
 		settingsButton = new Rectangle();
-		settingsButton.x = ((Gdx.graphics.getWidth() - settingsTexture.getWidth()) / 2);
+		settingsButton.x = ((Gdx.graphics.getWidth() - settingsTexture.getRegionWidth()) / 2);
 		settingsButton.y = 415;
-		settingsButton.width = settingsTexture.getWidth();
-		settingsButton.height = settingsTexture.getHeight();
+		settingsButton.width = settingsTexture.getRegionWidth();
+		settingsButton.height = settingsTexture.getRegionHeight();
 	}
 
 	/**
@@ -181,11 +246,18 @@ public class MainMenuScreen extends ScreenAdapter
 		game.batch.setProjectionMatrix(camera.combined);
 		game.batch.begin();
 		game.batch.draw(mainMenuBackgroundTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-		game.batch.draw(titleCard, ((Gdx.graphics.getWidth() - titleCard.getWidth()) / 2), ((Gdx.graphics.getHeight() - titleCard.getHeight())));
+		game.batch.draw(titleCard, ((Gdx.graphics.getWidth() - titleCard.getRegionWidth()) / 2), ((Gdx.graphics.getHeight() - titleCard.getRegionHeight())));
 		game.batch.draw(newGameTexture, newGameButton.x, newGameButton.y);
 		game.batch.draw(loadTexture, loadButton.x, loadButton.y);
 		game.batch.draw(settingsTexture, settingsButton.x, settingsButton.y);
 		game.batch.draw(exitTexture, exitButton.x, exitButton.y);
+		for (CandyLandLabel label : slotLabels)
+		{
+			if (label != null)
+			{
+				label.draw(game.batch);
+			}
+		}
 		game.batch.end();
 	}
 
@@ -201,12 +273,7 @@ public class MainMenuScreen extends ScreenAdapter
 	public void dispose()
 	{
 		stage.dispose();
-		mainMenuBackgroundTexture.dispose();
-		titleCard.dispose();
-		newGameTexture.dispose();
-		exitTexture.dispose();
-		settingsTexture.dispose();
-		loadTexture.dispose();
+		game.unloadAsset(CandyLandMain.BACKGROUND);
 	}
 
 	@Override
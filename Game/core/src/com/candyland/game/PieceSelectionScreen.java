@@ -12,9 +12,9 @@ import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -26,18 +26,21 @@ public class PieceSelectionScreen extends ScreenAdapter
 {
 	// buttons and images
 	private Texture backgroundTexture;
-	private Texture titleCard;
-	private Texture playTexture;
-	private Texture backTexture;
-	private Texture pieceOneTexture;
-	private Texture pieceTwoTexture;
-	private Texture pieceThreeTexture;
-	private Texture pieceFourTexture;
+	private TextureRegion titleCard;
+	private TextureRegion playTexture;
+	private TextureRegion backTexture;
+	private TextureRegion pieceOneTexture;
+	private TextureRegion pieceTwoTexture;
+	private TextureRegion pieceThreeTexture;
+	private TextureRegion pieceFourTexture;
 	private Rectangle playButton;
 	private Rectangle backButton;
 
+	// game pieces are drawn much larger than their normal size
+	private final static int PIECE_SIZE = 75;
+
 	// visual rectangle around selected game piece
-	private Rectangle[] pieceRectangles = new Rectangle[GameScreen.GAME_PIECES];
+	private Rectangle[] pieceRectangles = new Rectangle[GameScreen.PIECE_TYPES];
 	private ShapeRenderer shapeRenderer = new ShapeRenderer();
 
 	private FitViewport viewport;
@@ -114,27 +117,29 @@ public class PieceSelectionScreen extends ScreenAdapter
 	 */
 	private void createButtons()
 	{
-		backgroundTexture = new Texture(Gdx.files.internal("5939.jpg"));
-		playTexture = new Texture(Gdx.files.internal("testPlayButtonOne.png"));
-		backTexture = new Texture(Gdx.files.internal("backButton.png"));
-		titleCard = new Texture(Gdx.files.internal("candyland_title.png"));
+		backgroundTexture = game.loadAsset(CandyLandMain.BACKGROUND, Texture.class);
+		playTexture = game.atlas.findRegion("testPlayButtonOne");
+		backTexture = game.atlas.findRegion("backButton");
+		titleCard = game.atlas.findRegion("candyland_title");
 
-		// scale game pieces to be much larger than their normal size
-		scaleGamePieces();
+		pieceOneTexture = game.atlas.findRegion("cookiePiece");
+		pieceTwoTexture = game.atlas.findRegion("sucker");
+		pieceThreeTexture = game.atlas.findRegion("candyCane");
+		pieceFourTexture = game.atlas.findRegion("pinkCandy");
 
 		backButton = new Rectangle();
-		backButton.x = (Gdx.graphics.getWidth() - backTexture.getWidth()) / 2;
+		backButton.x = (Gdx.graphics.getWidth() - backTexture.getRegionWidth()) / 2;
 		backButton.y = 200;
-		backButton.width = backTexture.getWidth();
-		backButton.height = backTexture.getHeight() - 20;
+		backButton.width = backTexture.getRegionWidth();
+		backButton.height = backTexture.getRegionHeight() - 20;
 
 		playButton = new Rectangle();
-		playButton.x = ((Gdx.graphics.getWidth() - playTexture.getWidth()) / 2);
+		playButton.x = ((Gdx.graphics.getWidth() - playTexture.getRegionWidth()) / 2);
 		playButton.y = (Gdx.graphics.getHeight()) / 1.6f;
-		playButton.width = playTexture.getWidth();
-		playButton.height = playTexture.getHeight();
+		playButton.width = playTexture.getRegionWidth();
+		playButton.height = playTexture.getRegionHeight();
 
-		float totalWidth = pieceOneTexture.getWidth() + pieceTwoTexture.getWidth() + pieceThreeTexture.getWidth() + pieceFourTexture.getWidth();
+		float totalWidth = PIECE_SIZE * pieceRectangles.length;
 		float spacing = (Gdx.graphics.getWidth() - totalWidth) / 5;
 
 		float x = spacing;
@@ -144,50 +149,12 @@ public class PieceSelectionScreen extends ScreenAdapter
 			pieceRectangles[i] = new Rectangle();
 			pieceRectangles[i].x = x;
 			pieceRectangles[i].y = 442;
-			pieceRectangles[i].width = pieceOneTexture.getWidth();
-			pieceRectangles[i].height = pieceOneTexture.getHeight();
+			pieceRectangles[i].width = PIECE_SIZE;
+			pieceRectangles[i].height = PIECE_SIZE;
 			x += pieceRectangles[i].width + spacing;
 		}
 	}
 
-	/**
-	 * Method that calls to scale all player pieces
-	 */
-	private void scaleGamePieces()
-	{
-		int SCALE = 75;
-		pieceOneTexture = createScaledTexture("cookiePiece.png", SCALE);
-		pieceTwoTexture = createScaledTexture("sucker.png", SCALE);
-		pieceThreeTexture = createScaledTexture("candyCane.png", SCALE);
-		pieceFourTexture = createScaledTexture("pinkCandy.png", SCALE);
-	}
-
-	/**
-	 * Scale the input texture based on the scale size
-	 * 
-	 * @param texture - string of the texture to be scaled
-	 * @param scale - size to scale texture to
-	 * @return texture that has been scaled
-	 */
-	private Texture createScaledTexture(String texture, int scale)
-	{
-		// create normal texture as pixmap
-		// create new pixmap with desired scale
-		// drawPixmap to scale and stretch normal texture
-		// to fit the desired rectangle
-		Pixmap pixmapDefault = new Pixmap(Gdx.files.internal(texture));
-		Pixmap pixmapScaled = new Pixmap(scale, scale, pixmapDefault.getFormat());
-		pixmapScaled.drawPixmap(pixmapDefault, 0, 0, pixmapDefault.getWidth(), pixmapDefault.getHeight(), 0, 0, pixmapScaled.getWidth(), pixmapScaled.getHeight());
-
-		// create new texture based off of the pixMap that has been scaled
-		Texture newTexture = new Texture(pixmapScaled);
-		pixmapDefault.dispose();
-		pixmapScaled.dispose();
-
-		// return scaled texture
-		return newTexture;
-	}
-
 	/**
 	 * Render each frame
 	 */
@@ -199,12 +166,12 @@ public class PieceSelectionScreen extends ScreenAdapter
 		game.batch.setProjectionMatrix(camera.combined);
 		game.batch.begin();
 		game.batch.draw(backgroundTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-		game.batch.draw(titleCard, ((Gdx.graphics.getWidth() - titleCard.getWidth()) / 2), ((Gdx.graphics.getHeight() - titleCard.getHeight())));
+		game.batch.draw(titleCard, ((Gdx.graphics.getWidth() - titleCard.getRegionWidth()) / 2), ((Gdx.graphics.getHeight() - titleCard.getRegionHeight())));
 		game.batch.draw(playTexture, playButton.x, playButton.y);
-		game.batch.draw(pieceOneTexture, pieceRectangles[0].x, pieceRectangles[0].y);
-		game.batch.draw(pieceTwoTexture, pieceRectangles[1].x, pieceRectangles[1].y);
-		game.batch.draw(pieceThreeTexture, pieceRectangles[2].x, pieceRectangles[2].y);
-		game.batch.draw(pieceFourTexture, pieceRectangles[3].x, pieceRectangles[3].y);
+		game.batch.draw(pieceOneTexture, pieceRectangles[0].x, pieceRectangles[0].y, PIECE_SIZE, PIECE_SIZE);
+		game.batch.draw(pieceTwoTexture, pieceRectangles[1].x, pieceRectangles[1].y, PIECE_SIZE, PIECE_SIZE);
+		game.batch.draw(pieceThreeTexture, pieceRectangles[2].x, pieceRectangles[2].y, PIECE_SIZE, PIECE_SIZE);
+		game.batch.draw(pieceFourTexture, pieceRectangles[3].x, pieceRectangles[3].y, PIECE_SIZE, PIECE_SIZE);
 		game.batch.draw(backTexture, backButton.x, backButton.y);
 
 		// selected text over player's current piece choice
@@ -260,13 +227,7 @@ public class PieceSelectionScreen extends ScreenAdapter
 	public void dispose()
 	{
 		stage.dispose();
-		titleCard.dispose();
-		playTexture.dispose();
-		backTexture.dispose();
-		pieceOneTexture.dispose();
-		pieceTwoTexture.dispose();
-		pieceThreeTexture.dispose();
-		pieceFourTexture.dispose();
+		game.unloadAsset(CandyLandMain.BACKGROUND);
 		shapeRenderer.dispose();
 	}
 
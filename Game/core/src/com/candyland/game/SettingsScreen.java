@@ -29,10 +29,17 @@ import com.badlogic.gdx.utils.viewport.FitViewport;
 
 public class SettingsScreen  extends ScreenAdapter
 {
+	// shown above the difficulty slider, in the order of CandyLandStrategy.DIFFICULTIES
+	private final static String[] DIFFICULTY_DESCRIPTIONS = {
+		"Computer draws a random card",
+		"Computer draws two random cards and chooses the best card",
+		"Computer draws two random cards and plays the game ahead to choose"
+	};
+
 	// buttons and images
 	private Texture backgroundTexture;
-	private Texture titleCard;
-	private Texture backTexture;
+	private TextureRegion titleCard;
+	private TextureRegion backTexture;
 	private Rectangle backButton;
 
 	private OrthographicCamera camera;
@@ -44,6 +51,7 @@ public class SettingsScreen  extends ScreenAdapter
 	private Slider volumeSlider;
 	private Slider musicSlider;
 	private Slider difficultySlider;
+	private Slider playersSlider;
 
 	public SettingsScreen(final CandyLandMain game)
 	{
@@ -71,6 +79,7 @@ public class SettingsScreen  extends ScreenAdapter
 			private boolean isDraggingVolumeSlider = false;
 			private boolean isDraggingMusicSlider = false;
 			private boolean isDraggingDifficultySlider = false;
+			private boolean isDraggingPlayersSlider = false;
 
 			@Override
 			public boolean touchDown(int screenX, int screenY, int pointer, int button)
@@ -112,6 +121,15 @@ public class SettingsScreen  extends ScreenAdapter
 					difficultySlider.setValue(value);
 					return true;
 				}
+				if (touchX >= playersSlider.getX() && touchX <= playersSlider.getX() + playersSlider.getWidth() && touchY >= playersSlider.getY() && touchY <= playersSlider.getY() + playersSlider.getHeight())
+				{
+					// user clicked on the players slider
+					// allow this to set value, not just by dragging
+					isDraggingPlayersSlider = true;
+					float value = calculateSliderValue(playersSlider, screenX);
+					playersSlider.setValue(value);
+					return true;
+				}
 				return false;
 			}
 
@@ -142,6 +160,14 @@ public class SettingsScreen  extends ScreenAdapter
 					difficultySlider.setValue(value);
 					return true;
 				}
+				if (isDraggingPlayersSlider)
+				{
+					// user dragging players slider
+					// set slider location to where player is dragging
+					float value = calculateSliderValue(playersSlider, screenX);
+					playersSlider.setValue(value);
+					return true;
+				}
 				return false;
 			}
 
@@ -164,6 +190,11 @@ public class SettingsScreen  extends ScreenAdapter
 					isDraggingDifficultySlider = false;
 					return true;
 				}
+				if (isDraggingPlayersSlider)
+				{
+					isDraggingPlayersSlider = false;
+					return true;
+				}
 				return false;
 			}
 		});
@@ -195,38 +226,29 @@ public class SettingsScreen  extends ScreenAdapter
 	 */
 	private void createButtons()
 	{
-		backgroundTexture = new Texture(Gdx.files.internal("5939.jpg"));
-		titleCard = new Texture(Gdx.files.internal("candyland_title.png"));
-		backTexture = new Texture(Gdx.files.internal("backButton.png"));
+		backgroundTexture = game.loadAsset(CandyLandMain.BACKGROUND, Texture.class);
+		titleCard = game.atlas.findRegion("candyland_title");
+		backTexture = game.atlas.findRegion("backButton");
 
 		backButton = new Rectangle();
-		backButton.x = (Gdx.graphics.getWidth() - backTexture.getWidth()) / 2;
+		backButton.x = (Gdx.graphics.getWidth() - backTexture.getRegionWidth()) / 2;
 		backButton.y = 200;
-		backButton.width = backTexture.getWidth();
-		backButton.height = backTexture.getHeight() - 20;
+		backButton.width = backTexture.getRegionWidth();
+		backButton.height = backTexture.getRegionHeight() - 20;
 
 		// load preferences
 		Preferences preferences = Gdx.app.getPreferences("candyland-prefs");
 
 		// create slider's skin
 		Skin skin = new Skin();
-		Texture sliderBackground = new Texture(Gdx.files.internal("PT_WHITE.png"));
-		Texture sliderKnob = new Texture(Gdx.files.internal("PT_BLUE.png"));
-		skin.add("slider-background", sliderBackground);
-		skin.add("slider-knob", sliderKnob);
-
-		// set skin filter to be high quality for the bar and knob
-		// this can result in a performance hit
-		sliderBackground.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-		sliderBackground.setWrap(Texture.TextureWrap.ClampToEdge, Texture.TextureWrap.ClampToEdge);
-		sliderBackground.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-		sliderKnob.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-		sliderKnob.setWrap(Texture.TextureWrap.ClampToEdge, Texture.TextureWrap.ClampToEdge);
-		sliderKnob.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-
-		// visual display for slider
-		TextureRegionDrawable backgroundDrawable = new TextureRegionDrawable(new TextureRegion(sliderBackground, 400, 30));
-		TextureRegionDrawable knobDrawable = new TextureRegionDrawable(new TextureRegion(sliderKnob, 30, 30));
+		TextureRegion sliderBackground = new TextureRegion(game.atlas.findRegion("PT_WHITE"), 0, 0, 64, 30);
+		TextureRegion sliderKnob = new TextureRegion(game.atlas.findRegion("PT_BLUE"), 0, 0, 30, 30);
+
+		// visual display for slider, the bar is stretched to its full length
+		// the atlas is packed with linear filtering for a high quality bar and knob
+		TextureRegionDrawable backgroundDrawable = new TextureRegionDrawable(sliderBackground);
+		backgroundDrawable.setMinSize(400, 30);
+		TextureRegionDrawable knobDrawable = new TextureRegionDrawable(sliderKnob);
 
 		// create slider
 		Slider.SliderStyle sliderStyle = new Slider.SliderStyle();
@@ -268,28 +290,35 @@ public class SettingsScreen  extends ScreenAdapter
 		}
 
 		/**
-	 	* Difficulty slider which allows users to choose between normal mode and an "adult version" of the game
+	 	* Difficulty slider which allows users to choose between normal mode, an "adult version" of the game
+		* and computers that look ahead before choosing a card
 		* (Requirement 3.1.0)
 	 	*/
-		difficultySlider = new Slider(0.0f, 1.0f, 1.0f, false, skin);
+		difficultySlider = new Slider(0.0f, CandyLandStrategy.DIFFICULTIES.length - 1, 1.0f, false, skin);
 		difficultySlider.setStyle(sliderStyle);
 		difficultySlider.setSize(325, 50);
 		difficultySlider.setPosition(Gdx.graphics.getWidth() / 2 - difficultySlider.getWidth() / 2, 465);
-		boolean savedDifficulty = preferences.getBoolean("difficulty", false);
 
 		// set knob position depending on saved state
-		// default is false, which is normal difficulty
-		if (savedDifficulty)
-		{
-			// true, extreme difficulty
-			difficultySlider.setValue(1.0f);
-		}
-		else
+		// default is normal difficulty
+		CandyLandStrategy savedDifficulty = GameScreen.getDifficulty(preferences);
+		for (int i = 0; i < CandyLandStrategy.DIFFICULTIES.length; i++)
 		{
-			// false, normal difficulty
-			difficultySlider.setValue(0.0f);
+			if (CandyLandStrategy.DIFFICULTIES[i] == savedDifficulty)
+			{
+				difficultySlider.setValue(i);
+			}
 		}
 
+		/**
+		 * Players slider which allows users to choose how many players, the user and the computers, a new game has
+		 */
+		playersSlider = new Slider(GameScreen.MIN_PLAYERS, GameScreen.MAX_PLAYERS, 1.0f, false, skin);
+		playersSlider.setStyle(sliderStyle);
+		playersSlider.setSize(325, 50);
+		playersSlider.setPosition(Gdx.graphics.getWidth() / 2 - playersSlider.getWidth() / 2, 365);
+		playersSlider.setValue(preferences.getInteger("players", GameScreen.GAME_PIECES));
+
 		// listen for change to volume slider
 		volumeSlider.addListener(new ChangeListener()
 		{
@@ -332,18 +361,23 @@ public class SettingsScreen  extends ScreenAdapter
 			@Override
 			public void changed(ChangeEvent event, Actor actor)
 			{
-				// set difficulty normal or extreme and save the preference
-				float value = difficultySlider.getValue();
-				boolean difficultyState = false;
-				if (value == 1.0)
-				{
-					difficultyState = true;
-				}
-				else
-				{
-					difficultyState = false;
-				}
-				preferences.putBoolean("difficulty", difficultyState);
+				// set the computers' strategy and save the preference,
+				// difficulty stays true whenever computers draw two cards
+				CandyLandStrategy strategy = CandyLandStrategy.DIFFICULTIES[Math.round(difficultySlider.getValue())];
+				preferences.putString("strategy", strategy.getName());
+				preferences.putBoolean("difficulty", strategy.cardsDrawn() > 1);
+				preferences.flush();
+			}
+		});
+
+		// listen for change to players slider
+		playersSlider.addListener(new ChangeListener()
+		{
+			@Override
+			public void changed(ChangeEvent event, Actor actor)
+			{
+				// set the player count of new games and save the preference
+				preferences.putInteger("players", Math.round(playersSlider.getValue()));
 				preferences.flush();
 			}
 		});
@@ -352,6 +386,7 @@ public class SettingsScreen  extends ScreenAdapter
 		stage.addActor(volumeSlider);
 		stage.addActor(musicSlider);
 		stage.addActor(difficultySlider);
+		stage.addActor(playersSlider);
 	}
 
 	/**
@@ -364,8 +399,10 @@ public class SettingsScreen  extends ScreenAdapter
 		camera.update();
 		game.batch.setProjectionMatrix(camera.combined);
 		game.batch.begin();
-		game.batch.draw(titleCard, ((Gdx.graphics.getWidth() - titleCard.getWidth()) / 2), ((Gdx.graphics.getHeight() - titleCard.getHeight())));
-		
+		// images from the texture atlas are drawn before any text
+		game.batch.draw(titleCard, ((Gdx.graphics.getWidth() - titleCard.getRegionWidth()) / 2), ((Gdx.graphics.getHeight() - titleCard.getRegionHeight())));
+		game.batch.draw(backTexture, backButton.x, backButton.y);
+
 		// Volume Slider
 		game.font.setColor(Color.RED);
 		GlyphLayout volumePercentText = new GlyphLayout(game.font, Integer.toString(Math.round(volumeSlider.getPercent() * 100)));
@@ -393,7 +430,7 @@ public class SettingsScreen  extends ScreenAdapter
 
 		// Difficulty Slider
 		game.font.setColor(Color.RED);
-		String difficultyState = difficultySlider.getValue() > 0.0 ? "Computer draws two random cards and chooses the best card" : "Computer draws a random card";
+		String difficultyState = DIFFICULTY_DESCRIPTIONS[Math.round(difficultySlider.getValue())];
 		GlyphLayout currentDifficultyText = new GlyphLayout(game.font, difficultyState);
 		float currentDifficultyTextX = difficultySlider.getX() + difficultySlider.getWidth() / 2 - currentDifficultyText.width / 2 - 2;
 		float currentDifficultyTextY = difficultySlider.getY() + difficultySlider.getHeight() + currentDifficultyText.height - 1;
@@ -402,9 +439,20 @@ public class SettingsScreen  extends ScreenAdapter
 		game.font.draw(game.batch, "Difficulty", difficultySlider.getX() - 215, currentDifficultyTextY - 28);
 		game.font.setColor(Color.GREEN);
 		game.font.draw(game.batch, "Normal", difficultySlider.getX() - 52, currentDifficultyTextY - 28);
-		game.font.draw(game.batch, "Extreme", ((Gdx.graphics.getWidth() - difficultySlider.getWidth()) / 1.2f + 12), currentDifficultyTextY - 28);
+		game.font.draw(game.batch, "Lookahead", ((Gdx.graphics.getWidth() - difficultySlider.getWidth()) / 1.2f + 12), currentDifficultyTextY - 28);
+
+		// Players Slider
+		game.font.setColor(Color.RED);
+		GlyphLayout playersText = new GlyphLayout(game.font, Math.round(playersSlider.getValue()) + " players");
+		float playersTextX = playersSlider.getX() + playersSlider.getWidth() / 2 - playersText.width / 2 - 2;
+		float playersTextY = playersSlider.getY() + playersSlider.getHeight() + playersText.height - 1;
+		game.font.draw(game.batch, playersText, playersTextX, playersTextY);
+		game.font.setColor(Color.BLACK);
+		game.font.draw(game.batch, "Players", playersSlider.getX() - 215, playersTextY - 28);
+		game.font.setColor(Color.GREEN);
+		game.font.draw(game.batch, Integer.toString(GameScreen.MIN_PLAYERS), playersSlider.getX() - 15, playersTextY - 28);
+		game.font.draw(game.batch, Integer.toString(GameScreen.MAX_PLAYERS), ((Gdx.graphics.getWidth() - playersSlider.getWidth()) / 1.2f + 12), playersTextY - 28);
 
-		game.batch.draw(backTexture, backButton.x, backButton.y);
 		game.batch.end();
 		stage.draw();
 
@@ -429,9 +477,7 @@ public class SettingsScreen  extends ScreenAdapter
 	public void dispose()
 	{
 		stage.dispose();
-		backTexture.dispose();
-		backgroundTexture.dispose();
-		titleCard.dispose();
+		game.unloadAsset(CandyLandMain.BACKGROUND);
 	}
 
 	@Override
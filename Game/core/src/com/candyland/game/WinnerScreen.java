@@ -11,6 +11,7 @@ import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
@@ -18,7 +19,7 @@ import com.badlogic.gdx.utils.viewport.FitViewport;
 public class WinnerScreen  extends ScreenAdapter
 {
 	// buttons and images
-	private Texture winnerTexture;
+	private TextureRegion winnerTexture;
 	private Texture gameOverBackgroundTexture;
 
 	private OrthographicCamera camera;
@@ -75,16 +76,16 @@ public class WinnerScreen  extends ScreenAdapter
 	 */
 	private void createButtons()
 	{
-		gameOverBackgroundTexture = new Texture(Gdx.files.internal("5939.jpg"));
+		gameOverBackgroundTexture = game.loadAsset(CandyLandMain.BACKGROUND, Texture.class);
 		if (winner <= 0)
 		{
 			// user won the game
-			winnerTexture = new Texture(Gdx.files.internal("playerWinner.png"));
+			winnerTexture = game.atlas.findRegion("playerWinner");
 		}
 		else
 		{
 			// computer won the game
-			winnerTexture = new Texture(Gdx.files.internal("GameOver.png"));
+			winnerTexture = game.atlas.findRegion("GameOver");
 		}
 	}
 
@@ -99,7 +100,7 @@ public class WinnerScreen  extends ScreenAdapter
 		game.batch.setProjectionMatrix(camera.combined);
 		game.batch.begin();
 		game.batch.draw(gameOverBackgroundTexture, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-		game.batch.draw(winnerTexture, ((Gdx.graphics.getWidth() - winnerTexture.getWidth()) / 2), (531 - winnerTexture.getHeight()));
+		game.batch.draw(winnerTexture, ((Gdx.graphics.getWidth() - winnerTexture.getRegionWidth()) / 2), (531 - winnerTexture.getRegionHeight()));
 		game.batch.end();
 	}
 
@@ -115,8 +116,7 @@ public class WinnerScreen  extends ScreenAdapter
 	public void dispose()
 	{
 		stage.dispose();
-		winnerTexture.dispose();
-		gameOverBackgroundTexture.dispose();
+		game.unloadAsset(CandyLandMain.BACKGROUND);
 	}
 
 	@Override
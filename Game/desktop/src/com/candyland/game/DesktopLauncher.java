@@ -14,6 +14,23 @@ public class DesktopLauncher
 	    config.setResizable(false);
 		config.setTitle("Candy Land");
 		config.setWindowIcon("candyCane.png");
-		new Lwjgl3Application(new CandyLandMain(), config);
+
+		CandyLandMain game = new CandyLandMain();
+		// replay a recorded game instead of showing the main menu:
+		// --replay <file> [turn to start from] [animation speed]
+		// e.g. gradlew desktop:run --args="--replay last_game.rpl 40 2"
+		if (arg.length > 1 && arg[0].equals("--replay"))
+		{
+			game.replayFile = arg[1];
+			if (arg.length > 2)
+			{
+				game.replayTurn = Integer.parseInt(arg[2]);
+			}
+			if (arg.length > 3)
+			{
+				game.replaySpeed = Float.parseFloat(arg[3]);
+			}
+		}
+		new Lwjgl3Application(game, config);
 	}
 }